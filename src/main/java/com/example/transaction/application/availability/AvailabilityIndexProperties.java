@@ -0,0 +1,31 @@
+package com.example.transaction.application.availability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 재고 조회 인덱스 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.availability")
+public class AvailabilityIndexProperties {
+
+  /**
+   * 예상 상품 수 (초기 테이블 크기)
+   */
+  private int expectedProducts = 1_024;
+
+  /**
+   * DB 재고와 다시 맞추는 간격
+   */
+  private Duration reconcileInterval = Duration.ofMinutes(1);
+
+  /**
+   * 재조정 시 한 번에 조회할 상품 수 (키셋 페이지 크기)
+   */
+  private int reconcileBatchSize = 10_000;
+}
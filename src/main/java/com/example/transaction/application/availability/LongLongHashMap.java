@@ -0,0 +1,124 @@
+package com.example.transaction.application.availability;
+
+import java.util.Arrays;
+
+/**
+ * long -> long 오픈 어드레싱 해시 맵 (선형 탐사)
+ * - 키와 값을 기본형 배열에 저장하므로 항목마다 객체(박싱, 엔트리)가 생기지 않아 항목 수가 많아도 GC 부담이 없습니다.
+ *   (적재율 0.5 이하 유지, 슬롯당 16바이트, 1,000만 건 기준 슬롯 2^25개로 약 540MB)
+ * - 키 0 은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다. (상품 ID 는 1 부터 시작)
+ * - 스레드 안전하지 않습니다. 동시 접근 제어는 {@link ProductAvailabilityIndex}가 담당합니다.
+ *   단, 쓰기 도중 읽더라도 무한 루프나 배열 범위 오류가 나지 않도록 탐사 횟수를 테이블 크기로 제한하고,
+ *   키/값 배열과 마스크를 하나의 불변 {@link Table}로 묶어 한 번에 교체하므로 읽는 쪽은 새 키와 이전 값 배열을 섞어 보지 않습니다.
+ */
+final class LongLongHashMap {
+
+  private static final long EMPTY = 0L;
+
+  private final long missingValue;
+  private volatile Table table;
+  private int size;
+
+  LongLongHashMap(int expectedSize, long missingValue) {
+    this.missingValue = missingValue;
+    this.table = new Table(tableSizeFor(expectedSize));
+  }
+
+  /**
+   * 값 조회 (없으면 missingValue)
+   */
+  long get(long key) {
+    // 테이블은 한 번만 읽어 같은 크기의 키/값 배열과 마스크를 사용
+    Table table = this.table;
+    long[] keys = table.keys;
+    int slot = slot(key, table.mask);
+    for (int probes = 0; probes < keys.length; probes++) {
+      long existing = keys[slot];
+      if (existing == key) {
+        return table.values[slot];
+      }
+      if (existing == EMPTY) {
+        return missingValue;
+      }
+      slot = (slot + 1) & table.mask;
+    }
+    return missingValue;
+  }
+
+  void put(long key, long value) {
+    if (key == EMPTY) {
+      throw new IllegalArgumentException("키 0 은 저장할 수 없습니다.");
+    }
+    Table table = this.table;
+    long[] keys = table.keys;
+    int slot = slot(key, table.mask);
+    while (true) {
+      long existing = keys[slot];
+      if (existing == key) {
+        table.values[slot] = value;
+        return;
+      }
+      if (existing == EMPTY) {
+        // 값을 먼저 쓰고 키를 나중에 써서, 키가 보이면 값도 채워진 상태가 되도록 함
+        table.values[slot] = value;
+        keys[slot] = key;
+        if (++size > keys.length >> 1) {
+          rehash(table, keys.length << 1);
+        }
+        return;
+      }
+      slot = (slot + 1) & table.mask;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    Arrays.fill(table.keys, EMPTY);
+    size = 0;
+  }
+
+  private void rehash(Table old, int newCapacity) {
+    Table resized = new Table(newCapacity);
+    for (int i = 0; i < old.keys.length; i++) {
+      long key = old.keys[i];
+      if (key != EMPTY) {
+        int slot = slot(key, resized.mask);
+        while (resized.keys[slot] != EMPTY) {
+          slot = (slot + 1) & resized.mask;
+        }
+        resized.keys[slot] = key;
+        resized.values[slot] = old.values[i];
+      }
+    }
+    // 새 테이블을 완성한 뒤 한 번에 교체 (읽는 쪽은 이전 테이블 또는 완성된 새 테이블만 보게 됨)
+    this.table = resized;
+  }
+
+  private static int slot(long key, int mask) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  /**
+   * 키/값 배열과 마스크 (항상 함께 교체)
+   */
+  private static final class Table {
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+
+    private Table(int capacity) {
+      this.keys = new long[capacity];
+      this.values = new long[capacity];
+      this.mask = capacity - 1;
+    }
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+    return Math.max(capacity, 16);
+  }
+}
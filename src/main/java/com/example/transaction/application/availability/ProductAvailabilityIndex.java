@@ -0,0 +1,241 @@
+package com.example.transaction.application.availability;
+
+import com.example.transaction.application.service.ProductStockChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 상품 재고 조회 인덱스 (productId -> stock_quantity)
+ * - 화면의 재고 표시처럼 대량으로 조회되는 경로를 위해 JPA 엔티티를 거치지 않고 메모리에서 재고를 조회합니다.
+ *   기본형 배열 기반 맵이므로 조회 시 객체가 생기지 않고, 읽기는 StampedLock 낙관적 읽기로 락 없이 수행합니다.
+ *   (쓰기와 겹친 경우에만 읽기 락으로 다시 조회)
+ * - 재고 변경은 커밋 이후 {@link ProductStockChangedEvent}로 반영하고, 이벤트를 발행하지 않는 경로(직접 SQL 등)를 위해
+ *   주기적으로 DB 전체를 키셋 페이지 단위로 다시 읽어 맞춥니다.
+ * - 상품 버전을 함께 저장하여, 순서가 뒤바뀌어 도착한 이벤트나 이벤트보다 먼저 읽은 재조정 페이지가 새 값을 덮어쓰지 않게 합니다.
+ *   재고와 버전은 하나의 long 값(상위 32비트 버전, 하위 32비트 재고)으로 묶어 한 테이블에 저장하므로 조회당 탐사는 한 번입니다.
+ * - 상품은 삭제하지 않으므로(주문 이력이 참조하며 삭제 경로가 없음) 항목을 제거하지 않습니다.
+ *   인덱스 크기는 상품 수에 비례하며 1,000만 건 기준 약 540MB 입니다. ({@link LongLongHashMap} 참고)
+ * - 표시용 값이므로 주문 시 재고 검증을 대신하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProductAvailabilityIndex {
+
+  /**
+   * 인덱스에 없는 상품
+   */
+  public static final int UNKNOWN = -1;
+
+  private static final String RECONCILE_QUERY =
+    "SELECT product_id, stock_quantity, version FROM products WHERE product_id > ? ORDER BY product_id LIMIT ?";
+
+  /**
+   * 인덱스에 없는 상품의 값 (버전은 음수가 아니므로 저장된 값과 겹치지 않음)
+   */
+  private static final long MISSING = -1L;
+
+  private final AvailabilityIndexProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final StampedLock lock = new StampedLock();
+  /**
+   * productId -> (version, stock_quantity)
+   */
+  private final LongLongHashMap stockAndVersionByProduct;
+
+  public ProductAvailabilityIndex(AvailabilityIndexProperties properties, JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.stockAndVersionByProduct = new LongLongHashMap(properties.getExpectedProducts(), MISSING);
+    Gauge.builder("availability.index.size", this, ProductAvailabilityIndex::size)
+      .description("재고 조회 인덱스에 등록된 상품 수")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 재고 조회
+   *
+   * @return 재고 수량, 인덱스에 없는 상품이면 {@link #UNKNOWN}
+   */
+  public int getStock(long productId) {
+    long stamp = lock.tryOptimisticRead();
+    long entry = stockAndVersionByProduct.get(productId);
+    if (lock.validate(stamp)) {
+      return stockOf(entry);
+    }
+    stamp = lock.readLock();
+    try {
+      return stockOf(stockAndVersionByProduct.get(productId));
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * 여러 상품의 재고를 한 번에 조회
+   *
+   * @return productIds 와 같은 순서의 재고 수량 (인덱스에 없는 상품은 {@link #UNKNOWN})
+   */
+  public int[] getStocks(long[] productIds) {
+    int[] stocks = new int[productIds.length];
+    long stamp = lock.tryOptimisticRead();
+    for (int i = 0; i < productIds.length; i++) {
+      stocks[i] = stockOf(stockAndVersionByProduct.get(productIds[i]));
+    }
+    if (lock.validate(stamp)) {
+      return stocks;
+    }
+    stamp = lock.readLock();
+    try {
+      for (int i = 0; i < productIds.length; i++) {
+        stocks[i] = stockOf(stockAndVersionByProduct.get(productIds[i]));
+      }
+      return stocks;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public boolean isAvailable(long productId, int quantity) {
+    return getStock(productId) >= quantity;
+  }
+
+  public int size() {
+    long stamp = lock.tryOptimisticRead();
+    int size = stockAndVersionByProduct.size();
+    if (lock.validate(stamp)) {
+      return size;
+    }
+    stamp = lock.readLock();
+    try {
+      return stockAndVersionByProduct.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStockChanged(ProductStockChangedEvent event) {
+    long stamp = lock.writeLock();
+    try {
+      if (!putIfNewer(event.productId(), event.stockQuantity(), event.version(), false)) {
+        log.debug("[ProductAvailabilityIndex] 지난 버전의 재고 변경 무시: productId={}, version={}",
+          event.productId(), event.version());
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 반영된 버전보다 새로운 값만 저장 (쓰기 락 안에서 호출)
+   *
+   * @param allowSameVersion 같은 버전도 덮어쓸지 여부 (재조정은 DB 값 그대로이므로 허용)
+   * @return 저장 여부
+   */
+  private boolean putIfNewer(long productId, int stockQuantity, int version, boolean allowSameVersion) {
+    long applied = stockAndVersionByProduct.get(productId);
+    if (applied != MISSING) {
+      int appliedVersion = versionOf(applied);
+      if (version < appliedVersion || (version == appliedVersion && !allowSameVersion)) {
+        return false;
+      }
+    }
+    stockAndVersionByProduct.put(productId, pack(version, stockQuantity));
+    return true;
+  }
+
+  private static long pack(int version, int stockQuantity) {
+    return ((long) version << 32) | (stockQuantity & 0xFFFFFFFFL);
+  }
+
+  private static int versionOf(long entry) {
+    return (int) (entry >>> 32);
+  }
+
+  private static int stockOf(long entry) {
+    return entry == MISSING ? UNKNOWN : (int) entry;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    reconcile();
+  }
+
+  /**
+   * DB 재고와 다시 맞춤
+   * - 페이지마다 짧게 쓰기 락을 잡으므로 재조정 중에도 조회가 오래 막히지 않습니다.
+   * - 페이지를 읽은 뒤 반영하기 전에 커밋된 변경은 버전을 비교하여 덮어쓰지 않습니다.
+   */
+  @Scheduled(fixedDelayString = "${transaction.availability.reconcile-interval:PT1M}",
+    initialDelayString = "${transaction.availability.reconcile-interval:PT1M}")
+  public void reconcile() {
+    long startNanos = System.nanoTime();
+    int batchSize = properties.getReconcileBatchSize();
+    Page page = new Page(batchSize);
+    long total = 0L;
+    do {
+      page.count = 0;
+      jdbcTemplate.query(RECONCILE_QUERY, ps -> {
+        ps.setLong(1, page.lastProductId);
+        ps.setInt(2, batchSize);
+      }, rs -> {
+        page.add(rs.getLong(1), rs.getInt(2), rs.getInt(3));
+      });
+      apply(page);
+      total += page.count;
+    } while (page.count == batchSize);
+    log.info("[ProductAvailabilityIndex] 재고 인덱스 재조정: 상품 {}건, {}ms",
+      total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  private void apply(Page page) {
+    if (page.count == 0) {
+      return;
+    }
+    long stamp = lock.writeLock();
+    try {
+      for (int i = 0; i < page.count; i++) {
+        putIfNewer(page.productIds[i], page.stocks[i], page.versions[i], true);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 재조정 페이지 버퍼 (페이지마다 재사용)
+   */
+  private static final class Page {
+    private final long[] productIds;
+    private final int[] stocks;
+    private final int[] versions;
+    private int count;
+    private long lastProductId;
+
+    private Page(int batchSize) {
+      this.productIds = new long[batchSize];
+      this.stocks = new int[batchSize];
+      this.versions = new int[batchSize];
+    }
+
+    private void add(long productId, int stock, int version) {
+      productIds[count] = productId;
+      stocks[count] = stock;
+      versions[count] = version;
+      count++;
+      lastProductId = productId;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.transaction.application.carrier;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 택배사 배송 상태 파일 가져오기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.carrier-import")
+public class CarrierImportProperties {
+
+  /**
+   * 한 트랜잭션에서 반영할 레코드 수 (커밋마다 체크포인트 기록)
+   */
+  private int chunkSize = 5_000;
+
+  /**
+   * UPDATE 한 건의 IN 목록 최대 크기
+   */
+  private int inListSize = 500;
+
+  /**
+   * 한 번에 메모리 매핑할 파일 크기 (바이트)
+   */
+  private int mapWindowBytes = 64 * 1024 * 1024;
+
+  /**
+   * 진행 상황 로그 출력 간격
+   */
+  private Duration progressInterval = Duration.ofSeconds(10);
+}
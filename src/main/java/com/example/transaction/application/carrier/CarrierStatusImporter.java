@@ -0,0 +1,447 @@
+package com.example.transaction.application.carrier;
+
+import com.example.transaction.application.repository.ShipmentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 택배사 배송 상태 파일 가져오기
+ * - 파일 형식: 한 줄에 한 건 "shipmentId,STATUS" (STATUS: SHIPPED | DELIVERED | CANCELLED, ASCII, '\n' 구분)
+ * - 파일은 일정 크기씩 메모리 매핑하여 바이트 단위로 파싱하므로 파일 크기와 관계없이 힙을 거의 사용하지 않습니다.
+ *   파싱 결과는 파일 순서대로 기본형 배열에 모았다가 chunk-size 마다 한 트랜잭션으로 반영합니다.
+ * - 상태 전이 규칙은 {@link com.example.transaction.application.repository.Shipment}와 같으며, 조건부 UPDATE 로 적용합니다.
+ *   SHIPPED: PENDING 인 배송만, DELIVERED: SHIPPED 인 배송만, CANCELLED: 완료(DELIVERED)되거나 이미 취소되지 않은 배송만
+ * - 청크 안에 같은 배송의 레코드가 여러 번 나오면 파일에서 마지막 레코드(택배사의 최신 상태)만 적용합니다.
+ *   마지막 레코드가 DELIVERED 이고 그 앞에 SHIPPED 가 있었으면 PENDING 배송도 SHIPPED 를 거쳐 DELIVERED 로 변경합니다.
+ * - 청크를 커밋할 때마다 처리한 파일 위치를 "{파일명}.checkpoint" 에 기록하고, 다시 실행하면 그 위치부터 이어서 처리합니다.
+ *   커밋 직후 체크포인트 기록 전에 중단되면 마지막 청크가 다시 반영되지만 조건부 UPDATE 이므로 결과는 같습니다.
+ * - 체크포인트에는 위치와 함께 파일 식별 정보(크기, 수정 시각, 앞부분 CRC32)를 기록합니다.
+ *   같은 이름으로 다른 파일이 들어오면 체크포인트를 버리고 처음부터 처리하고,
+ *   기록된 위치가 파일 크기보다 크면(파일이 잘린 경우) 잘못된 위치부터 읽지 않도록 실패합니다.
+ * - 끝까지 처리하면 체크포인트를 삭제합니다.
+ */
+@Slf4j
+@Component
+public class CarrierStatusImporter {
+
+  private static final byte[] SHIPPED = ShipmentStatus.SHIPPED.name().getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] DELIVERED = ShipmentStatus.DELIVERED.name().getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] CANCELLED = ShipmentStatus.CANCELLED.name().getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * 파일 식별에 사용하는 앞부분 크기
+   */
+  private static final int IDENTITY_HEAD_BYTES = 4096;
+
+  private final CarrierImportProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public CarrierStatusImporter(CarrierImportProperties properties, JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 파일 가져오기 (같은 파일의 체크포인트가 있으면 이어서 처리)
+   */
+  public ImportResult importFile(Path file) {
+    Path checkpointFile = checkpointPath(file);
+    long startNanos = System.nanoTime();
+    ImportProgress progress = new ImportProgress(file, startNanos);
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      FileIdentity identity = identify(file, channel);
+      long position = readCheckpoint(file, checkpointFile, identity);
+      if (position > 0) {
+        log.info("[CarrierStatusImporter] 체크포인트부터 이어서 처리: {} ({} / {} bytes)", file, position, size);
+      }
+      Chunk chunk = new Chunk(properties.getChunkSize());
+
+      while (position < size) {
+        long windowSize = Math.min(properties.getMapWindowBytes(), size - position);
+        boolean lastWindow = position + windowSize == size;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+
+        int lineStart = 0;
+        int limit = buffer.limit();
+        for (int i = 0; i < limit; i++) {
+          if (buffer.get(i) == '\n') {
+            parseLine(buffer, lineStart, i, chunk, progress);
+            lineStart = i + 1;
+            if (chunk.isFull()) {
+              flush(chunk, position + lineStart, checkpointFile, identity, progress);
+            }
+          }
+        }
+        if (lastWindow && lineStart < limit) {
+          // 마지막 줄에 개행이 없는 경우
+          parseLine(buffer, lineStart, limit, chunk, progress);
+          lineStart = limit;
+        }
+        if (lineStart == 0) {
+          throw new IllegalStateException("한 줄이 매핑 크기(" + windowSize + " bytes)보다 깁니다: " + file);
+        }
+        position += lineStart;
+      }
+      flush(chunk, position, checkpointFile, identity, progress);
+      Files.deleteIfExists(checkpointFile);
+    } catch (IOException e) {
+      throw new UncheckedIOException("배송 상태 파일을 읽을 수 없습니다: " + file, e);
+    }
+
+    ImportResult result = progress.toResult(System.nanoTime() - startNanos);
+    log.info("[CarrierStatusImporter] 가져오기 완료: {} - 레코드 {}건, 변경 {}건, 건너뜀 {}건, {}ms, {} rows/sec",
+      file, result.records(), result.updated(), result.skipped(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+    return result;
+  }
+
+  private void parseLine(MappedByteBuffer buffer, int start, int end, Chunk chunk, ImportProgress progress) {
+    if (end > start && buffer.get(end - 1) == '\r') {
+      end--;
+    }
+    if (end == start) {
+      return;
+    }
+    long shipmentId = 0;
+    int i = start;
+    for (; i < end; i++) {
+      byte b = buffer.get(i);
+      if (b == ',') {
+        break;
+      }
+      if (b < '0' || b > '9') {
+        progress.skipped++;
+        return;
+      }
+      shipmentId = shipmentId * 10 + (b - '0');
+    }
+    if (i == start || i == end) {
+      progress.skipped++;
+      return;
+    }
+    int statusStart = i + 1;
+    int statusLength = end - statusStart;
+    if (matches(buffer, statusStart, statusLength, SHIPPED)) {
+      chunk.add(shipmentId, ShipmentStatus.SHIPPED);
+    } else if (matches(buffer, statusStart, statusLength, DELIVERED)) {
+      chunk.add(shipmentId, ShipmentStatus.DELIVERED);
+    } else if (matches(buffer, statusStart, statusLength, CANCELLED)) {
+      chunk.add(shipmentId, ShipmentStatus.CANCELLED);
+    } else {
+      progress.skipped++;
+      return;
+    }
+    progress.records++;
+  }
+
+  private static boolean matches(MappedByteBuffer buffer, int start, int length, byte[] expected) {
+    if (length != expected.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (buffer.get(start + i) != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 청크를 한 트랜잭션으로 반영하고 커밋 후 체크포인트 기록
+   * - 배송마다 마지막 레코드로 합친 뒤 상태별 UPDATE 로 반영합니다. 배송마다 한 상태로 합쳐지므로 UPDATE 순서는 결과에 영향이 없고,
+   *   SHIPPED 를 거치는 DELIVERED 만 SHIPPED -> DELIVERED 순서로 두 번 적용됩니다.
+   */
+  private void flush(Chunk chunk, long checkpointOffset, Path checkpointFile, FileIdentity identity,
+                     ImportProgress progress) {
+    if (!chunk.isEmpty()) {
+      Integer updated = transactionTemplate.execute(status -> {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        chunk.collapse();
+        int count = 0;
+        count += update(chunk.shipped,
+          "UPDATE shipments SET status = 'SHIPPED', shipment_date = ? WHERE status = 'PENDING' AND shipment_id IN ", now);
+        count += update(chunk.delivered,
+          "UPDATE shipments SET status = 'DELIVERED' WHERE status = 'SHIPPED' AND shipment_id IN ", null);
+        count += update(chunk.cancelled,
+          "UPDATE shipments SET status = 'CANCELLED' WHERE status NOT IN ('DELIVERED', 'CANCELLED') AND shipment_id IN ", null);
+        return count;
+      });
+      progress.updated += updated == null ? 0 : updated;
+      chunk.clear();
+    }
+    writeCheckpoint(checkpointFile, checkpointOffset, identity);
+    progress.report(checkpointOffset);
+  }
+
+  private int update(LongList ids, String sqlPrefix, Timestamp shippedAt) {
+    int updated = 0;
+    int inListSize = properties.getInListSize();
+    for (int from = 0; from < ids.size; from += inListSize) {
+      int to = Math.min(ids.size, from + inListSize);
+      int start = from;
+      String sql = sqlPrefix + placeholders(to - from);
+      updated += jdbcTemplate.update(sql, ps -> {
+        int index = 1;
+        if (shippedAt != null) {
+          ps.setTimestamp(index++, shippedAt);
+        }
+        for (int i = start; i < to; i++) {
+          ps.setLong(index++, ids.values[i]);
+        }
+      });
+    }
+    return updated;
+  }
+
+  private static String placeholders(int count) {
+    StringBuilder builder = new StringBuilder(count * 2 + 2).append('(');
+    for (int i = 0; i < count; i++) {
+      builder.append(i == 0 ? "?" : ",?");
+    }
+    return builder.append(')').toString();
+  }
+
+  static Path checkpointPath(Path file) {
+    return file.resolveSibling(file.getFileName() + ".checkpoint");
+  }
+
+  static FileIdentity identify(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return identify(file, channel);
+    }
+  }
+
+  private static FileIdentity identify(Path file, FileChannel channel) throws IOException {
+    long size = channel.size();
+    ByteBuffer head = ByteBuffer.allocate((int) Math.min(size, IDENTITY_HEAD_BYTES));
+    while (head.hasRemaining() && channel.read(head, head.position()) >= 0) {
+      // 앞부분을 모두 읽을 때까지 반복
+    }
+    head.flip();
+    CRC32 crc = new CRC32();
+    crc.update(head);
+    return new FileIdentity(size, Files.getLastModifiedTime(file).toMillis(), crc.getValue());
+  }
+
+  /**
+   * 체크포인트 위치 조회
+   * - 체크포인트가 없거나 다른 파일의 체크포인트이면 처음부터 처리합니다.
+   * - 기록된 위치가 파일 크기보다 크면 파일이 잘린 것이므로 실패합니다.
+   */
+  private static long readCheckpoint(Path file, Path checkpointFile, FileIdentity identity) throws IOException {
+    if (!Files.exists(checkpointFile)) {
+      return 0L;
+    }
+    String[] fields = Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim().split(",");
+    if (fields.length != 4) {
+      throw new IllegalStateException("체크포인트 형식이 올바르지 않습니다: " + checkpointFile);
+    }
+    long offset = Long.parseLong(fields[0]);
+    if (offset > identity.size()) {
+      throw new IllegalStateException("체크포인트 위치(" + offset + " bytes)가 파일 크기(" + identity.size()
+        + " bytes)보다 큽니다. 파일이 잘렸는지 확인하고 체크포인트를 삭제한 뒤 다시 실행하세요: " + checkpointFile);
+    }
+    FileIdentity recorded = new FileIdentity(Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+    if (!recorded.equals(identity)) {
+      log.warn("[CarrierStatusImporter] 체크포인트 기록 후 파일이 바뀌어 처음부터 다시 처리: {} (기록: {}, 현재: {})",
+        file, recorded, identity);
+      return 0L;
+    }
+    return offset;
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 원자적으로 교체하여 중단되더라도 체크포인트가 깨지지 않도록 함
+   */
+  static void writeCheckpoint(Path checkpointFile, long offset, FileIdentity identity) {
+    Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+    String line = offset + "," + identity.size() + "," + identity.lastModifiedMillis() + "," + identity.headCrc();
+    try {
+      Files.writeString(temp, line, StandardCharsets.US_ASCII);
+      Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("체크포인트를 기록할 수 없습니다: " + checkpointFile, e);
+    }
+  }
+
+  /**
+   * 체크포인트가 가리키는 파일 식별 정보
+   *
+   * @param size               파일 크기
+   * @param lastModifiedMillis 수정 시각
+   * @param headCrc            앞부분(최대 4KB) CRC32
+   */
+  record FileIdentity(long size, long lastModifiedMillis, long headCrc) {
+  }
+
+  /**
+   * 파일 순서대로 모은 레코드와 배송별로 합친 상태별 배송 ID (청크마다 재사용)
+   */
+  private static final class Chunk {
+    private final long[] ids;
+    private final ShipmentStatus[] statuses;
+    private int size;
+    private final LongList shipped;
+    private final LongList delivered;
+    private final LongList cancelled;
+    /**
+     * 배송별 마지막 레코드 위치
+     */
+    private final Map<Long, Integer> lastIndex;
+    /**
+     * 청크 안에 SHIPPED 레코드가 있었던 배송
+     */
+    private final Set<Long> shippedIds;
+
+    private Chunk(int capacity) {
+      this.ids = new long[capacity];
+      this.statuses = new ShipmentStatus[capacity];
+      this.shipped = new LongList(capacity);
+      this.delivered = new LongList(capacity);
+      this.cancelled = new LongList(capacity);
+      this.lastIndex = new HashMap<>(capacity * 2);
+      this.shippedIds = new HashSet<>(capacity * 2);
+    }
+
+    private void add(long shipmentId, ShipmentStatus status) {
+      ids[size] = shipmentId;
+      statuses[size] = status;
+      size++;
+    }
+
+    /**
+     * 배송마다 파일에서 마지막 레코드의 상태로 합쳐 상태별 목록을 만듦
+     */
+    private void collapse() {
+      for (int i = 0; i < size; i++) {
+        lastIndex.put(ids[i], i);
+        if (statuses[i] == ShipmentStatus.SHIPPED) {
+          shippedIds.add(ids[i]);
+        }
+      }
+      for (int i = 0; i < size; i++) {
+        long shipmentId = ids[i];
+        if (lastIndex.get(shipmentId) != i) {
+          continue;
+        }
+        switch (statuses[i]) {
+          case SHIPPED -> shipped.add(shipmentId);
+          case DELIVERED -> {
+            if (shippedIds.contains(shipmentId)) {
+              shipped.add(shipmentId);
+            }
+            delivered.add(shipmentId);
+          }
+          case CANCELLED -> cancelled.add(shipmentId);
+          default -> throw new IllegalArgumentException("가져올 수 없는 배송 상태입니다: " + statuses[i]);
+        }
+      }
+    }
+
+    private boolean isFull() {
+      return size >= ids.length;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private void clear() {
+      size = 0;
+      shipped.size = 0;
+      delivered.size = 0;
+      cancelled.size = 0;
+      lastIndex.clear();
+      shippedIds.clear();
+    }
+  }
+
+  private static final class LongList {
+    private final long[] values;
+    private int size;
+
+    private LongList(int capacity) {
+      this.values = new long[capacity];
+    }
+
+    private void add(long value) {
+      values[size++] = value;
+    }
+  }
+
+  private final class ImportProgress {
+    private final Path file;
+    private final long startNanos;
+    private final long intervalNanos = properties.getProgressInterval().toNanos();
+    private long lastReportNanos;
+    private long records;
+    private long updated;
+    private long skipped;
+
+    private ImportProgress(Path file, long startNanos) {
+      this.file = file;
+      this.startNanos = startNanos;
+      this.lastReportNanos = startNanos;
+    }
+
+    private void report(long offset) {
+      long now = System.nanoTime();
+      if (now - lastReportNanos < intervalNanos) {
+        return;
+      }
+      lastReportNanos = now;
+      double seconds = (now - startNanos) / 1_000_000_000.0;
+      log.info("[CarrierStatusImporter] 진행 중: {} - 위치 {} bytes, 레코드 {}건, 변경 {}건, {} rows/sec",
+        file, offset, records, updated, Math.round(records / seconds));
+    }
+
+    private ImportResult toResult(long elapsedNanos) {
+      return new ImportResult(records, updated, skipped, elapsedNanos);
+    }
+  }
+
+  /**
+   * 가져오기 결과 (체크포인트부터 이어서 처리한 경우 이번 실행분만 집계)
+   *
+   * @param records      반영 대상 레코드 수
+   * @param updated      실제로 상태가 바뀐 배송 수
+   * @param skipped      형식이 잘못되어 건너뛴 줄 수
+   * @param elapsedNanos 소요 시간
+   */
+  public record ImportResult(long records, long updated, long skipped, long elapsedNanos) {
+
+    public long elapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public double rowsPerSecond() {
+      return elapsedNanos == 0 ? 0 : records / (elapsedNanos / 1_000_000_000.0);
+    }
+  }
+}
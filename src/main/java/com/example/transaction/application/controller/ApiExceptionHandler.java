@@ -0,0 +1,77 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.exception.ConcurrencyLimitExceededException;
+import com.example.transaction.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * API 예외 응답 변환
+ * - 오케스트레이션은 단계별 예외를 RuntimeException 으로 감싸 던지므로, 원인 체인에서 도메인 예외를 찾아 상태 코드를 결정합니다.
+ *   (ResourceNotFoundException: 404, IllegalStateException: 409, IllegalArgumentException: 400)
+ * - 읽을 수 없는 요청 본문(잘못된 JSON 등)과 형식이 맞지 않는 경로/요청 파라미터는 400 으로 응답합니다.
+ *   (RuntimeException 처리보다 먼저 매칭되도록 별도로 처리)
+ * - 동시 처리 한도 초과는 503 으로 응답합니다.
+ */
+@Slf4j
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException e) {
+    String message = e.getBindingResult().getFieldErrors().stream()
+      .map(error -> error.getField() + ": " + error.getDefaultMessage())
+      .findFirst()
+      .orElse("요청 값이 올바르지 않습니다.");
+    return toResponse(HttpStatus.BAD_REQUEST, message);
+  }
+
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException e) {
+    log.debug("[ApiExceptionHandler] 요청 본문을 읽을 수 없음: {}", e.getMessage());
+    return toResponse(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다.");
+  }
+
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+    return toResponse(HttpStatus.BAD_REQUEST, e.getName() + ": 형식이 올바르지 않습니다.");
+  }
+
+  /**
+   * 동시 처리 한도 초과: 클라이언트가 잠시 후 재시도하도록 503 + Retry-After
+   */
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrencyLimit(ConcurrencyLimitExceededException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "1")
+      .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.name(), e.getMessage()));
+  }
+
+  @ExceptionHandler(RuntimeException.class)
+  public ResponseEntity<ErrorResponse> handleRuntime(RuntimeException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ResourceNotFoundException) {
+        return toResponse(HttpStatus.NOT_FOUND, cause.getMessage());
+      }
+      if (cause instanceof IllegalStateException) {
+        return toResponse(HttpStatus.CONFLICT, cause.getMessage());
+      }
+      if (cause instanceof IllegalArgumentException) {
+        return toResponse(HttpStatus.BAD_REQUEST, cause.getMessage());
+      }
+    }
+    log.error("[ApiExceptionHandler] 처리되지 않은 예외", e);
+    return toResponse(HttpStatus.INTERNAL_SERVER_ERROR, "요청을 처리하지 못했습니다.");
+  }
+
+  private static ResponseEntity<ErrorResponse> toResponse(HttpStatus status, String message) {
+    return ResponseEntity.status(status).body(new ErrorResponse(status.name(), message));
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.availability.ProductAvailabilityIndex;
+
+public record AvailabilityResponse(
+  long productId,
+  Integer stockQuantity,
+  boolean available
+) {
+
+  public static AvailabilityResponse of(long productId, int stockQuantity) {
+    if (stockQuantity == ProductAvailabilityIndex.UNKNOWN) {
+      return new AvailabilityResponse(productId, null, false);
+    }
+    return new AvailabilityResponse(productId, stockQuantity, stockQuantity > 0);
+  }
+}
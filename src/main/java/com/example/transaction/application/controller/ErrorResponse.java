@@ -0,0 +1,10 @@
+package com.example.transaction.application.controller;
+
+/**
+ * API 오류 응답
+ *
+ * @param code    오류 코드 (HTTP 상태 이름)
+ * @param message 오류 메시지
+ */
+public record ErrorResponse(String code, String message) {
+}
@@ -0,0 +1,96 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderFulfillmentView;
+import com.example.transaction.application.repository.OrderStatus;
+import com.example.transaction.application.service.OrderPessimisticLockService;
+import com.example.transaction.application.service.OrderSagaOrchestrator;
+import com.example.transaction.application.service.PaymentService;
+import com.example.transaction.application.service.ShipmentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 주문 API
+ * - 요청 스레드는 가상 스레드(spring.threads.virtual.enabled)로 실행되므로 락 대기 중에도 플랫폼 스레드를 점유하지 않습니다.
+ * - 동시에 DB 작업을 수행할 수 있는 요청 수는 커넥션 풀 크기로 제한됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/orders")
+public class OrderController {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final OrderSagaOrchestrator orderSagaOrchestrator;
+  private final OrderPessimisticLockService orderService;
+  private final PaymentService paymentService;
+  private final ShipmentService shipmentService;
+
+  /**
+   * 주문 생성 (주문 - 결제 - 배송 오케스트레이션 실행)
+   */
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  public OrderResponse createOrder(@Valid @RequestBody OrderCreateRequest request) {
+    Order order = orderSagaOrchestrator.handleOrderSaga(
+      request.productId(), request.quantity(), request.paymentAmount(), request.paymentMethod());
+    return OrderResponse.from(order);
+  }
+
+  /**
+   * 상태별 주문 목록 (키셋 페이지네이션, 페이지 크기는 최대 MAX_PAGE_SIZE)
+   * - 다음 페이지는 응답의 마지막 orderId 를 afterOrderId 로 넘겨 조회합니다.
+   */
+  @GetMapping
+  public List<OrderResponse> getOrders(@RequestParam OrderStatus status,
+                                       @RequestParam(required = false) Long afterOrderId,
+                                       @RequestParam(defaultValue = "20") int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    return orderService.getOrdersByStatus(status, afterOrderId, pageSize).stream()
+      .map(OrderResponse::from)
+      .toList();
+  }
+
+  @GetMapping("/{orderId}")
+  public OrderResponse getOrder(@PathVariable Long orderId) {
+    return OrderResponse.from(orderService.getOrderById(orderId));
+  }
+
+  /**
+   * 주문 진행 상태 (주문 + 결제 + 배송 상태, 한 번의 조인 쿼리)
+   */
+  @GetMapping("/{orderId}/status")
+  public OrderFulfillmentView getOrderStatus(@PathVariable Long orderId) {
+    return orderService.getOrderFulfillment(orderId);
+  }
+
+  @GetMapping("/{orderId}/payment")
+  public PaymentResponse getPayment(@PathVariable Long orderId) {
+    return PaymentResponse.from(paymentService.getPaymentByOrderId(orderId));
+  }
+
+  @GetMapping("/{orderId}/shipment")
+  public ShipmentResponse getShipment(@PathVariable Long orderId) {
+    return ShipmentResponse.from(shipmentService.getShipmentByOrderId(orderId));
+  }
+
+  /**
+   * 주문 취소 (결제 대기 중인 주문만 가능, 재고 복원)
+   */
+  @PostMapping("/{orderId}/cancel")
+  public OrderResponse cancelOrder(@PathVariable Long orderId) {
+    return OrderResponse.from(orderService.cancelOrder(orderId));
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.transaction.application.controller;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 생성 요청
+ */
+public record OrderCreateRequest(
+  @NotNull Long productId,
+  @Positive int quantity,
+  @NotNull @Positive BigDecimal paymentAmount,
+  @NotBlank String paymentMethod
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderResponse(
+  Long orderId,
+  Long productId,
+  OrderStatus status,
+  int quantity,
+  BigDecimal totalAmount,
+  LocalDateTime orderDate
+) {
+
+  public static OrderResponse from(Order order) {
+    return new OrderResponse(order.getOrderId(), order.getProductId(), order.getStatus(),
+      order.getQuantity(), order.getTotalAmount(), order.getOrderDate());
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.repository.Payment;
+import com.example.transaction.application.repository.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PaymentResponse(
+  Long paymentId,
+  Long orderId,
+  PaymentStatus status,
+  BigDecimal paymentAmount,
+  String paymentMethod,
+  LocalDateTime paymentDate
+) {
+
+  public static PaymentResponse from(Payment payment) {
+    return new PaymentResponse(payment.getPaymentId(), payment.getOrderId(), payment.getStatus(),
+      payment.getPaymentAmount(), payment.getPaymentMethod(), payment.getPaymentDate());
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.availability.ProductAvailabilityIndex;
+import com.example.transaction.application.repository.ProductAvailability;
+import com.example.transaction.application.repository.ProductSalesBucket;
+import com.example.transaction.application.service.ProductCatalogService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 카탈로그 API (2차 캐시 사용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductController {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private static final int MAX_AVAILABILITY_IDS = 1_000;
+
+  private final ProductCatalogService productCatalogService;
+  private final ProductAvailabilityIndex productAvailabilityIndex;
+
+  @GetMapping("/{productId}")
+  public ProductResponse getProduct(@PathVariable Long productId) {
+    return ProductResponse.from(productCatalogService.getProduct(productId));
+  }
+
+  /**
+   * 상품의 시간 구간별 판매 요약 (판매 대시보드, [from, to) 최대 31일)
+   * - 판매가 없는 구간은 결과에서 빠집니다.
+   */
+  @GetMapping("/{productId}/sales")
+  public List<ProductSalesBucket> getSales(@PathVariable Long productId,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+    return productCatalogService.getSales(productId, from, to);
+  }
+
+  /**
+   * 상품 목록 (페이지 크기는 최대 MAX_PAGE_SIZE)
+   */
+  @GetMapping
+  public List<ProductResponse> getCatalog(@RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    return productCatalogService.getCatalog(Math.max(page, 0), pageSize).map(ProductResponse::from).getContent();
+  }
+
+  /**
+   * 여러 상품의 가격/재고 조회 (DB 기준 값, 상품마다 조회하지 않고 IN 쿼리로 한 번에 조회)
+   * - 존재하지 않는 상품은 결과에서 빠집니다.
+   */
+  @PostMapping("/lookup")
+  public List<ProductAvailability> lookup(@Valid @RequestBody ProductLookupRequest request) {
+    return productCatalogService.getAvailability(request.productIds());
+  }
+
+  /**
+   * 여러 상품의 재고 조회 (재고 조회 인덱스 사용, DB 접근 없음)
+   * - 인덱스에 없는 상품은 stockQuantity 가 null 입니다.
+   */
+  @GetMapping("/availability")
+  public List<AvailabilityResponse> getAvailability(@RequestParam long[] productIds) {
+    if (productIds.length > MAX_AVAILABILITY_IDS) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 상품 수는 " + MAX_AVAILABILITY_IDS + "개 이하입니다.");
+    }
+    int[] stocks = productAvailabilityIndex.getStocks(productIds);
+    List<AvailabilityResponse> responses = new ArrayList<>(productIds.length);
+    for (int i = 0; i < productIds.length; i++) {
+      responses.add(AvailabilityResponse.of(productIds[i], stocks[i]));
+    }
+    return responses;
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.transaction.application.controller;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 여러 상품 가격/재고 조회 요청 (장바구니 검증 등)
+ */
+public record ProductLookupRequest(
+  @NotEmpty @Size(max = 1000) List<@NotNull Long> productIds
+) {
+}
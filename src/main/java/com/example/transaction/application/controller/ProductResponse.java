@@ -0,0 +1,19 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.repository.Product;
+
+import java.math.BigDecimal;
+
+public record ProductResponse(
+  Long productId,
+  String productName,
+  BigDecimal price,
+  int stockQuantity,
+  String productDescription
+) {
+
+  public static ProductResponse from(Product product) {
+    return new ProductResponse(product.getProductId(), product.getProductName(), product.getPrice(),
+      product.getStockQuantity(), product.getProductDescription());
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.application.repository.ShipmentStatus;
+
+import java.time.LocalDateTime;
+
+public record ShipmentResponse(
+  Long shipmentId,
+  Long orderId,
+  ShipmentStatus status,
+  LocalDateTime shipmentDate
+) {
+
+  public static ShipmentResponse from(Shipment shipment) {
+    return new ShipmentResponse(shipment.getShipmentId(), shipment.getOrderId(),
+      shipment.getStatus(), shipment.getShipmentDate());
+  }
+}
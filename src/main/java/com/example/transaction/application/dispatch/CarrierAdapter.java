@@ -0,0 +1,23 @@
+package com.example.transaction.application.dispatch;
+
+import com.example.transaction.application.repository.Shipment;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 택배사 연동 어댑터
+ * - 실제 택배사 연동 구현을 @Primary 빈으로 등록하면 기본 스텁({@link LocalStubCarrierAdapter}) 대신 사용됩니다.
+ * - 트랜잭션 밖에서 호출되지만 호출이 끝날 때까지 배송이 점유되므로 점유 시간(claim-timeout)보다 짧은 타임아웃으로 구현해야 합니다.
+ * - 결과를 기록하기 전에 워커가 중단되면 같은 배송이 다시 전달될 수 있으므로 배송 ID 기준으로 멱등하게 처리해야 합니다.
+ */
+public interface CarrierAdapter {
+
+  /**
+   * 배송 발송 요청
+   *
+   * @param shipments 발송할 배송 목록
+   * @return 택배사가 접수한 배송 ID (접수되지 않은 배송은 재시도 대기 후 다시 시도하고, 최대 시도 횟수를 넘으면 FAILED)
+   */
+  Set<Long> dispatch(List<Shipment> shipments);
+}
@@ -0,0 +1,23 @@
+package com.example.transaction.application.dispatch;
+
+import com.example.transaction.application.repository.Shipment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 개발/테스트용 택배사 스텁 (모든 배송을 즉시 접수)
+ */
+@Slf4j
+@Component
+public class LocalStubCarrierAdapter implements CarrierAdapter {
+
+  @Override
+  public Set<Long> dispatch(List<Shipment> shipments) {
+    log.debug("[LocalStubCarrierAdapter] 배송 접수: {}건", shipments.size());
+    return shipments.stream().map(Shipment::getShipmentId).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.transaction.application.dispatch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 배송 발송 워커 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.shipment-dispatch")
+public class ShipmentDispatchProperties {
+
+  /**
+   * 워커 활성화 여부 (true: 주문 처리 흐름에서 배송 시작을 생략하고 워커가 비동기로 처리)
+   */
+  private boolean enabled = false;
+
+  /**
+   * 노드당 워커 스레드 수
+   */
+  private int workerCount = 4;
+
+  /**
+   * 한 트랜잭션에서 가져올 최대 배송 수
+   */
+  private int batchSize = 50;
+
+  /**
+   * 처리할 배송이 없을 때 다시 조회하기까지 대기 시간
+   */
+  private Duration idleInterval = Duration.ofSeconds(1);
+
+  /**
+   * 가져간 배송의 점유 시간 (택배사 호출 결과를 기록하지 못하고 이 시간이 지나면 다른 워커가 다시 가져감)
+   */
+  private Duration claimTimeout = Duration.ofMinutes(1);
+
+  /**
+   * 배송당 최대 발송 시도 횟수 (모두 거절되면 FAILED)
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * 첫 재시도 대기 시간 (시도마다 두 배씩 증가)
+   */
+  private Duration retryBackoff = Duration.ofSeconds(30);
+
+  /**
+   * 재시도 대기 시간 상한
+   */
+  private Duration maxRetryBackoff = Duration.ofMinutes(10);
+}
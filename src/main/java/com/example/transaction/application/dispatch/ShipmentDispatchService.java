@@ -0,0 +1,120 @@
+package com.example.transaction.application.dispatch;
+
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.application.repository.ShipmentRepository;
+import com.example.transaction.application.repository.ShipmentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class ShipmentDispatchService {
+
+  private final ShipmentRepository shipmentRepository;
+  private final CarrierAdapter carrierAdapter;
+  private final ShipmentDispatchProperties properties;
+  private final TransactionTemplate transactionTemplate;
+
+  public ShipmentDispatchService(ShipmentRepository shipmentRepository, CarrierAdapter carrierAdapter,
+                                 ShipmentDispatchProperties properties, PlatformTransactionManager transactionManager) {
+    this.shipmentRepository = shipmentRepository;
+    this.carrierAdapter = carrierAdapter;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 발송 시각이 된 PENDING 배송 한 배치를 택배사에 발송하고 결과를 기록
+   * 1. 짧은 트랜잭션에서 FOR UPDATE SKIP LOCKED 로 가져와 점유 표시 후 커밋 (여러 워커/노드가 같은 배송을 중복 발송하지 않음)
+   * 2. 트랜잭션 밖에서 택배사 호출 (행 락을 잡은 채 외부 응답을 기다리지 않음)
+   * 3. 짧은 트랜잭션에서 접수된 배송은 한 번의 UPDATE 로 SHIPPED, 거절된 배송은 재시도 시각을 미루거나 FAILED 처리
+   *
+   * @return 처리 결과
+   */
+  public DispatchBatch dispatchBatch(int batchSize) {
+    List<Shipment> claimed = claim(batchSize);
+    if (claimed.isEmpty()) {
+      return new DispatchBatch(0, 0, 0, 0);
+    }
+    Set<Long> accepted;
+    try {
+      accepted = carrierAdapter.dispatch(claimed);
+    } catch (RuntimeException e) {
+      // 택배사 호출 실패는 모두 거절된 것으로 보고 재시도 대기
+      log.warn("[ShipmentDispatchService] 택배사 호출 실패: {}건을 재시도 대기로 돌립니다", claimed.size(), e);
+      accepted = Set.of();
+    }
+    DispatchBatch batch = complete(claimed, accepted);
+    log.info("[ShipmentDispatchService] 배송 발송: {}건 중 접수 {}건, 재시도 대기 {}건, 실패 {}건",
+      batch.claimed(), batch.shipped(), batch.retried(), batch.failed());
+    return batch;
+  }
+
+  private List<Shipment> claim(int batchSize) {
+    return transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      List<Shipment> due = shipmentRepository.findDueShipmentsForUpdate(now, batchSize);
+      if (!due.isEmpty()) {
+        shipmentRepository.markClaimed(due.stream().map(Shipment::getShipmentId).toList(),
+          now.plus(properties.getClaimTimeout()));
+      }
+      return due;
+    });
+  }
+
+  private DispatchBatch complete(List<Shipment> claimed, Set<Long> accepted) {
+    return transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      int shipped = accepted.isEmpty() ? 0 : shipmentRepository.markShipped(accepted, now);
+      List<Long> rejectedIds = claimed.stream()
+        .map(Shipment::getShipmentId)
+        .filter(shipmentId -> !accepted.contains(shipmentId))
+        .toList();
+      int retried = 0;
+      int failed = 0;
+      for (Shipment shipment : shipmentRepository.findAllById(rejectedIds)) {
+        shipment.rejectDispatch(properties.getMaxAttempts(), now.plus(retryBackoff(shipment.getAttemptCount())));
+        if (shipment.getStatus() == ShipmentStatus.FAILED) {
+          failed++;
+          log.warn("[ShipmentDispatchService] 최대 시도 횟수 초과로 발송 실패: shipmentId={}, 시도={}",
+            shipment.getShipmentId(), shipment.getAttemptCount());
+        } else if (shipment.getStatus() == ShipmentStatus.PENDING) {
+          retried++;
+        }
+      }
+      return new DispatchBatch(claimed.size(), shipped, retried, failed);
+    });
+  }
+
+  /**
+   * 재시도 대기 시간 (retryBackoff * 2^(시도 횟수 - 1), maxRetryBackoff 상한)
+   */
+  Duration retryBackoff(int attemptCount) {
+    Duration max = properties.getMaxRetryBackoff();
+    Duration backoff = properties.getRetryBackoff();
+    for (int i = 1; i < attemptCount && backoff.compareTo(max) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(max) < 0 ? backoff : max;
+  }
+
+  /**
+   * 배치 처리 결과
+   *
+   * @param claimed 가져온 배송 수
+   * @param shipped SHIPPED 로 변경한 배송 수
+   * @param retried 접수되지 않아 재시도 대기로 돌린 배송 수
+   * @param failed  최대 시도 횟수를 넘어 FAILED 로 변경한 배송 수
+   */
+  public record DispatchBatch(int claimed, int shipped, int retried, int failed) {
+  }
+}
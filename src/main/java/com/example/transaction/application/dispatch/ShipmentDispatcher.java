@@ -0,0 +1,106 @@
+package com.example.transaction.application.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배송 발송 워커 풀
+ * - 워커마다 배치를 가져와 처리하고, 처리할 배송이 없으면 idle-interval 만큼 쉬었다가 다시 조회합니다.
+ * - 배송 행은 SKIP LOCKED 로 나누어 가지므로 워커 수와 노드 수를 늘리면 처리량이 함께 늘어납니다.
+ * - 메트릭: shipment.dispatched (SHIPPED 로 변경한 배송 수), shipment.dispatch.failed (최대 시도 횟수를 넘어 FAILED 로 변경한 배송 수)
+ */
+@Slf4j
+@Component
+public class ShipmentDispatcher implements SmartLifecycle {
+
+  private final ShipmentDispatchProperties properties;
+  private final ShipmentDispatchService dispatchService;
+  private final Counter dispatched;
+  private final Counter failed;
+  private final List<Thread> workers = new ArrayList<>();
+  private volatile boolean running;
+
+  public ShipmentDispatcher(ShipmentDispatchProperties properties, ShipmentDispatchService dispatchService,
+                            MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.dispatchService = dispatchService;
+    this.dispatched = meterRegistry.counter("shipment.dispatched");
+    this.failed = meterRegistry.counter("shipment.dispatch.failed");
+  }
+
+  @Override
+  public synchronized void start() {
+    if (!properties.isEnabled() || running) {
+      return;
+    }
+    running = true;
+    for (int i = 0; i < properties.getWorkerCount(); i++) {
+      Thread worker = new Thread(this::run, "shipment-dispatch-" + i);
+      worker.setDaemon(true);
+      workers.add(worker);
+      worker.start();
+    }
+    log.info("[ShipmentDispatcher] 배송 발송 워커 시작: {}개, 배치 크기: {}",
+      properties.getWorkerCount(), properties.getBatchSize());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    for (Thread worker : workers) {
+      worker.interrupt();
+    }
+    for (Thread worker : workers) {
+      try {
+        worker.join(properties.getIdleInterval().toMillis() + 5_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    workers.clear();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void run() {
+    long idleMillis = properties.getIdleInterval().toMillis();
+    while (running) {
+      try {
+        ShipmentDispatchService.DispatchBatch batch = dispatchService.dispatchBatch(properties.getBatchSize());
+        dispatched.increment(batch.shipped());
+        failed.increment(batch.failed());
+        // 발송 시각이 된 배송이 없으면 잠시 대기 (거절된 배송은 재시도 시각이 뒤로 밀리므로 바로 다음 배송을 가져감)
+        if (batch.claimed() == 0) {
+          Thread.sleep(idleMillis);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        if (!running) {
+          return;
+        }
+        log.warn("[ShipmentDispatcher] 배송 발송 중 오류가 발생했습니다", e);
+        try {
+          Thread.sleep(idleMillis);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.transaction.application.flashsale;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 한정 판매 입장 제어 조회/변경용 Actuator 엔드포인트
+ * - GET    /actuator/flashsale             : 상품별 허가 수 (available, inFlight)
+ * - POST   /actuator/flashsale/{productId} : 한정 판매 등록 (DB 재고로 허가 수 초기화)
+ * - DELETE /actuator/flashsale/{productId} : 한정 판매 해제
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "flashsale")
+public class FlashSaleEndpoint {
+
+  private final FlashSaleStockGate stockGate;
+
+  @ReadOperation
+  public Map<Long, Map<String, Integer>> permits() {
+    return stockGate.snapshot();
+  }
+
+  @WriteOperation
+  public Map<Long, Map<String, Integer>> open(@Selector Long productId) {
+    stockGate.open(productId);
+    return stockGate.snapshot();
+  }
+
+  @DeleteOperation
+  public Map<Long, Map<String, Integer>> close(@Selector Long productId) {
+    stockGate.close(productId);
+    return stockGate.snapshot();
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.transaction.application.flashsale;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 한정 판매(플래시 세일) 입장 제어 설정
+ * - 실행 중 대상 상품 추가/제외는 {@link FlashSaleEndpoint}를 통해 수행합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.flash-sale")
+public class FlashSaleProperties {
+
+  /**
+   * 기동 시 productIds 를 입장 제어 대상으로 등록할지 여부
+   */
+  private boolean enabled = false;
+
+  /**
+   * 기동 시 입장 제어를 적용할 상품 ID 목록
+   */
+  private Set<Long> productIds = new LinkedHashSet<>();
+
+  /**
+   * DB 재고와 허가 수를 다시 맞추는 간격 (@Scheduled 에서 사용하므로 ISO-8601 형식)
+   */
+  private Duration reconcileInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,217 @@
+package com.example.transaction.application.flashsale;
+
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.core.listner.TransactionCallbacks;
+import com.example.transaction.exception.StockExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한정 판매 상품의 메모리 재고 허가(permit) 게이트
+ * - 상품별 허가 수를 DB 재고로 초기화하고, 주문 요청은 허가를 먼저 얻어야 DB 경로(비관적 락)로 진입합니다.
+ * - 허가가 모두 소진되면 락 대기 없이 즉시 거절하므로, 요청이 몰려도 DB 부하는 실제 재고 수에 비례합니다.
+ * - 허가를 얻은 트랜잭션이 롤백되면 허가를 반납하고, 커밋되면 DB 재고에 반영된 것으로 봅니다.
+ * - 허가 수는 근사값이며 최종 재고 검증은 여전히 DB 락 안에서 수행됩니다. 주기적으로 DB 재고와 다시 맞춥니다.
+ * - 허가 수와 진행 중인 수량은 하나의 CAS 로 함께 바꾸므로, 재조정이 동시에 일어난 획득/완료를 덮어써 재고보다 많이 입장시키지 않습니다.
+ */
+@Slf4j
+@Component
+public class FlashSaleStockGate {
+
+  private final FlashSaleProperties properties;
+  private final ProductRepository productRepository;
+  private final Map<Long, Permits> permitsByProduct = new ConcurrentHashMap<>();
+  private final Counter admitted;
+  private final Counter rejected;
+
+  public FlashSaleStockGate(FlashSaleProperties properties, ProductRepository productRepository,
+                            MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.productRepository = productRepository;
+    this.admitted = meterRegistry.counter("flashsale.admission", "outcome", "admitted");
+    this.rejected = meterRegistry.counter("flashsale.admission", "outcome", "rejected");
+  }
+
+  /**
+   * 허가 획득 (한정 판매 대상이 아니면 아무것도 하지 않음)
+   * - 현재 트랜잭션이 롤백되면 허가를 반납합니다.
+   *
+   * @throws StockExhaustedException 허가가 모두 소진된 경우
+   */
+  public void acquire(Long productId, int quantity) {
+    Permits permits = permitsByProduct.get(productId);
+    if (permits == null) {
+      return;
+    }
+    if (!permits.tryAcquire(quantity)) {
+      rejected.increment();
+      throw new StockExhaustedException("재고가 부족합니다.");
+    }
+    admitted.increment();
+    TransactionCallbacks.afterCompletion(status -> permits.complete(quantity, status == TransactionSynchronization.STATUS_COMMITTED));
+  }
+
+  /**
+   * 주문 취소 등으로 재고가 복원된 경우 커밋 후 허가를 돌려놓음
+   */
+  public void restock(Long productId, int quantity) {
+    Permits permits = permitsByProduct.get(productId);
+    if (permits != null) {
+      TransactionCallbacks.afterCommit(() -> permits.restock(quantity));
+    }
+  }
+
+  /**
+   * 상품을 한정 판매 대상으로 등록하고 DB 재고로 허가 수를 초기화
+   */
+  public void open(Long productId) {
+    // 2차 캐시가 아닌 DB 재고로 초기화
+    Integer stockQuantity = productRepository.findStockQuantity(productId).orElse(null);
+    if (stockQuantity == null) {
+      log.warn("[FlashSaleStockGate] 상품을 찾을 수 없어 한정 판매 등록 생략: productId={}", productId);
+      return;
+    }
+    Permits permits = permitsByProduct.putIfAbsent(productId, new Permits(stockQuantity));
+    if (permits != null) {
+      // 이미 등록된 상품은 진행 중인 허가를 고려하여 다시 맞춤
+      reconcile(productId, permits);
+    }
+    log.info("[FlashSaleStockGate] 한정 판매 등록: productId={}, 허가 수={}", productId, stockQuantity);
+  }
+
+  public void close(Long productId) {
+    if (permitsByProduct.remove(productId) != null) {
+      log.info("[FlashSaleStockGate] 한정 판매 해제: productId={}", productId);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void openConfiguredProducts() {
+    if (properties.isEnabled()) {
+      properties.getProductIds().forEach(this::open);
+    }
+  }
+
+  /**
+   * DB 재고(커밋된 값)에서 진행 중인 트랜잭션의 허가 수를 빼서 허가 수를 다시 맞춤
+   */
+  @Scheduled(fixedDelayString = "${transaction.flash-sale.reconcile-interval:PT5S}",
+    initialDelayString = "${transaction.flash-sale.reconcile-interval:PT5S}")
+  public void reconcile() {
+    permitsByProduct.forEach(this::reconcile);
+  }
+
+  private void reconcile(Long productId, Permits permits) {
+    // 재고를 읽기 전의 변경 순번 (읽은 재고가 이후 커밋을 반영하지 못했는지 판단)
+    long changeSequence = permits.changeSequence();
+    // 2차 캐시가 아닌 DB 재고로 맞춤
+    productRepository.findStockQuantity(productId).ifPresent(stockQuantity -> {
+      if (!permits.reconcile(stockQuantity, changeSequence)) {
+        log.debug("[FlashSaleStockGate] 재고 조회 중 재고 변경이 커밋되어 다음 주기에 다시 맞춤: productId={}", productId);
+      }
+    });
+  }
+
+  /**
+   * 현재 허가 상태 조회
+   */
+  public Map<Long, Map<String, Integer>> snapshot() {
+    Map<Long, Map<String, Integer>> snapshot = new LinkedHashMap<>();
+    permitsByProduct.forEach((productId, permits) -> snapshot.put(productId,
+      snapshotOf(permits.state.get())));
+    return snapshot;
+  }
+
+  private static Map<String, Integer> snapshotOf(long state) {
+    return Map.of("available", Permits.available(state), "inFlight", Permits.inFlight(state));
+  }
+
+  private static final class Permits {
+    /**
+     * 상위 32비트: 새 요청에 내줄 수 있는 허가 수
+     * 하위 32비트: 허가를 얻었지만 아직 트랜잭션이 끝나지 않은 수량 (DB 커밋 재고에 아직 반영되지 않음)
+     */
+    private final AtomicLong state;
+    /**
+     * DB 재고를 바꾸며 커밋된 허가 변경(커밋된 획득, 재고 복원) 수
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    private Permits(int available) {
+      this.state = new AtomicLong(pack(available, 0));
+    }
+
+    private boolean tryAcquire(int quantity) {
+      long current;
+      do {
+        current = state.get();
+        if (available(current) < quantity) {
+          return false;
+        }
+      } while (!state.compareAndSet(current, pack(available(current) - quantity, inFlight(current) + quantity)));
+      return true;
+    }
+
+    private void complete(int quantity, boolean committed) {
+      if (committed) {
+        // 상태보다 순번을 먼저 올려, 커밋 전에 읽은 재고로 재조정하지 않도록 함
+        changes.incrementAndGet();
+        state.getAndUpdate(current -> pack(available(current), inFlight(current) - quantity));
+      } else {
+        state.getAndUpdate(current -> pack(available(current) + quantity, inFlight(current) - quantity));
+      }
+    }
+
+    private void restock(int quantity) {
+      changes.incrementAndGet();
+      state.getAndUpdate(current -> pack(available(current) + quantity, inFlight(current)));
+    }
+
+    private long changeSequence() {
+      return changes.get();
+    }
+
+    /**
+     * 커밋된 재고에서 진행 중인 수량을 뺀 값으로 허가 수를 맞춤
+     * - 진행 중인 수량은 CAS 시점의 값을 사용하므로 그 사이의 획득/롤백을 덮어쓰지 않습니다.
+     * - 재고를 읽은 뒤 재고 변경이 커밋되었으면 읽은 재고가 오래된 값이므로 반영하지 않습니다.
+     *
+     * @param changeSequence 재고를 읽기 전의 {@link #changeSequence()}
+     * @return 반영 여부
+     */
+    private boolean reconcile(int committedStock, long changeSequence) {
+      long current;
+      do {
+        current = state.get();
+        if (changes.get() != changeSequence) {
+          return false;
+        }
+      } while (!state.compareAndSet(current,
+        pack(Math.max(0, committedStock - inFlight(current)), inFlight(current))));
+      return true;
+    }
+
+    private static long pack(int available, int inFlight) {
+      return ((long) available << 32) | (inFlight & 0xFFFFFFFFL);
+    }
+
+    private static int available(long state) {
+      return (int) (state >> 32);
+    }
+
+    private static int inFlight(long state) {
+      return (int) state;
+    }
+  }
+}
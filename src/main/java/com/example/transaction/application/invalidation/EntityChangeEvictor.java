@@ -0,0 +1,67 @@
+package com.example.transaction.application.invalidation;
+
+import com.example.transaction.application.availability.ProductAvailabilityIndex;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.service.ProductStockChangedEvent;
+import com.example.transaction.application.service.SoldOutProductIndex;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 다른 노드의 변경을 이 노드의 캐시에 반영
+ * - 2차 캐시: 변경된 엔티티 제거 (다음 조회 시 DB 에서 다시 읽음)
+ * - 상품: 품절 인덱스와 재고 조회 인덱스는 제거 대신 DB 재고를 IN 배치로 다시 읽어 갱신
+ */
+@Slf4j
+@Component
+public class EntityChangeEvictor {
+
+  private static final int IN_BATCH_SIZE = 500;
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final JdbcTemplate jdbcTemplate;
+  private final SoldOutProductIndex soldOutProductIndex;
+  private final ProductAvailabilityIndex productAvailabilityIndex;
+
+  public EntityChangeEvictor(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                             SoldOutProductIndex soldOutProductIndex,
+                             ProductAvailabilityIndex productAvailabilityIndex) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.jdbcTemplate = jdbcTemplate;
+    this.soldOutProductIndex = soldOutProductIndex;
+    this.productAvailabilityIndex = productAvailabilityIndex;
+  }
+
+  @EventListener
+  public void onEntityChanges(EntityChangesEvent event) {
+    Class<?> entityClass = switch (event.entityType()) {
+      case PRODUCT -> Product.class;
+    };
+    for (Long entityId : event.entityIds()) {
+      entityManagerFactory.getCache().evict(entityClass, entityId);
+    }
+    if (entityClass == Product.class) {
+      refreshProductStocks(List.copyOf(event.entityIds()));
+    }
+    log.debug("[EntityChangeEvictor] 다른 노드의 변경 반영: {} {}건", event.entityType(), event.entityIds().size());
+  }
+
+  private void refreshProductStocks(List<Long> productIds) {
+    for (int from = 0; from < productIds.size(); from += IN_BATCH_SIZE) {
+      List<Long> batch = productIds.subList(from, Math.min(productIds.size(), from + IN_BATCH_SIZE));
+      String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+      jdbcTemplate.query("SELECT product_id, stock_quantity, version FROM products WHERE product_id IN (" + placeholders + ")",
+        rs -> {
+          ProductStockChangedEvent stockChanged = new ProductStockChangedEvent(rs.getLong(1), rs.getInt(2), rs.getInt(3));
+          soldOutProductIndex.onStockChanged(stockChanged);
+          productAvailabilityIndex.onStockChanged(stockChanged);
+        }, batch.toArray());
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package com.example.transaction.application.invalidation;
+
+import com.example.transaction.application.repository.ChangedEntityType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 변경 로그 폴링
+ * - 마지막으로 확정한 change_id(high-water mark) 이후의 로그만 조회하므로 폴링 비용은 변경 건수에 비례합니다.
+ * - change_id 는 INSERT 시점에 발급되고 커밋 순서와 다를 수 있으므로, 기록된 지 settle-window 가 지나지 않은 로그가 나오면
+ *   그 앞까지만 high-water mark 를 올리고 이후 로그는 다음 폴링에서 다시 확인합니다. (이미 처리한 로그는 건너뜀)
+ *   기록 시각과 경과 여부는 노드 간 시계 차이가 없도록 DB 시계로 판단합니다.
+ * - 자신이 기록한 변경은 이미 커밋 후 처리로 반영되어 있으므로 건너뜁니다.
+ * - 조회한 변경은 엔티티 종류별로 묶어 {@link EntityChangesEvent}로 발행하며, 캐시 제거는 {@link EntityChangeEvictor}가 수행합니다.
+ */
+@Slf4j
+@Component
+public class EntityChangePoller {
+
+  private static final String POLL_SQL = """
+    SELECT change_id, entity_type, entity_id, node_id,
+           created_at <= NOW(6) - INTERVAL ? MICROSECOND AS settled
+      FROM entity_change_log
+     WHERE change_id > ?
+     ORDER BY change_id
+     LIMIT ?
+    """;
+
+  private static final String PURGE_SQL =
+    "DELETE FROM entity_change_log WHERE created_at < NOW(6) - INTERVAL ? MICROSECOND ORDER BY change_id LIMIT ?";
+
+  private final InvalidationProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 이 값 이하의 로그는 모두 처리됨
+   */
+  private volatile long highWaterMark;
+  /**
+   * high-water mark 이후 로그 중 이미 처리한 change_id (아직 확정되지 않은 구간)
+   */
+  private final Set<Long> processedAboveMark = new HashSet<>();
+
+  public EntityChangePoller(InvalidationProperties properties, JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 기동 시점의 캐시는 비어 있으므로 그 이전 로그는 처리하지 않음
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_id), 0) FROM entity_change_log", Long.class);
+    highWaterMark = max == null ? 0L : max;
+    log.info("[EntityChangePoller] 변경 로그 폴링 시작: nodeId={}, 시작 위치={}", properties.getNodeId(), highWaterMark);
+  }
+
+  @Scheduled(fixedDelayString = "${transaction.invalidation.poll-interval:PT1S}")
+  public void scheduledPoll() {
+    if (properties.isEnabled()) {
+      poll();
+    }
+  }
+
+  /**
+   * 새 변경 로그를 처리
+   *
+   * @return 이번 폴링에서 발행한 변경 수 (다른 노드의 변경만)
+   */
+  public synchronized int poll() {
+    long settleMicros = TimeUnit.NANOSECONDS.toMicros(properties.getSettleWindow().toNanos());
+    int batchSize = properties.getBatchSize();
+    int published = 0;
+
+    for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+      Batch result = new Batch();
+      jdbcTemplate.query(POLL_SQL, ps -> {
+        ps.setLong(1, settleMicros);
+        ps.setLong(2, highWaterMark);
+        ps.setInt(3, batchSize);
+      }, rs -> {
+        result.accept(rs.getLong(1), ChangedEntityType.valueOf(rs.getString(2)), rs.getLong(3),
+          rs.getString(4), rs.getBoolean(5));
+      });
+
+      result.changes.forEach((entityType, entityIds) -> {
+        eventPublisher.publishEvent(new EntityChangesEvent(entityType, entityIds));
+        meterRegistry.counter("invalidation.changes", "type", entityType.name()).increment(entityIds.size());
+      });
+      published += result.changes.values().stream().mapToInt(Set::size).sum();
+
+      if (result.settledUpTo > highWaterMark) {
+        highWaterMark = result.settledUpTo;
+        processedAboveMark.removeIf(changeId -> changeId <= result.settledUpTo);
+      }
+      // 확정되지 않은 로그를 만났거나 더 읽을 로그가 없으면 다음 폴링에서 이어서 처리
+      if (result.blocked || result.rows < batchSize) {
+        break;
+      }
+    }
+    return published;
+  }
+
+  /**
+   * 보관 기간이 지난 로그 삭제
+   */
+  @Scheduled(fixedDelayString = "${transaction.invalidation.purge-interval:PT10M}",
+    initialDelayString = "${transaction.invalidation.purge-interval:PT10M}")
+  public void purge() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    long retentionMicros = TimeUnit.NANOSECONDS.toMicros(properties.getRetention().toNanos());
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(PURGE_SQL, retentionMicros, properties.getPurgeBatchSize());
+      total += deleted;
+    } while (deleted == properties.getPurgeBatchSize());
+    if (total > 0) {
+      log.info("[EntityChangePoller] 보관 기간이 지난 변경 로그 삭제: {}건", total);
+    }
+  }
+
+  long getHighWaterMark() {
+    return highWaterMark;
+  }
+
+  /**
+   * 한 번의 조회 결과
+   */
+  private final class Batch {
+    private final Map<ChangedEntityType, Set<Long>> changes = new EnumMap<>(ChangedEntityType.class);
+    private long settledUpTo = highWaterMark;
+    private boolean blocked;
+    private int rows;
+
+    private void accept(long changeId, ChangedEntityType entityType, long entityId, String nodeId, boolean settled) {
+      rows++;
+      if (!settled) {
+        blocked = true;
+      } else if (!blocked) {
+        settledUpTo = changeId;
+      }
+      // 확정 구간에 들어가기 전에 이미 처리한 로그는 다시 처리하지 않음
+      if (!processedAboveMark.add(changeId)) {
+        return;
+      }
+      if (!properties.getNodeId().equals(nodeId)) {
+        changes.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).add(entityId);
+      }
+    }
+  }
+}
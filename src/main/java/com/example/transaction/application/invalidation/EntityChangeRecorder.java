@@ -0,0 +1,91 @@
+package com.example.transaction.application.invalidation;
+
+import com.example.transaction.application.repository.ChangedEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 엔티티 변경 기록
+ * - 트랜잭션 안에서 변경된 엔티티를 모아 두었다가 커밋 직전에 같은 트랜잭션으로 변경 로그에 한 번에 INSERT 합니다.
+ *   롤백되면 로그도 남지 않고, 같은 엔티티를 여러 번 변경해도 한 건만 기록합니다.
+ * - 트랜잭션 밖에서 호출되면 즉시 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeRecorder {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO entity_change_log (entity_type, entity_id, node_id, created_at) VALUES (?, ?, ?, NOW(6))";
+
+  private final InvalidationProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+
+  public void record(ChangedEntityType entityType, Long entityId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      insert(List.of(new ChangeKey(entityType, entityId)));
+      return;
+    }
+    PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingChanges();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.keys.add(new ChangeKey(entityType, entityId));
+  }
+
+  private void insert(List<ChangeKey> keys) {
+    String nodeId = properties.getNodeId();
+    jdbcTemplate.batchUpdate(INSERT_SQL, keys, keys.size(), (ps, key) -> {
+      ps.setString(1, key.entityType().name());
+      ps.setLong(2, key.entityId());
+      ps.setString(3, nodeId);
+    });
+  }
+
+  private record ChangeKey(ChangedEntityType entityType, Long entityId) {
+  }
+
+  /**
+   * 트랜잭션별 변경 목록
+   */
+  private final class PendingChanges implements TransactionSynchronization {
+    private final Set<ChangeKey> keys = new LinkedHashSet<>();
+
+    /**
+     * REQUIRES_NEW 등으로 트랜잭션이 일시 중단되면 내부 트랜잭션의 변경이 섞이지 않도록 목록을 분리
+     */
+    @Override
+    public void suspend() {
+      TransactionSynchronizationManager.unbindResourceIfPossible(EntityChangeRecorder.this);
+    }
+
+    @Override
+    public void resume() {
+      TransactionSynchronizationManager.bindResource(EntityChangeRecorder.this, this);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      if (!keys.isEmpty()) {
+        insert(new ArrayList<>(keys));
+      }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(EntityChangeRecorder.this);
+    }
+  }
+}
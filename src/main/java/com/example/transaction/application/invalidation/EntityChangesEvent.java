@@ -0,0 +1,14 @@
+package com.example.transaction.application.invalidation;
+
+import com.example.transaction.application.repository.ChangedEntityType;
+
+import java.util.Set;
+
+/**
+ * 다른 노드에서 커밋된 엔티티 변경 (폴링 배치 단위)
+ *
+ * @param entityType 엔티티 종류
+ * @param entityIds  변경된 엔티티 ID
+ */
+public record EntityChangesEvent(ChangedEntityType entityType, Set<Long> entityIds) {
+}
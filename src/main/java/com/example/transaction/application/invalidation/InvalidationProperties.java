@@ -0,0 +1,63 @@
+package com.example.transaction.application.invalidation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 노드 간 캐시 무효화 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.invalidation")
+public class InvalidationProperties {
+
+  /**
+   * 변경 로그 기록 및 폴링 여부 (여러 노드로 운영할 때 활성화)
+   */
+  private boolean enabled = false;
+
+  /**
+   * 노드 식별자 (기본값: 기동 시 생성)
+   */
+  private String nodeId = UUID.randomUUID().toString();
+
+  /**
+   * 변경 로그 폴링 간격
+   */
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  /**
+   * 한 번에 조회할 변경 로그 수
+   */
+  private int batchSize = 500;
+
+  /**
+   * 한 번의 폴링에서 처리할 최대 배치 수
+   */
+  private int maxBatchesPerPoll = 20;
+
+  /**
+   * 기록 후 커밋까지 걸릴 수 있는 최대 시간
+   * - 이 시간이 지나지 않은 로그는 앞선 번호의 로그가 아직 커밋 전일 수 있으므로, 다음 폴링에서 다시 확인합니다.
+   */
+  private Duration settleWindow = Duration.ofSeconds(5);
+
+  /**
+   * 변경 로그 보관 기간
+   */
+  private Duration retention = Duration.ofHours(1);
+
+  /**
+   * 보관 기간이 지난 로그 삭제 간격
+   */
+  private Duration purgeInterval = Duration.ofMinutes(10);
+
+  /**
+   * 보관 기간이 지난 로그를 한 번에 삭제할 수
+   */
+  private int purgeBatchSize = 5_000;
+}
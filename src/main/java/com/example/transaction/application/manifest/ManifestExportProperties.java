@@ -0,0 +1,29 @@
+package com.example.transaction.application.manifest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 배송 매니페스트 내보내기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.manifest-export")
+public class ManifestExportProperties {
+
+  /**
+   * 키셋 페이지 한 번에 조회할 배송 수
+   */
+  private int pageSize = 1_000;
+
+  /**
+   * 행을 인코딩할 버퍼 크기 (가득 차면 파일로 기록)
+   */
+  private int bufferBytes = 64 * 1024;
+
+  /**
+   * GZIP 압축 여부 (파일명에 .gz 가 붙지 않으므로 호출 측에서 지정)
+   */
+  private boolean gzip = false;
+}
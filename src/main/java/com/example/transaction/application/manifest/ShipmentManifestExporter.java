@@ -0,0 +1,278 @@
+package com.example.transaction.application.manifest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 창고용 발송 대기(PENDING) 배송 매니페스트 내보내기
+ * - 출력 형식: 헤더 한 줄 + "shipmentId,orderId,productId,quantity,createdAt" (CSV, '\n' 구분)
+ * - shipment_id 기준 키셋 페이지네이션으로 page-size 건씩 조회합니다. (idx_shipments_status 사용)
+ *   행마다 엔티티나 문자열을 만들지 않고 ResultSet 값을 재사용 버퍼에 바로 인코딩하므로 건수와 관계없이 메모리 사용량이 일정합니다.
+ * - 트랜잭션 없이 페이지마다 잠금 없는 일관된 읽기(consistent read)로 조회하므로 배송 상태를 변경하는 쓰기 트랜잭션을 막지 않습니다.
+ *   대신 내보내는 도중 상태가 바뀐 배송은 시점에 따라 포함되거나 빠질 수 있습니다.
+ * - 임시 파일에 기록한 뒤 완료 시 대상 파일로 교체하므로 중간에 실패해도 불완전한 매니페스트가 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class ShipmentManifestExporter {
+
+  private static final byte[] HEADER = "shipmentId,orderId,productId,quantity,createdAt\n".getBytes(StandardCharsets.US_ASCII);
+
+  private static final String PAGE_QUERY = """
+    SELECT s.shipment_id, s.order_id, o.product_id, o.quantity, s.shipment_date
+      FROM shipments s
+      JOIN orders o ON o.order_id = s.order_id
+     WHERE s.status = 'PENDING'
+       AND s.shipment_id > ?
+     ORDER BY s.shipment_id
+     LIMIT ?
+    """;
+
+  private final ManifestExportProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+
+  public ShipmentManifestExporter(ManifestExportProperties properties, JdbcTemplate jdbcTemplate) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * 설정된 압축 여부로 매니페스트 내보내기
+   */
+  public ExportResult export(Path target) {
+    return export(target, properties.isGzip());
+  }
+
+  /**
+   * 매니페스트 내보내기
+   *
+   * @param target 생성할 파일
+   * @param gzip   GZIP 압축 여부
+   */
+  public ExportResult export(Path target, boolean gzip) {
+    long startNanos = System.nanoTime();
+    Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    ManifestWriter writer;
+
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+      StandardOpenOption.TRUNCATE_EXISTING)) {
+      writer = new ManifestWriter(channel, gzip, properties.getBufferBytes());
+      writer.write(HEADER);
+
+      int pageSize = properties.getPageSize();
+      PageCursor cursor = new PageCursor(writer);
+      do {
+        cursor.rows = 0;
+        jdbcTemplate.query(PAGE_QUERY, ps -> {
+          ps.setLong(1, cursor.lastShipmentId);
+          ps.setInt(2, pageSize);
+        }, cursor::accept);
+      } while (cursor.rows == pageSize);
+      writer.finish();
+      channel.force(false);
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(temp);
+      if (e instanceof IOException ioException) {
+        throw new UncheckedIOException("배송 매니페스트를 기록할 수 없습니다: " + target, ioException);
+      }
+      throw (RuntimeException) e;
+    }
+
+    try {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("배송 매니페스트를 교체할 수 없습니다: " + target, e);
+    }
+
+    ExportResult result = new ExportResult(writer.rows, writer.bytesWritten, System.nanoTime() - startNanos);
+    log.info("[ShipmentManifestExporter] 매니페스트 내보내기 완료: {} - 배송 {}건, {} bytes, {}ms",
+      target, result.rows(), result.bytes(), result.elapsedMillis());
+    return result;
+  }
+
+  private static void deleteQuietly(Path temp) {
+    try {
+      Files.deleteIfExists(temp);
+    } catch (IOException e) {
+      log.warn("[ShipmentManifestExporter] 임시 파일을 삭제할 수 없습니다: {}", temp, e);
+    }
+  }
+
+  /**
+   * 한 페이지 조회 결과를 버퍼에 기록하면서 마지막 키를 추적
+   */
+  private static final class PageCursor {
+    private final ManifestWriter writer;
+    private long lastShipmentId;
+    private int rows;
+
+    private PageCursor(ManifestWriter writer) {
+      this.writer = writer;
+    }
+
+    private void accept(ResultSet rs) throws SQLException {
+      long shipmentId = rs.getLong(1);
+      writer.writeRow(shipmentId, rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getObject(5, LocalDateTime.class));
+      lastShipmentId = shipmentId;
+      rows++;
+    }
+  }
+
+  /**
+   * 재사용 버퍼에 행을 인코딩하고 가득 차면 파일 채널(또는 GZIP 스트림)로 기록
+   */
+  private static final class ManifestWriter {
+    private final FileChannel channel;
+    private final GZIPOutputStream gzip;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[20];
+    private long rows;
+    private long bytesWritten;
+
+    private ManifestWriter(FileChannel channel, boolean gzip, int bufferBytes) throws IOException {
+      this.channel = channel;
+      this.buffer = ByteBuffer.allocate(bufferBytes);
+      this.gzip = gzip ? new GZIPOutputStream(nonClosing(Channels.newOutputStream(channel)), bufferBytes) : null;
+    }
+
+    private void writeRow(long shipmentId, long orderId, long productId, int quantity, LocalDateTime createdAt) {
+      // 한 행의 최대 길이(숫자 4개 + 일시 + 구분자)보다 남은 공간이 작으면 먼저 비움
+      if (buffer.remaining() < 128) {
+        flushBuffer();
+      }
+      writeLong(shipmentId);
+      buffer.put((byte) ',');
+      writeLong(orderId);
+      buffer.put((byte) ',');
+      writeLong(productId);
+      buffer.put((byte) ',');
+      writeLong(quantity);
+      buffer.put((byte) ',');
+      if (createdAt != null) {
+        writeTimestamp(createdAt);
+      }
+      buffer.put((byte) '\n');
+      rows++;
+    }
+
+    private void write(byte[] bytes) {
+      if (buffer.remaining() < bytes.length) {
+        flushBuffer();
+      }
+      buffer.put(bytes);
+    }
+
+    private void writeLong(long value) {
+      if (value == 0) {
+        buffer.put((byte) '0');
+        return;
+      }
+      if (value < 0) {
+        buffer.put((byte) '-');
+        value = -value;
+      }
+      int length = 0;
+      while (value > 0) {
+        digits[length++] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+      while (length > 0) {
+        buffer.put(digits[--length]);
+      }
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss 형식
+     */
+    private void writeTimestamp(LocalDateTime timestamp) {
+      writePadded(timestamp.getYear(), 4);
+      buffer.put((byte) '-');
+      writePadded(timestamp.getMonthValue(), 2);
+      buffer.put((byte) '-');
+      writePadded(timestamp.getDayOfMonth(), 2);
+      buffer.put((byte) 'T');
+      writePadded(timestamp.getHour(), 2);
+      buffer.put((byte) ':');
+      writePadded(timestamp.getMinute(), 2);
+      buffer.put((byte) ':');
+      writePadded(timestamp.getSecond(), 2);
+    }
+
+    private void writePadded(int value, int width) {
+      for (int divisor = (int) Math.pow(10, width - 1); divisor > 0; divisor /= 10) {
+        buffer.put((byte) ('0' + (value / divisor) % 10));
+      }
+    }
+
+    private void flushBuffer() {
+      buffer.flip();
+      bytesWritten += buffer.remaining();
+      try {
+        if (gzip != null) {
+          gzip.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+          while (buffer.hasRemaining()) {
+            channel.write(buffer);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      buffer.clear();
+    }
+
+    private void finish() throws IOException {
+      flushBuffer();
+      if (gzip != null) {
+        // 파일 채널은 닫지 않고 GZIP 트레일러 기록과 Deflater 해제만 수행
+        gzip.close();
+      }
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+      return new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+        }
+      };
+    }
+  }
+
+  /**
+   * 내보내기 결과
+   *
+   * @param rows         내보낸 배송 수
+   * @param bytes        압축 전 바이트 수
+   * @param elapsedNanos 소요 시간
+   */
+  public record ExportResult(long rows, long bytes, long elapsedNanos) {
+
+    public long elapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+  }
+}
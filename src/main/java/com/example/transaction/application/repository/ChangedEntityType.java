@@ -0,0 +1,9 @@
+package com.example.transaction.application.repository;
+
+/**
+ * 변경 로그에 기록하는 엔티티 종류
+ * - 다른 노드의 캐시(2차 캐시, 상품 인덱스)에 올라가는 엔티티만 기록합니다. 캐시하지 않는 엔티티를 기록하면 로그만 늘어납니다.
+ */
+public enum ChangedEntityType {
+  PRODUCT
+}
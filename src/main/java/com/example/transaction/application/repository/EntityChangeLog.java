@@ -0,0 +1,47 @@
+package com.example.transaction.application.repository;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔티티 변경 로그 (노드 간 캐시 무효화용)
+ * - 변경한 트랜잭션이 커밋 직전에 같은 트랜잭션으로 기록하므로, 커밋된 변경만 로그에 남습니다.
+ * - 대량 기록/조회를 위해 JdbcTemplate 으로 접근하며, 엔티티는 테이블 정의 용도입니다.
+ */
+@Getter
+@Entity
+@Table(name = "entity_change_log", indexes = {
+  // 보관 기간이 지난 로그 삭제
+  @Index(name = "idx_entity_change_log_created_at", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EntityChangeLog {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "change_id")
+  private Long changeId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false, length = 20)
+  private ChangedEntityType entityType;
+
+  @Column(name = "entity_id", nullable = false)
+  private Long entityId;
+
+  /**
+   * 변경한 노드 (자신이 기록한 변경은 폴링 시 건너뜀)
+   */
+  @Column(name = "node_id", nullable = false, length = 64)
+  private String nodeId;
+
+  /**
+   * 기록 시각 (DB 시계 기준)
+   */
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -9,9 +9,15 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+  // 만료된 예약 조회 (status = PENDING, expires_at 키셋 페이지네이션)
+  @Index(name = "idx_orders_status_expires_at", columnList = "status, expires_at, order_id"),
+  // 상태별 / 주문일시별 키셋 페이지네이션
+  @Index(name = "idx_orders_status_order_id", columnList = "status, order_id"),
+  @Index(name = "idx_orders_order_date", columnList = "order_date, order_id")
+})
 @Builder
-@ToString(of = {"orderId", "productId", "status", "quantity", "totalAmount"})
+@ToString(of = {"orderId", "productId", "status", "quantity", "totalAmount", "expiresAt"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Order {
@@ -32,6 +38,12 @@ public class Order {
 
   private BigDecimal totalAmount;  // 최종 결제 금액
 
+  /**
+   * 재고 예약 만료 시각 (PENDING 상태에서만 사용, 만료되면 주문이 취소되고 재고가 복원됨)
+   */
+  @Column(name = "expires_at")
+  private LocalDateTime expiresAt;
+
   /**
    * 주문 생성 메서드: 재고 감소는 서비스나 Product에서 수행
    */
@@ -52,6 +64,7 @@ public class Order {
       throw new IllegalStateException("결제는 대기 상태의 주문만 가능합니다.");
     }
     this.status = OrderStatus.PAID;
+    this.expiresAt = null;
   }
 
   // 주문 배송 처리 (상태를 SHIPPED로 변경)
@@ -70,6 +83,17 @@ public class Order {
     // 주문 취소 시 상품 재고 복원
     product.increaseStock(this.quantity);
     this.status = OrderStatus.CANCELLED;
+    this.expiresAt = null;
+  }
+
+  /**
+   * 재고 예약 만료 시각 지정
+   */
+  public void reserveUntil(LocalDateTime expiresAt) {
+    if (this.status != OrderStatus.PENDING) {
+      throw new IllegalStateException("재고 예약은 대기 상태의 주문만 가능합니다.");
+    }
+    this.expiresAt = expiresAt;
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.transaction.application.repository;
+
+/**
+ * 주문 진행 상태 (주문 + 최근 결제 + 배송 상태를 한 번의 조인 쿼리로 조회)
+ * - 결제나 배송이 아직 없으면 해당 ID 와 상태는 null 입니다.
+ */
+public record OrderFulfillmentView(
+  Long orderId,
+  OrderStatus orderStatus,
+  Long paymentId,
+  PaymentStatus paymentStatus,
+  Long shipmentId,
+  ShipmentStatus shipmentStatus
+) {
+}
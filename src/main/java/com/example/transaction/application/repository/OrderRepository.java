@@ -1,21 +1,124 @@
 package com.example.transaction.application.repository;
 
+import com.example.transaction.core.jpa.StreamingQueries;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
   Optional<Order> findByIdWithLock(@Param("orderId") Long orderId);
 
+  /**
+   * 주문 상태만 조회 (DTO 프로젝션)
+   */
+  @Query("SELECT new com.example.transaction.application.repository.OrderStatusView(o.orderId, o.status) " +
+    "FROM Order o WHERE o.orderId = :orderId")
+  Optional<OrderStatusView> findStatusById(@Param("orderId") Long orderId);
+
+  /**
+   * 주문, 최근 결제, 배송 상태를 한 번에 조회 (DTO 프로젝션)
+   * - 결제는 보상 처리로 취소된 결제가 남아 있을 수 있으므로 가장 최근 결제만 조인합니다.
+   */
+  @Query("""
+    SELECT new com.example.transaction.application.repository.OrderFulfillmentView(
+             o.orderId, o.status, p.paymentId, p.status, s.shipmentId, s.status)
+      FROM Order o
+      LEFT JOIN Payment p ON p.orderId = o.orderId
+      LEFT JOIN Shipment s ON s.orderId = o.orderId
+     WHERE o.orderId = :orderId
+       AND (p.paymentId IS NULL
+            OR p.paymentId = (SELECT MAX(p2.paymentId) FROM Payment p2 WHERE p2.orderId = o.orderId))
+    """)
+  Optional<OrderFulfillmentView> findFulfillmentById(@Param("orderId") Long orderId);
+
   /**
    * EXISTS를 사용한 효율적인 쿼리
    */
   @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Order o WHERE o.productId = :productId AND o.status = :orderStatus) THEN true ELSE false END")
   boolean existsByProductIdAndOrderStatus(@Param("productId") Long productId, @Param("orderStatus") OrderStatus orderStatus);
-}
\ No newline at end of file
+
+  /**
+   * 만료된 재고 예약(PENDING 주문)을 잠그고 가져옴
+   * - FOR UPDATE SKIP LOCKED: 다른 노드(또는 결제 처리 중인 트랜잭션)가 잠근 주문은 건너뛰므로 여러 노드가 동시에 실행해도 중복 처리하지 않습니다.
+   * - (expires_at, order_id) 키셋 페이지네이션: 건너뛴 주문을 다시 훑지 않고 다음 배치로 진행합니다.
+   */
+  @Query(value = """
+    SELECT * FROM orders o
+    WHERE o.status = 'PENDING'
+      AND o.expires_at <= :now
+      AND (o.expires_at > :afterExpiresAt OR (o.expires_at = :afterExpiresAt AND o.order_id > :afterOrderId))
+    ORDER BY o.expires_at, o.order_id
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+  List<Order> claimExpiredReservations(@Param("now") LocalDateTime now,
+                                       @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                       @Param("afterOrderId") Long afterOrderId,
+                                       @Param("limit") int limit);
+
+  /**
+   * 잠근 예약 주문을 한 번에 취소
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Order o SET o.status = com.example.transaction.application.repository.OrderStatus.CANCELLED, o.expiresAt = null " +
+    "WHERE o.orderId IN :orderIds AND o.status = com.example.transaction.application.repository.OrderStatus.PENDING")
+  int cancelReservations(@Param("orderIds") Collection<Long> orderIds);
+
+  /**
+   * 상태별 키셋 페이지 조회 (o.orderId 순)
+   * - OFFSET 대신 이전 페이지의 마지막 ID 이후부터 읽으므로 몇 번째 페이지든 (status, order_id) 인덱스에서 바로 찾아 읽습니다.
+   *
+   * @param afterOrderId 이전 페이지의 마지막 ID (첫 페이지는 0)
+   */
+  @Query("SELECT o FROM Order o WHERE o.status = :status AND o.orderId > :afterOrderId ORDER BY o.orderId")
+  List<Order> findPageByStatus(@Param("status") OrderStatus status,
+                               @Param("afterOrderId") Long afterOrderId, Limit limit);
+
+  /**
+   * 일시별 키셋 페이지 조회 ((orderDate, orderId) 순)
+   *
+   * @param afterOrderDate 이전 페이지 마지막 행의 일시 (첫 페이지는 충분히 이른 시각)
+   * @param afterOrderId   이전 페이지 마지막 행의 ID (첫 페이지는 0)
+   */
+  @Query("SELECT o FROM Order o " +
+    "WHERE o.orderDate > :afterOrderDate OR (o.orderDate = :afterOrderDate AND o.orderId > :afterOrderId) " +
+    "ORDER BY o.orderDate, o.orderId")
+  List<Order> findPageByOrderDate(@Param("afterOrderDate") LocalDateTime afterOrderDate,
+                                  @Param("afterOrderId") Long afterOrderId, Limit limit);
+
+  /**
+   * 상태별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용)
+   * - 트랜잭션 안에서 호출하고 {@link StreamingQueries#forEach}로 처리하여 영속성 컨텍스트를 주기적으로 비웁니다.
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.orderId")
+  Stream<Order> streamByStatus(@Param("status") OrderStatus status);
+
+  /**
+   * 기간별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용, [from, to))
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT o FROM Order o WHERE o.orderDate >= :from AND o.orderDate < :to ORDER BY o.orderDate, o.orderId")
+  Stream<Order> streamByOrderDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
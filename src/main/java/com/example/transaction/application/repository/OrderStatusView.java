@@ -0,0 +1,7 @@
+package com.example.transaction.application.repository;
+
+/**
+ * 주문 상태 조회 결과 (생성자 프로젝션, 영속성 컨텍스트에 등록되지 않음)
+ */
+public record OrderStatusView(Long orderId, OrderStatus status) {
+}
@@ -12,7 +12,13 @@ import java.time.LocalDateTime;
 @Builder
 @ToString(of = {"paymentId", "orderId", "paymentAmount", "status"})
 @AllArgsConstructor
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+  // 주문별 결제 조회 (중복 결제 확인, 주문 진행 상태 조인)
+  @Index(name = "idx_payments_order_id", columnList = "order_id"),
+  // 상태별 / 결제일시별 키셋 페이지네이션
+  @Index(name = "idx_payments_status", columnList = "status, payment_id"),
+  @Index(name = "idx_payments_payment_date", columnList = "payment_date, payment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment {
 
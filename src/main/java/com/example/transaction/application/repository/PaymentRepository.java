@@ -1,9 +1,19 @@
 package com.example.transaction.application.repository;
 
+import com.example.transaction.core.jpa.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
   /**
    * 특정 주문에 대해 이미 완료된 결제가 있는지 확인하는 메서드
@@ -14,4 +24,62 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
    */
   @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Payment p WHERE p.orderId = :orderId AND p.status = :paymentStatus) THEN true ELSE false END")
   boolean existsByOrderIdAndPaymentStatus(@Param("orderId") Long orderId, @Param("paymentStatus") PaymentStatus paymentStatus);
+
+  /**
+   * 주문의 가장 최근 결제 조회 (보상 처리로 취소된 결제가 남아 있을 수 있음)
+   *
+   * @param orderId 주문 ID
+   * @return 가장 최근에 생성된 결제
+   */
+  Optional<Payment> findFirstByOrderIdOrderByPaymentIdDesc(Long orderId);
+
+  /**
+   * 결제 상태만 조회 (DTO 프로젝션)
+   */
+  @Query("SELECT new com.example.transaction.application.repository.PaymentStatusView(p.paymentId, p.orderId, p.status) " +
+    "FROM Payment p WHERE p.paymentId = :paymentId")
+  Optional<PaymentStatusView> findStatusById(@Param("paymentId") Long paymentId);
+
+  /**
+   * 상태별 키셋 페이지 조회 (p.paymentId 순)
+   * - OFFSET 대신 이전 페이지의 마지막 ID 이후부터 읽으므로 몇 번째 페이지든 (status, payment_id) 인덱스에서 바로 찾아 읽습니다.
+   *
+   * @param afterPaymentId 이전 페이지의 마지막 ID (첫 페이지는 0)
+   */
+  @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.paymentId > :afterPaymentId ORDER BY p.paymentId")
+  List<Payment> findPageByStatus(@Param("status") PaymentStatus status,
+                                 @Param("afterPaymentId") Long afterPaymentId, Limit limit);
+
+  /**
+   * 일시별 키셋 페이지 조회 ((paymentDate, paymentId) 순)
+   *
+   * @param afterPaymentDate 이전 페이지 마지막 행의 일시 (첫 페이지는 충분히 이른 시각)
+   * @param afterPaymentId   이전 페이지 마지막 행의 ID (첫 페이지는 0)
+   */
+  @Query("SELECT p FROM Payment p " +
+    "WHERE p.paymentDate > :afterPaymentDate OR (p.paymentDate = :afterPaymentDate AND p.paymentId > :afterPaymentId) " +
+    "ORDER BY p.paymentDate, p.paymentId")
+  List<Payment> findPageByPaymentDate(@Param("afterPaymentDate") LocalDateTime afterPaymentDate,
+                                      @Param("afterPaymentId") Long afterPaymentId, Limit limit);
+
+  /**
+   * 상태별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용)
+   * - 트랜잭션 안에서 호출하고 {@link StreamingQueries#forEach}로 처리하여 영속성 컨텍스트를 주기적으로 비웁니다.
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT p FROM Payment p WHERE p.status = :status ORDER BY p.paymentId")
+  Stream<Payment> streamByStatus(@Param("status") PaymentStatus status);
+
+  /**
+   * 기간별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용, [from, to))
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT p FROM Payment p WHERE p.paymentDate >= :from AND p.paymentDate < :to ORDER BY p.paymentDate, p.paymentId")
+  Stream<Payment> streamByPaymentDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
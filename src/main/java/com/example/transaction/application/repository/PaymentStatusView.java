@@ -0,0 +1,7 @@
+package com.example.transaction.application.repository;
+
+/**
+ * 결제 상태 조회 결과 (생성자 프로젝션, 영속성 컨텍스트에 등록되지 않음)
+ */
+public record PaymentStatusView(Long paymentId, Long orderId, PaymentStatus status) {
+}
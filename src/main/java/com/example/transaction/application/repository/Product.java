@@ -2,12 +2,24 @@ package com.example.transaction.application.repository;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
+/**
+ * 상품
+ * - 주문마다 조회되므로 2차 캐시(product 영역)에 저장합니다.
+ *   재고가 자주 바뀌므로 READ_WRITE 전략을 사용하여, 변경 중인 항목은 소프트 락으로 막아 커밋 전까지 DB 에서 읽게 하고
+ *   커밋 후에는 새 값으로 교체합니다.
+ * - 재고를 변경하는 경로는 항상 {@link ProductRepository#findByIdWithLock}(캐시 조회 생략)으로 DB 값을 읽습니다.
+ * - 버전은 변경마다 증가하며, 커밋 이후 처리되는 재고 변경 이벤트의 순서를 판단하는 데 사용합니다.
+ */
 @Setter
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @ToString(of = {"productId", "stockQuantity", "price"})
 @EqualsAndHashCode(of = "productId")
 @Table(name = "products")
@@ -29,6 +41,10 @@ public class Product {
 
   private String productDescription;
 
+  @Version
+  @Column(nullable = false)
+  private int version;
+
   // 팩토리 메서드를 통한 객체 생성
   public static Product createProduct(String productName, int stockQuantity, BigDecimal price, String productDescription) {
     if (stockQuantity < 0) {
@@ -0,0 +1,13 @@
+package com.example.transaction.application.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 가격/재고 조회 결과 (생성자 프로젝션, 영속성 컨텍스트에 등록되지 않음)
+ *
+ * @param productId     상품 ID
+ * @param price         가격
+ * @param stockQuantity 재고
+ */
+public record ProductAvailability(Long productId, BigDecimal price, int stockQuantity) {
+}
@@ -1,17 +1,62 @@
 package com.example.transaction.application.repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+  /**
+   * 비관적 락 조회
+   * - 2차 캐시를 읽지 않고 DB 에서 읽은 값으로 캐시를 갱신합니다. (다른 노드의 변경이 캐시에 반영되지 않았더라도 최신 재고 사용)
+   */
   @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+    @QueryHint(name = AvailableHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+  })
   @Query("SELECT p FROM Product p WHERE p.productId = :productId")
   Optional<Product> findByIdWithLock(@Param("productId") Long productId);
 
+  /**
+   * 재고 수량만 DB 에서 조회 (2차 캐시를 거치지 않음)
+   */
+  @Query("SELECT p.stockQuantity FROM Product p WHERE p.productId = :productId")
+  Optional<Integer> findStockQuantity(@Param("productId") Long productId);
+
+  /**
+   * 여러 상품의 가격/재고 조회 (DTO 프로젝션)
+   * - IN 목록 크기는 호출 측에서 제한하며, in_clause_parameter_padding 으로 파라미터 수를 2의 거듭제곱으로 맞춰 실행 계획을 재사용합니다.
+   */
+  @Query("SELECT new com.example.transaction.application.repository.ProductAvailability(p.productId, p.price, p.stockQuantity) "
+    + "FROM Product p WHERE p.productId IN :productIds")
+  List<ProductAvailability> findAvailabilityByIdIn(@Param("productIds") Collection<Long> productIds);
+
+  /**
+   * 상품 목록 조회 (쿼리 캐시 사용)
+   * - 쿼리 캐시에는 식별자만 저장되고 엔티티는 product 영역에서 꺼내므로, products 테이블이 변경되면 결과가 무효화됩니다.
+   */
+  @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT p FROM Product p ORDER BY p.productId")
+  Slice<Product> findCatalog(Pageable pageable);
+
+  /**
+   * 재고를 읽지 않고 증가 (여러 주문의 복원 수량을 상품별로 합산하여 한 번에 반영)
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE VERSIONED Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.productId = :productId")
+  int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
 }
\ No newline at end of file
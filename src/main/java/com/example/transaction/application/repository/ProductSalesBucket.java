@@ -0,0 +1,17 @@
+package com.example.transaction.application.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 판매 요약 구간 조회 결과 (생성자 프로젝션, 영속성 컨텍스트에 등록되지 않음)
+ *
+ * @param bucketStart     구간 시작 시각
+ * @param paidOrders      결제된 주문 수
+ * @param units           판매 수량
+ * @param revenue         판매 금액
+ * @param cancelledOrders 취소된 주문 수
+ */
+public record ProductSalesBucket(LocalDateTime bucketStart, long paidOrders, long units, BigDecimal revenue,
+                                 long cancelledOrders) {
+}
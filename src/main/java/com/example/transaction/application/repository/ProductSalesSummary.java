@@ -0,0 +1,66 @@
+package com.example.transaction.application.repository;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 시간 구간 판매 요약
+ * - 주문 상태 변경을 커밋 이후 모아 두었다가 구간별 증감분을 한 번에 UPSERT 합니다. (주문 트랜잭션이 요약 행을 잠그지 않음)
+ * - 대시보드는 주문/결제를 집계하지 않고 구간 수만큼의 행만 읽습니다.
+ * - 대량 갱신을 위해 JdbcTemplate 으로 기록하며, 엔티티는 테이블 정의와 조회 용도입니다.
+ */
+@Getter
+@Entity
+@Table(name = "product_sales_summary", uniqueConstraints = {
+  // UPSERT 대상 키 (상품별 구간 조회도 이 인덱스 사용)
+  @UniqueConstraint(name = "uk_product_sales_summary_product_bucket", columnNames = {"product_id", "bucket_start"})
+}, indexes = {
+  // 구간 단위 재구성 (구간 범위 삭제)
+  @Index(name = "idx_product_sales_summary_bucket_start", columnList = "bucket_start")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesSummary {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "summary_id")
+  private Long summaryId;
+
+  @Column(name = "product_id", nullable = false)
+  private Long productId;
+
+  /**
+   * 구간 시작 시각 (주문 일시 기준, 시간 단위)
+   */
+  @Column(name = "bucket_start", nullable = false)
+  private LocalDateTime bucketStart;
+
+  /**
+   * 결제된 주문 수 (결제 이후 배송된 주문 포함)
+   */
+  @Column(name = "paid_orders", nullable = false)
+  private long paidOrders;
+
+  /**
+   * 결제된 주문의 판매 수량 합계
+   */
+  @Column(name = "units", nullable = false)
+  private long units;
+
+  /**
+   * 결제된 주문의 금액 합계
+   */
+  @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+  private BigDecimal revenue;
+
+  /**
+   * 취소된 주문 수 (결제 전 취소 / 예약 만료)
+   */
+  @Column(name = "cancelled_orders", nullable = false)
+  private long cancelledOrders;
+}
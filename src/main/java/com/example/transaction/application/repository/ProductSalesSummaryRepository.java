@@ -0,0 +1,23 @@
+package com.example.transaction.application.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductSalesSummaryRepository extends JpaRepository<ProductSalesSummary, Long> {
+
+  /**
+   * 상품의 구간별 판매 요약 조회 ([from, to), 구간 시작 시각 순)
+   * - (product_id, bucket_start) 유니크 인덱스 범위 조회이므로 읽는 행 수는 구간 수와 같습니다.
+   */
+  @Query("SELECT new com.example.transaction.application.repository.ProductSalesBucket(" +
+    "s.bucketStart, s.paidOrders, s.units, s.revenue, s.cancelledOrders) " +
+    "FROM ProductSalesSummary s " +
+    "WHERE s.productId = :productId AND s.bucketStart >= :from AND s.bucketStart < :to " +
+    "ORDER BY s.bucketStart")
+  List<ProductSalesBucket> findBuckets(@Param("productId") Long productId,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -10,7 +10,16 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 @ToString(of = {"shipmentId", "orderId", "status"})
-@Table(name = "shipments")
+@Table(name = "shipments", indexes = {
+  // 발송 대기 배송 조회 (status = PENDING, shipment_id 순)
+  @Index(name = "idx_shipments_status", columnList = "status, shipment_id"),
+  // 주문 기준 배송 조회/변경
+  @Index(name = "idx_shipments_order_id", columnList = "order_id"),
+  // 배송일시별 키셋 페이지네이션 (상태별은 idx_shipments_status 사용)
+  @Index(name = "idx_shipments_shipment_date", columnList = "shipment_date, shipment_id"),
+  // 발송 워커의 발송 대상 조회 (status = PENDING, next_attempt_at 이 지난 순)
+  @Index(name = "idx_shipments_dispatch", columnList = "status, next_attempt_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Shipment {
@@ -27,6 +36,18 @@ public class Shipment {
   @Enumerated(EnumType.STRING)
   private ShipmentStatus status;
 
+  /**
+   * 발송 워커가 택배사에 발송을 시도한 횟수
+   */
+  @Column(name = "attempt_count", nullable = false)
+  private int attemptCount;
+
+  /**
+   * 발송 워커가 다음에 가져갈 수 있는 시각 (발송 중에는 점유 만료 시각, 접수 거절 후에는 재시도 시각)
+   */
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
   /**
    * 배송을 생성하는 팩토리 메서드
    * 주문 정보를 바탕으로 배송을 생성하고, 배송 상태와 추적 번호를 설정합니다.
@@ -36,9 +57,25 @@ public class Shipment {
       .orderId(orderId)
       .status(ShipmentStatus.PENDING) // 배송 생성 시 PENDING 상태로 시작
       .shipmentDate(LocalDateTime.now())
+      .nextAttemptAt(LocalDateTime.now())
       .build();
   }
 
+  /**
+   * 택배사가 접수하지 않은 배송 처리
+   * - 최대 시도 횟수에 도달하면 FAILED, 아니면 재시도 시각까지 발송 대상에서 제외합니다.
+   */
+  public void rejectDispatch(int maxAttempts, LocalDateTime retryAt) {
+    if (this.status != ShipmentStatus.PENDING) {
+      return;
+    }
+    if (this.attemptCount >= maxAttempts) {
+      this.status = ShipmentStatus.FAILED;
+      return;
+    }
+    this.nextAttemptAt = retryAt;
+  }
+
   /**
    * 배송을 시작하는 메서드
    * 배송을 SHIPPED 상태로 변경하고 배송일자를 기록합니다.
@@ -1,6 +1,119 @@
 package com.example.transaction.application.repository;
 
+import com.example.transaction.core.jpa.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
+
+  /**
+   * 주문의 배송 조회 (주문과 배송은 1:1)
+   *
+   * @param orderId 주문 ID
+   * @return 배송 정보
+   */
+  Optional<Shipment> findByOrderId(Long orderId);
+
+  /**
+   * 배송 상태만 조회 (DTO 프로젝션)
+   */
+  @Query("SELECT new com.example.transaction.application.repository.ShipmentStatusView(s.shipmentId, s.orderId, s.status) " +
+    "FROM Shipment s WHERE s.shipmentId = :shipmentId")
+  Optional<ShipmentStatusView> findStatusById(@Param("shipmentId") Long shipmentId);
+
+  /**
+   * 발송 시각이 된 PENDING 배송을 잠그고 가져옴 (next_attempt_at 이 이른 순)
+   * - FOR UPDATE SKIP LOCKED: 다른 워커가 잠근 배송은 건너뛰므로 워커끼리 같은 배송을 나누어 갖지 않습니다.
+   * - 접수가 거절된 배송은 재시도 시각이 뒤로 밀리므로 뒤에 생성된 배송의 발송을 막지 않습니다.
+   * - next_attempt_at 이 없는 배송(컬럼 추가 전에 생성된 배송)은 가장 먼저 가져갑니다.
+   */
+  @Query(value = """
+    SELECT * FROM shipments s
+    WHERE s.status = 'PENDING' AND (s.next_attempt_at IS NULL OR s.next_attempt_at <= :now)
+    ORDER BY s.next_attempt_at, s.shipment_id
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+  List<Shipment> findDueShipmentsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * 가져간 배송의 시도 횟수를 올리고 점유 만료 시각까지 다른 워커가 가져가지 못하게 표시
+   * - 이 표시를 커밋한 뒤 택배사를 호출하므로 행 락을 잡은 채 외부 호출을 기다리지 않습니다.
+   * - 워커가 중단되어 결과를 기록하지 못하면 점유 만료 후 다시 발송 대상이 됩니다.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Shipment s SET s.attemptCount = s.attemptCount + 1, s.nextAttemptAt = :claimedUntil " +
+    "WHERE s.shipmentId IN :shipmentIds")
+  int markClaimed(@Param("shipmentIds") Collection<Long> shipmentIds, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  /**
+   * 발송된 배송을 한 번에 SHIPPED 로 변경
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Shipment s SET s.status = com.example.transaction.application.repository.ShipmentStatus.SHIPPED, s.shipmentDate = :shippedAt " +
+    "WHERE s.shipmentId IN :shipmentIds AND s.status = com.example.transaction.application.repository.ShipmentStatus.PENDING")
+  int markShipped(@Param("shipmentIds") Collection<Long> shipmentIds, @Param("shippedAt") LocalDateTime shippedAt);
+
+  /**
+   * 여러 주문의 배송을 한 번에 SHIPPED 로 변경 (order_id 인덱스 사용)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Shipment s SET s.status = com.example.transaction.application.repository.ShipmentStatus.SHIPPED, s.shipmentDate = :shippedAt " +
+    "WHERE s.orderId IN :orderIds AND s.status = com.example.transaction.application.repository.ShipmentStatus.PENDING")
+  int markShippedByOrderIds(@Param("orderIds") Collection<Long> orderIds, @Param("shippedAt") LocalDateTime shippedAt);
+
+  /**
+   * 상태별 키셋 페이지 조회 (s.shipmentId 순)
+   * - OFFSET 대신 이전 페이지의 마지막 ID 이후부터 읽으므로 몇 번째 페이지든 (status, shipment_id) 인덱스에서 바로 찾아 읽습니다.
+   *
+   * @param afterShipmentId 이전 페이지의 마지막 ID (첫 페이지는 0)
+   */
+  @Query("SELECT s FROM Shipment s WHERE s.status = :status AND s.shipmentId > :afterShipmentId ORDER BY s.shipmentId")
+  List<Shipment> findPageByStatus(@Param("status") ShipmentStatus status,
+                                  @Param("afterShipmentId") Long afterShipmentId, Limit limit);
+
+  /**
+   * 일시별 키셋 페이지 조회 ((shipmentDate, shipmentId) 순)
+   *
+   * @param afterShipmentDate 이전 페이지 마지막 행의 일시 (첫 페이지는 충분히 이른 시각)
+   * @param afterShipmentId   이전 페이지 마지막 행의 ID (첫 페이지는 0)
+   */
+  @Query("SELECT s FROM Shipment s " +
+    "WHERE s.shipmentDate > :afterShipmentDate OR (s.shipmentDate = :afterShipmentDate AND s.shipmentId > :afterShipmentId) " +
+    "ORDER BY s.shipmentDate, s.shipmentId")
+  List<Shipment> findPageByShipmentDate(@Param("afterShipmentDate") LocalDateTime afterShipmentDate,
+                                        @Param("afterShipmentId") Long afterShipmentId, Limit limit);
+
+  /**
+   * 상태별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용)
+   * - 트랜잭션 안에서 호출하고 {@link StreamingQueries#forEach}로 처리하여 영속성 컨텍스트를 주기적으로 비웁니다.
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT s FROM Shipment s WHERE s.status = :status ORDER BY s.shipmentId")
+  Stream<Shipment> streamByStatus(@Param("status") ShipmentStatus status);
+
+  /**
+   * 기간별 전체 조회 (Stream, 행 단위 스트리밍 + 읽기 전용, [from, to))
+   */
+  @QueryHints({
+    @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingQueries.MYSQL_STREAMING_FETCH_SIZE),
+    @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT s FROM Shipment s WHERE s.shipmentDate >= :from AND s.shipmentDate < :to ORDER BY s.shipmentDate, s.shipmentId")
+  Stream<Shipment> streamByShipmentDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -4,5 +4,6 @@ public enum ShipmentStatus {
   PENDING,    // 배송 준비 중
   SHIPPED,    // 배송 시작
   DELIVERED,  // 배송 완료
-  CANCELLED   // 배송 취소
+  CANCELLED,  // 배송 취소
+  FAILED      // 발송 실패 (택배사가 최대 시도 횟수만큼 접수하지 않음)
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.transaction.application.reservation;
+
+import com.example.transaction.application.flashsale.FlashSaleStockGate;
+import com.example.transaction.application.invalidation.EntityChangeRecorder;
+import com.example.transaction.application.repository.ChangedEntityType;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderRepository;
+import com.example.transaction.application.repository.OrderStatus;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.service.OrderSalesChangedEvent;
+import com.example.transaction.application.service.ProductStockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryService {
+
+  private final OrderRepository orderRepository;
+  private final ProductRepository productRepository;
+  private final FlashSaleStockGate flashSaleStockGate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityChangeRecorder entityChangeRecorder;
+
+  /**
+   * 만료된 예약 한 배치를 취소하고 재고 복원
+   * - 주문은 SKIP LOCKED 로 잠가 가져오고, 한 번의 UPDATE 로 취소합니다.
+   * - 재고는 상품별로 합산하여 상품당 한 번만 UPDATE 하며, 데드락을 피하기 위해 상품 ID 순서로 갱신합니다.
+   *
+   * @param now    만료 기준 시각
+   * @param cursor 이전 배치의 마지막 위치 (키셋)
+   * @param limit  최대 처리 수
+   * @return 처리 결과와 다음 배치 위치
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public ExpiryBatch expireBatch(LocalDateTime now, ExpiryCursor cursor, int limit) {
+    List<Order> claimed = orderRepository.claimExpiredReservations(
+      now, cursor.expiresAt(), cursor.orderId(), limit);
+    if (claimed.isEmpty()) {
+      return new ExpiryBatch(0, 0, cursor);
+    }
+
+    Order last = claimed.get(claimed.size() - 1);
+    ExpiryCursor next = new ExpiryCursor(last.getExpiresAt(), last.getOrderId());
+    Map<Long, Integer> restoredByProduct = new TreeMap<>();
+    for (Order order : claimed) {
+      restoredByProduct.merge(order.getProductId(), order.getQuantity(), Integer::sum);
+    }
+
+    List<Long> orderIds = claimed.stream().map(Order::getOrderId).toList();
+    int cancelled = orderRepository.cancelReservations(orderIds);
+    // 일괄 UPDATE 로 취소하므로 조회한 엔티티의 상태는 바뀌지 않음
+    for (Order order : claimed) {
+      eventPublisher.publishEvent(new OrderSalesChangedEvent(order.getProductId(), order.getOrderDate(),
+        OrderStatus.CANCELLED, order.getQuantity(), order.getTotalAmount()));
+    }
+    restoredByProduct.forEach((productId, quantity) -> {
+      productRepository.increaseStock(productId, quantity);
+      flashSaleStockGate.restock(productId, quantity);
+      entityChangeRecorder.record(ChangedEntityType.PRODUCT, productId);
+    });
+    for (Product product : productRepository.findAllById(restoredByProduct.keySet())) {
+      eventPublisher.publishEvent(
+        new ProductStockChangedEvent(product.getProductId(), product.getStockQuantity(), product.getVersion()));
+    }
+
+    log.info("[ReservationExpiryService] 만료 예약 취소: {}건, 재고 복원 상품: {}", cancelled, restoredByProduct);
+    return new ExpiryBatch(claimed.size(), cancelled, next);
+  }
+
+  /**
+   * 키셋 페이지네이션 위치
+   */
+  public record ExpiryCursor(LocalDateTime expiresAt, Long orderId) {
+
+    public static ExpiryCursor start() {
+      return new ExpiryCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    }
+  }
+
+  /**
+   * 배치 처리 결과
+   *
+   * @param claimed   잠근 예약 수
+   * @param cancelled 취소한 예약 수
+   * @param next      다음 배치 위치
+   */
+  public record ExpiryBatch(int claimed, int cancelled, ExpiryCursor next) {
+  }
+}
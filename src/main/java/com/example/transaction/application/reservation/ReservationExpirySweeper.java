@@ -0,0 +1,61 @@
+package com.example.transaction.application.reservation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 재고 예약을 주기적으로 정리
+ * - 배치마다 별도 트랜잭션으로 처리하므로 락을 짧게 잡고, 여러 노드가 동시에 실행해도 SKIP LOCKED 로 서로 다른 주문을 처리합니다.
+ */
+@Slf4j
+@Component
+public class ReservationExpirySweeper {
+
+  private final ReservationProperties properties;
+  private final ReservationExpiryService expiryService;
+  private final Counter expired;
+
+  public ReservationExpirySweeper(ReservationProperties properties, ReservationExpiryService expiryService,
+                                  MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.expiryService = expiryService;
+    this.expired = meterRegistry.counter("reservation.expired");
+  }
+
+  @Scheduled(fixedDelayString = "${transaction.reservation.sweep-interval:PT10S}",
+    initialDelayString = "${transaction.reservation.sweep-interval:PT10S}")
+  public void scheduledSweep() {
+    if (properties.isSweeperEnabled()) {
+      sweep();
+    }
+  }
+
+  /**
+   * 만료된 예약 정리
+   *
+   * @return 취소한 예약 수
+   */
+  public int sweep() {
+    LocalDateTime now = LocalDateTime.now();
+    ReservationExpiryService.ExpiryCursor cursor = ReservationExpiryService.ExpiryCursor.start();
+    int total = 0;
+    for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+      ReservationExpiryService.ExpiryBatch result = expiryService.expireBatch(now, cursor, properties.getBatchSize());
+      total += result.cancelled();
+      expired.increment(result.cancelled());
+      if (result.claimed() < properties.getBatchSize()) {
+        break;
+      }
+      cursor = result.next();
+    }
+    if (total > 0) {
+      log.info("[ReservationExpirySweeper] 만료 예약 정리 완료: {}건", total);
+    }
+    return total;
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.transaction.application.reservation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 재고 예약(PENDING 주문) 만료 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.reservation")
+public class ReservationProperties {
+
+  /**
+   * 주문 생성 후 결제되지 않으면 예약이 만료되는 시간
+   */
+  private Duration ttl = Duration.ofMinutes(15);
+
+  /**
+   * 만료 예약 정리 활성화 여부
+   */
+  private boolean sweeperEnabled = true;
+
+  /**
+   * 만료 예약 정리 간격 (@Scheduled 에서 사용하므로 ISO-8601 형식)
+   */
+  private Duration sweepInterval = Duration.ofSeconds(10);
+
+  /**
+   * 한 트랜잭션에서 처리할 최대 예약 수
+   */
+  private int batchSize = 100;
+
+  /**
+   * 한 번의 정리에서 처리할 최대 배치 수 (한 노드가 오래 붙잡지 않도록 제한)
+   */
+  private int maxBatchesPerRun = 50;
+}
@@ -0,0 +1,169 @@
+package com.example.transaction.application.sales;
+
+import com.example.transaction.application.repository.OrderStatus;
+import com.example.transaction.application.service.OrderSalesChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 판매 요약 증분 반영
+ * - 주문 결제/취소가 커밋되면 (상품, 구간)별 증감분을 메모리에 합산해 두고, 주기적으로 배치 UPSERT 로 한 번에 반영합니다.
+ *   주문 트랜잭션이 요약 행을 직접 갱신하면 인기 상품의 현재 구간 행이 모든 결제가 줄 서는 핫 로우가 되므로,
+ *   주문 트랜잭션 밖에서 구간당 한 번만 갱신합니다.
+ * - 커밋 이후 반영하므로 롤백된 변경은 요약에 들어가지 않지만, 반영 전에 노드가 종료되면 증감분이 유실될 수 있습니다.
+ *   이 경우 {@link SalesSummaryRebuilder}로 해당 기간을 다시 계산합니다.
+ */
+@Slf4j
+@Component
+public class SalesSummaryAggregator {
+
+  private static final String UPSERT_SQL = """
+    INSERT INTO product_sales_summary (product_id, bucket_start, paid_orders, units, revenue, cancelled_orders)
+    VALUES (?, ?, ?, ?, ?, ?) AS delta
+    ON DUPLICATE KEY UPDATE
+      paid_orders = product_sales_summary.paid_orders + delta.paid_orders,
+      units = product_sales_summary.units + delta.units,
+      revenue = product_sales_summary.revenue + delta.revenue,
+      cancelled_orders = product_sales_summary.cancelled_orders + delta.cancelled_orders
+    """;
+
+  private final SalesSummaryProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Map<BucketKey, SalesDelta> pending = new ConcurrentHashMap<>();
+
+  public SalesSummaryAggregator(SalesSummaryProperties properties, JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * 주문 일시가 속한 구간의 시작 시각 (시간 단위)
+   */
+  public static LocalDateTime bucketStart(LocalDateTime orderDate) {
+    return orderDate.truncatedTo(ChronoUnit.HOURS);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onOrderSalesChanged(OrderSalesChangedEvent event) {
+    SalesDelta delta = SalesDelta.of(event.status(), event.quantity(), event.totalAmount());
+    if (delta != null) {
+      pending.merge(new BucketKey(event.productId(), bucketStart(event.orderDate())), delta, SalesDelta::plus);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${transaction.sales-summary.flush-interval:PT1S}",
+    initialDelayString = "${transaction.sales-summary.flush-interval:PT1S}")
+  public void scheduledFlush() {
+    flush();
+  }
+
+  /**
+   * 종료 전에 남은 증감분 반영
+   */
+  @EventListener(ContextClosedEvent.class)
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /**
+   * 모아 둔 증감분을 요약 테이블에 반영
+   * - 키를 하나씩 꺼내므로(remove) 반영 중에 들어온 증감분은 다음 반영 대상으로 남습니다.
+   * - 여러 노드가 같은 행을 갱신할 때 데드락을 피하기 위해 (상품, 구간) 순서로 갱신합니다.
+   * - 반영에 실패하면 꺼낸 증감분을 되돌려 놓고 다음 주기에 다시 시도합니다.
+   *
+   * @return 반영한 (상품, 구간) 수
+   */
+  public synchronized int flush() {
+    if (pending.isEmpty()) {
+      return 0;
+    }
+    List<Map.Entry<BucketKey, SalesDelta>> drained = new ArrayList<>(pending.size());
+    for (BucketKey key : pending.keySet()) {
+      SalesDelta delta = pending.remove(key);
+      if (delta != null) {
+        drained.add(Map.entry(key, delta));
+      }
+    }
+    drained.sort(Map.Entry.comparingByKey(BucketKey.ORDER));
+
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+        jdbcTemplate.batchUpdate(UPSERT_SQL, drained, properties.getFlushBatchSize(), (ps, entry) -> {
+          BucketKey key = entry.getKey();
+          SalesDelta delta = entry.getValue();
+          ps.setLong(1, key.productId());
+          ps.setTimestamp(2, Timestamp.valueOf(key.bucketStart()));
+          ps.setLong(3, delta.paidOrders());
+          ps.setLong(4, delta.units());
+          ps.setBigDecimal(5, delta.revenue());
+          ps.setLong(6, delta.cancelledOrders());
+        }));
+    } catch (RuntimeException e) {
+      drained.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), SalesDelta::plus));
+      log.warn("[SalesSummaryAggregator] 판매 요약 반영 실패, 다음 주기에 다시 시도합니다. 대기 구간 수: {}",
+        pending.size(), e);
+      return 0;
+    }
+    log.debug("[SalesSummaryAggregator] 판매 요약 반영: {}개 구간", drained.size());
+    return drained.size();
+  }
+
+  /**
+   * 반영 대기 중인 (상품, 구간) 수
+   */
+  public int pendingSize() {
+    return pending.size();
+  }
+
+  /**
+   * 요약 행 키
+   */
+  record BucketKey(Long productId, LocalDateTime bucketStart) {
+
+    static final Comparator<BucketKey> ORDER =
+      Comparator.comparing(BucketKey::productId).thenComparing(BucketKey::bucketStart);
+  }
+
+  /**
+   * 구간 증감분
+   */
+  record SalesDelta(long paidOrders, long units, BigDecimal revenue, long cancelledOrders) {
+
+    /**
+     * 주문 상태에 해당하는 증감분 (판매 요약에 영향이 없는 상태이면 null)
+     * - 이벤트는 결제/취소 시에만 발행되고, SHIPPED 는 재구성 시 이미 결제된 주문으로 집계하기 위한 것입니다.
+     */
+    static SalesDelta of(OrderStatus status, int quantity, BigDecimal totalAmount) {
+      return switch (status) {
+        case PAID, SHIPPED -> new SalesDelta(1, quantity, totalAmount, 0);
+        case CANCELLED -> new SalesDelta(0, 0, BigDecimal.ZERO, 1);
+        default -> null;
+      };
+    }
+
+    SalesDelta plus(SalesDelta other) {
+      return new SalesDelta(paidOrders + other.paidOrders, units + other.units, revenue.add(other.revenue),
+        cancelledOrders + other.cancelledOrders);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.transaction.application.sales;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 판매 요약 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.sales-summary")
+public class SalesSummaryProperties {
+
+  /**
+   * 모아 둔 증감분을 요약 테이블에 반영하는 간격 (@Scheduled 에서 사용하므로 ISO-8601 형식)
+   * - 대시보드 값이 늦게 반영될 수 있는 최대 시간의 기준입니다.
+   */
+  private Duration flushInterval = Duration.ofSeconds(1);
+
+  /**
+   * 한 번의 배치 UPSERT 에 담을 최대 구간 수
+   */
+  private int flushBatchSize = 500;
+
+  /**
+   * 재구성 작업 실행 주기 (cron, 기본값 "-": 비활성화)
+   */
+  private String rebuildCron = "-";
+
+  /**
+   * 재구성 작업이 다시 계산할 기간 (마감된 구간 기준으로 거슬러 올라감)
+   */
+  private Duration rebuildLookback = Duration.ofDays(1);
+
+  /**
+   * 구간이 마감된 것으로 보는 시간 (주문 일시 기준)
+   * - 결제/취소는 결제 대기 중인 주문에서만 일어나므로, 예약 만료 시간과 정리 주기를 넘긴 주문은 더 이상 요약 값을 바꾸지 않습니다.
+   */
+  private Duration settleDelay = Duration.ofMinutes(30);
+
+  /**
+   * 재구성 시 영속성 컨텍스트를 비우는 간격 (주문 수)
+   */
+  private int rebuildClearInterval = 1_000;
+}
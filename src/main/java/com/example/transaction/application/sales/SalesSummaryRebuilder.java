@@ -0,0 +1,142 @@
+package com.example.transaction.application.sales;
+
+import com.example.transaction.application.repository.OrderRepository;
+import com.example.transaction.application.sales.SalesSummaryAggregator.BucketKey;
+import com.example.transaction.application.sales.SalesSummaryAggregator.SalesDelta;
+import com.example.transaction.core.jpa.StreamingQueries;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 판매 요약 재구성
+ * - 기간 내 주문을 Stream 으로 끝까지 읽어 (상품, 구간)별로 다시 집계하고, 해당 기간의 요약 행을 통째로 교체합니다.
+ *   증분 반영이 유실되었거나(반영 전 노드 종료 등) 요약 테이블을 처음 만들 때 사용합니다.
+ * - 집계는 읽기 전용 트랜잭션에서 행 단위 스트리밍으로 읽고, 교체는 별도 트랜잭션에서 수행합니다.
+ *   (스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없음)
+ * - 재구성 중에도 값이 바뀔 수 있는 구간을 교체하면 그 사이의 증분이 유실되거나 중복되므로, 마감된 구간만 재구성합니다.
+ */
+@Slf4j
+@Component
+public class SalesSummaryRebuilder {
+
+  private static final String DELETE_SQL =
+    "DELETE FROM product_sales_summary WHERE bucket_start >= ? AND bucket_start < ?";
+
+  private static final String INSERT_SQL = """
+    INSERT INTO product_sales_summary (product_id, bucket_start, paid_orders, units, revenue, cancelled_orders)
+    VALUES (?, ?, ?, ?, ?, ?)
+    """;
+
+  private final SalesSummaryProperties properties;
+  private final SalesSummaryAggregator aggregator;
+  private final OrderRepository orderRepository;
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readTransaction;
+  private final TransactionTemplate writeTransaction;
+
+  public SalesSummaryRebuilder(SalesSummaryProperties properties, SalesSummaryAggregator aggregator,
+                               OrderRepository orderRepository, EntityManager entityManager,
+                               JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.aggregator = aggregator;
+    this.orderRepository = orderRepository;
+    this.entityManager = entityManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 마감된 최근 구간 재구성 (transaction.sales-summary.rebuild-cron 주기)
+   */
+  @Scheduled(cron = "${transaction.sales-summary.rebuild-cron:-}")
+  public void rebuildRecent() {
+    LocalDateTime to = settledBucket();
+    rebuild(to.minus(properties.getRebuildLookback()), to);
+  }
+
+  /**
+   * 기간 내 요약 재구성
+   * - from/to 는 구간 시작 시각으로 내림하여 [from, to) 구간 전체를 교체합니다.
+   * - 교체 전에 모아 둔 증감분을 먼저 반영하여, 교체 이후에 같은 증감분이 다시 더해지지 않도록 합니다.
+   * - to 가 마감된 구간(현재 - settle-delay 의 구간 시작)보다 뒤이면 예외가 발생합니다.
+   *
+   * @return 재구성 결과
+   */
+  public RebuildResult rebuild(LocalDateTime from, LocalDateTime to) {
+    LocalDateTime fromBucket = SalesSummaryAggregator.bucketStart(from);
+    LocalDateTime toBucket = SalesSummaryAggregator.bucketStart(to);
+    if (!fromBucket.isBefore(toBucket)) {
+      throw new IllegalArgumentException("재구성 기간이 올바르지 않습니다. from: " + from + ", to: " + to);
+    }
+    LocalDateTime settled = settledBucket();
+    if (toBucket.isAfter(settled)) {
+      throw new IllegalArgumentException("마감되지 않은 구간은 재구성할 수 없습니다. to: " + to + ", 마감된 구간: " + settled + " 이전");
+    }
+    long startNanos = System.nanoTime();
+    aggregator.flush();
+
+    Map<BucketKey, SalesDelta> buckets = new HashMap<>();
+    Long orders = readTransaction.execute(status -> StreamingQueries.forEach(entityManager,
+      orderRepository.streamByOrderDateBetween(fromBucket, toBucket), properties.getRebuildClearInterval(), order -> {
+        SalesDelta delta = SalesDelta.of(order.getStatus(), order.getQuantity(), order.getTotalAmount());
+        if (delta != null) {
+          buckets.merge(new BucketKey(order.getProductId(), SalesSummaryAggregator.bucketStart(order.getOrderDate())),
+            delta, SalesDelta::plus);
+        }
+      }));
+
+    List<Map.Entry<BucketKey, SalesDelta>> rows = new ArrayList<>(buckets.entrySet());
+    rows.sort(Map.Entry.comparingByKey(BucketKey.ORDER));
+    writeTransaction.executeWithoutResult(status -> {
+      jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(fromBucket), Timestamp.valueOf(toBucket));
+      jdbcTemplate.batchUpdate(INSERT_SQL, rows, properties.getFlushBatchSize(), (ps, entry) -> {
+        BucketKey key = entry.getKey();
+        SalesDelta delta = entry.getValue();
+        ps.setLong(1, key.productId());
+        ps.setTimestamp(2, Timestamp.valueOf(key.bucketStart()));
+        ps.setLong(3, delta.paidOrders());
+        ps.setLong(4, delta.units());
+        ps.setBigDecimal(5, delta.revenue());
+        ps.setLong(6, delta.cancelledOrders());
+      });
+    });
+
+    RebuildResult result = new RebuildResult(orders == null ? 0 : orders, rows.size(), System.nanoTime() - startNanos);
+    log.info("[SalesSummaryRebuilder] 판매 요약 재구성: {} ~ {}, 주문 {}건, 구간 {}개, {}ms",
+      fromBucket, toBucket, result.orders(), result.buckets(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()));
+    return result;
+  }
+
+  /**
+   * 이 시각 이전의 구간은 마감되어 더 이상 증감분이 생기지 않음
+   */
+  private LocalDateTime settledBucket() {
+    return SalesSummaryAggregator.bucketStart(LocalDateTime.now().minus(properties.getSettleDelay()));
+  }
+
+  /**
+   * 재구성 결과
+   *
+   * @param orders       읽은 주문 수
+   * @param buckets      기록한 (상품, 구간) 수
+   * @param elapsedNanos 소요 시간
+   */
+  public record RebuildResult(long orders, int buckets, long elapsedNanos) {
+  }
+}
@@ -1,15 +1,27 @@
 package com.example.transaction.application.service;
 
+import com.example.transaction.application.flashsale.FlashSaleStockGate;
+import com.example.transaction.application.invalidation.EntityChangeRecorder;
+import com.example.transaction.application.repository.ChangedEntityType;
 import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderFulfillmentView;
 import com.example.transaction.application.repository.OrderRepository;
 import com.example.transaction.application.repository.OrderStatus;
+import com.example.transaction.application.repository.OrderStatusView;
 import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.reservation.ReservationProperties;
+import com.example.transaction.core.aop.RetryableTransaction;
 import com.example.transaction.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,12 +29,22 @@ public class OrderPessimisticLockService {
 
   private final OrderRepository orderRepository;
   private final ProductPessimisticLockService productService;
+  private final FlashSaleStockGate flashSaleStockGate;
+  private final SoldOutProductIndex soldOutProductIndex;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ReservationProperties reservationProperties;
+  private final EntityChangeRecorder entityChangeRecorder;
 
   /**
    * 주문 생성 (재고 감소)
    */
   @Transactional
+  @RetryableTransaction
   public Order createOrder(Long productId, int quantity) {
+    // 품절 상품은 락 조회 없이 거절
+    soldOutProductIndex.rejectIfSoldOut(productId);
+    // 한정 판매 상품은 메모리 허가를 먼저 얻어야 DB 락 경로로 진입 (소진 시 즉시 거절)
+    flashSaleStockGate.acquire(productId, quantity);
     // 상품 조회 및 재고 감소 (비관적 락 사용)
     Product product = productService.findProductWithLock(productId);
     // 중복된 주문이 이미 처리된 경우 방지
@@ -33,12 +55,15 @@ public class OrderPessimisticLockService {
 
     // 재고 감소 처리 (Product 객체에서 수행)
     product.decreaseStock(quantity);
+    productService.publishStockChanged(product);
 
-    // 주문 생성
+    // 주문 생성 (결제되지 않으면 만료 시각 이후 예약 정리 대상)
     Order order = Order.createOrder(product, quantity);
+    order.reserveUntil(LocalDateTime.now().plus(reservationProperties.getTtl()));
 
     // 주문 저장
     Order save = orderRepository.save(order);
+    entityChangeRecorder.record(ChangedEntityType.PRODUCT, productId);
     log.info("[OrderPessimisticLockService] 주문 생성: {}", save);
     return save;
   }
@@ -59,6 +84,7 @@ public class OrderPessimisticLockService {
     order.payForOrder();
     // 결제 처리 후 변경된 주문 저장
     Order save = orderRepository.save(order);
+    eventPublisher.publishEvent(OrderSalesChangedEvent.of(save));
     log.info("[OrderPessimisticLockService] 주문 결제: {}", save);
     return save;
   }
@@ -89,6 +115,7 @@ public class OrderPessimisticLockService {
    * 주문 취소 (재고 복원)
    */
   @Transactional
+  @RetryableTransaction
   public Order cancelOrder(Long orderId) {
     // 주문 조회
     Order order = orderRepository.findByIdWithLock(orderId)
@@ -104,9 +131,13 @@ public class OrderPessimisticLockService {
 
     // 주문 취소 및 재고 복원
     order.cancelOrder(product);
+    flashSaleStockGate.restock(product.getProductId(), order.getQuantity());
+    productService.publishStockChanged(product);
 
     // 변경된 주문 저장
     Order save = orderRepository.save(order);
+    entityChangeRecorder.record(ChangedEntityType.PRODUCT, product.getProductId());
+    eventPublisher.publishEvent(OrderSalesChangedEvent.of(save));
     log.info("[OrderPessimisticLockService] 주문 취소: {}", save);
     return save;
   }
@@ -119,4 +150,33 @@ public class OrderPessimisticLockService {
     return orderRepository.findById(orderId)
       .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다. 주문 ID: " + orderId));
   }
+
+  /**
+   * 주문 상태 조회 (엔티티를 만들지 않는 DTO 프로젝션)
+   */
+  @Transactional(readOnly = true)
+  public OrderStatusView getOrderStatus(Long orderId) {
+    return orderRepository.findStatusById(orderId)
+      .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다. 주문 ID: " + orderId));
+  }
+
+  /**
+   * 주문 진행 상태 조회 (주문 + 결제 + 배송, 한 번의 조인 쿼리)
+   */
+  @Transactional(readOnly = true)
+  public OrderFulfillmentView getOrderFulfillment(Long orderId) {
+    return orderRepository.findFulfillmentById(orderId)
+      .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다. 주문 ID: " + orderId));
+  }
+
+  /**
+   * 상태별 주문 목록 조회 (키셋 페이지네이션)
+   * - 다음 페이지는 이전 페이지의 마지막 주문 ID를 afterOrderId 로 넘겨 조회합니다.
+   *
+   * @param afterOrderId 이전 페이지의 마지막 주문 ID (첫 페이지는 null)
+   */
+  @Transactional(readOnly = true)
+  public List<Order> getOrdersByStatus(OrderStatus status, Long afterOrderId, int size) {
+    return orderRepository.findPageByStatus(status, afterOrderId == null ? 0L : afterOrderId, Limit.of(size));
+  }
 }
@@ -1,8 +1,14 @@
 package com.example.transaction.application.service;
 
+import com.example.transaction.application.dispatch.ShipmentDispatchProperties;
 import com.example.transaction.application.repository.Order;
 import com.example.transaction.application.repository.Payment;
-import com.example.transaction.application.repository.PaymentStatus;
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.core.aop.ConcurrencyLimited;
+import com.example.transaction.core.aop.RetryableTransaction;
+import com.example.transaction.core.jfr.SagaStepEvent;
+import com.example.transaction.core.retry.TransientFailureClassifier;
+import com.example.transaction.exception.StockExhaustedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,48 +26,53 @@ public class OrderSagaOrchestrator {
   private final ProductPessimisticLockService productService;
   private final ShipmentService shipmentService;
   private final CompensationService compensationService;
+  private final ShipmentDispatchProperties shipmentDispatchProperties;
 
+  /**
+   * 주문 생성부터 결제, 배송까지 하나의 흐름으로 처리
+   *
+   * @return 처리된 주문
+   */
   @Transactional
-  public void handleOrderSaga(Long productId, int quantity, BigDecimal paymentAmount, String paymentMethod) {
+  @RetryableTransaction
+  @ConcurrencyLimited("orderSaga")
+  public Order handleOrderSaga(Long productId, int quantity, BigDecimal paymentAmount, String paymentMethod) {
     log.info("[OrderSagaOrchestrator] 주문 처리 시작: productId={}, quantity={}, paymentAmount={}, paymentMethod={}",
       productId, quantity, paymentAmount, paymentMethod);
     Order order;
     Payment payment = null;
 
     try {
-      // Step 1: 주문 생성 및 재고 감소, 응답 확인
+      // 각 단계는 실패하면 예외를 던지므로 반환값을 다시 확인하지 않음
+      // Step 1: 주문 생성 및 재고 감소
       order = handleOrderCreation(productId, quantity);
-      if (order == null) {
-        log.warn("[OrderSagaOrchestrator] 주문 생성 실패");
-        throw new RuntimeException("Order creation failed");
-      }
 
-      // Step 2: 결제 요청 생성, 응답 확인
+      // Step 2: 결제 요청 생성 (항상 PENDING 상태로 생성됨)
       payment = handlePaymentCreation(order.getOrderId(), paymentAmount, paymentMethod);
-      if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
-        log.warn("[OrderSagaOrchestrator] 결제 생성 실패 또는 결제가 대기 중이 아님");
-        throw new RuntimeException("Payment creation failed or payment is not pending");
-      }
 
-      // Step 3: 결제 완료 처리, 응답 확인
-      if (!handlePaymentCompletion(order, payment)) {
-        log.warn("[OrderSagaOrchestrator] 결제 완료 처리 실패");
-        throw new RuntimeException("Payment completion failed");
-      }
+      // Step 3: 결제 완료 처리
+      handlePaymentCompletion(order, payment);
 
-      // Step 4: 배송 처리, 응답 확인
-      if (!handleShipment(order)) {
-        log.warn("[OrderSagaOrchestrator] 배송 처리 실패");
-        throw new RuntimeException("Shipment failed");
-      }
+      // Step 4: 배송 처리
+      Shipment shipment = handleShipment(order);
 
-      // Step 5: 배송 완료 후 후속 작업
-      if (!handleShipmentComplement(order)) {
-        log.warn("[OrderSagaOrchestrator] 배송 완료 후 후속 작업 실패");
-        throw new RuntimeException("Shipment complement failed");
+      // Step 5: 배송 완료 후 후속 작업 (발송 워커 사용 시 워커가 비동기로 배송 시작)
+      if (!shipmentDispatchProperties.isEnabled()) {
+        handleShipmentComplement(order, shipment);
       }
 
+      return order;
+    } catch (StockExhaustedException e) {
+      // 한정 판매 허가 소진: DB 작업 전에 거절되었으므로 보상할 내용이 없음
+      log.info("[OrderSagaOrchestrator] 한정 판매 재고 소진으로 주문 거절: productId={}", productId);
+      throw e;
     } catch (Exception e) {
+      if (TransientFailureClassifier.isTransient(e)) {
+        // 락 대기 타임아웃/데드락: 트랜잭션 전체가 롤백되고 @RetryableTransaction 이 새 트랜잭션으로 재시도하므로 보상하지 않음
+        log.warn("[OrderSagaOrchestrator] 일시적 실패로 주문 처리 중단 (재시도 대상): productId={}, quantity={}, cause={}",
+          productId, quantity, e.getMessage());
+        throw new RuntimeException("Order saga failed", e);
+      }
       log.error("[OrderSagaOrchestrator] 주문 처리 실패: productId={}, quantity={}, paymentAmount={}, paymentMethod={}",
         productId, quantity, paymentAmount, paymentMethod, e);
       // 실패 시 보상 트랜잭션 처리 (CompensationService 호출)
@@ -71,50 +82,74 @@ public class OrderSagaOrchestrator {
   }
 
   private Order handleOrderCreation(Long productId, int quantity) {
+    SagaStepEvent stepEvent = SagaStepEvent.start("ORDER_CREATION", productId);
     try {
-      return orderService.createOrder(productId, quantity);
+      Order order = orderService.createOrder(productId, quantity);
+      stepEvent.orderId(order.getOrderId()).setSucceeded(true);
+      return order;
+    } catch (StockExhaustedException e) {
+      // 한정 판매 허가 소진은 감싸지 않고 그대로 전달 (handleOrderSaga 에서 보상 없이 거절)
+      throw e;
     } catch (Exception e) {
       throw new RuntimeException("Failed to create order", e);
+    } finally {
+      stepEvent.commit();
     }
   }
 
   private Payment handlePaymentCreation(Long orderId, BigDecimal paymentAmount, String paymentMethod) {
+    SagaStepEvent stepEvent = SagaStepEvent.start("PAYMENT_CREATION", null).orderId(orderId);
     try {
-      return paymentService.createPayment(orderId, paymentAmount, paymentMethod);
+      Payment payment = paymentService.createPayment(orderId, paymentAmount, paymentMethod);
+      stepEvent.paymentId(payment.getPaymentId()).setSucceeded(true);
+      return payment;
     } catch (Exception e) {
       throw new RuntimeException("Failed to create payment", e);
+    } finally {
+      stepEvent.commit();
     }
   }
 
-  private boolean handlePaymentCompletion(Order order, Payment payment) {
+  private void handlePaymentCompletion(Order order, Payment payment) {
+    SagaStepEvent stepEvent = SagaStepEvent.start("PAYMENT_COMPLETION", order.getProductId())
+      .orderId(order.getOrderId()).paymentId(payment.getPaymentId());
     try {
       paymentService.completePayment(payment.getPaymentId());
       orderService.payForOrder(order.getOrderId());
-      return true;
+      stepEvent.setSucceeded(true);
     } catch (Exception e) {
-      // 결제 실패 시 처리
-      return false;
+      // 결제 실패 시 원인을 유지해야 락 대기 타임아웃/데드락이 재시도 대상으로 판별됨
+      throw new RuntimeException("Failed to complete payment", e);
+    } finally {
+      stepEvent.commit();
     }
   }
 
-  private boolean handleShipment(Order order) {
+  private Shipment handleShipment(Order order) {
+    SagaStepEvent stepEvent = SagaStepEvent.start("SHIPMENT_CREATION", order.getProductId())
+      .orderId(order.getOrderId());
     try {
-      shipmentService.createShipment(order.getOrderId());
-      return true;
+      Shipment shipment = shipmentService.createShipment(order.getOrderId());
+      stepEvent.setSucceeded(true);
+      return shipment;
     } catch (Exception e) {
-      // 배송 실패 시 처리
-      return false;
+      throw new RuntimeException("Failed to create shipment", e);
+    } finally {
+      stepEvent.commit();
     }
   }
 
-  private boolean handleShipmentComplement(Order order) {
+  private void handleShipmentComplement(Order order, Shipment shipment) {
+    SagaStepEvent stepEvent = SagaStepEvent.start("SHIPMENT_COMPLEMENT", order.getProductId())
+      .orderId(order.getOrderId());
     try {
       // 배송 완료 후 추가 작업
-      shipmentService.shipShipment(order.getOrderId());
-      return true;
+      shipmentService.shipShipment(shipment);
+      stepEvent.setSucceeded(true);
     } catch (Exception e) {
-      // 후속 작업 실패 시 처리
-      return false;
+      throw new RuntimeException("Failed to start shipment", e);
+    } finally {
+      stepEvent.commit();
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 판매 상태 변경 이벤트 (결제 / 취소)
+ * - 주문 상태를 변경한 트랜잭션 안에서 발행되며, 판매 요약은 커밋 이후(@TransactionalEventListener)에 반영합니다.
+ *
+ * @param productId   상품 ID
+ * @param orderDate   주문 일시 (판매 요약 구간 기준)
+ * @param status      변경 후 주문 상태 (PAID 또는 CANCELLED)
+ * @param quantity    주문 수량
+ * @param totalAmount 주문 금액
+ */
+public record OrderSalesChangedEvent(Long productId, LocalDateTime orderDate, OrderStatus status, int quantity,
+                                     BigDecimal totalAmount) {
+
+  public static OrderSalesChangedEvent of(Order order) {
+    return new OrderSalesChangedEvent(order.getProductId(), order.getOrderDate(), order.getStatus(),
+      order.getQuantity(), order.getTotalAmount());
+  }
+}
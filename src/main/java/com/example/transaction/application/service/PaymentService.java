@@ -3,6 +3,7 @@ package com.example.transaction.application.service;
 import com.example.transaction.application.repository.Payment;
 import com.example.transaction.application.repository.PaymentRepository;
 import com.example.transaction.application.repository.PaymentStatus;
+import com.example.transaction.application.repository.PaymentStatusView;
 import com.example.transaction.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -111,4 +112,28 @@ public class PaymentService {
     log.info("[PaymentService] 결제 조회: {}", payment);
     return payment;
   }
+
+  /**
+   * 주문의 결제 정보 조회
+   *
+   * @param orderId 주문 ID
+   * @return 가장 최근에 생성된 Payment 객체
+   */
+  @Transactional(readOnly = true)
+  public Payment getPaymentByOrderId(Long orderId) {
+    return paymentRepository.findFirstByOrderIdOrderByPaymentIdDesc(orderId)
+      .orElseThrow(() -> new ResourceNotFoundException("결제 정보를 찾을 수 없습니다. 주문 ID: " + orderId));
+  }
+
+  /**
+   * 결제 상태 조회 (엔티티를 만들지 않는 DTO 프로젝션)
+   *
+   * @param paymentId 결제 ID
+   * @return 결제 상태
+   */
+  @Transactional(readOnly = true)
+  public PaymentStatusView getPaymentStatus(Long paymentId) {
+    return paymentRepository.findStatusById(paymentId)
+      .orElseThrow(() -> new ResourceNotFoundException("결제 정보를 찾을 수 없습니다. 결제 ID: " + paymentId));
+  }
 }
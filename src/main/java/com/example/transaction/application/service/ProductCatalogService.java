@@ -0,0 +1,80 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductAvailability;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.ProductSalesBucket;
+import com.example.transaction.application.repository.ProductSalesSummaryRepository;
+import com.example.transaction.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 상품 조회 (카탈로그 화면)
+ * - 2차 캐시(product 영역)와 쿼리 캐시를 사용하므로 대부분의 조회가 DB 에 접근하지 않습니다.
+ * - 화면 표시용이므로 재고는 참고값입니다. 재고 검증은 주문 시 비관적 락 조회로 수행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductCatalogService {
+
+  /**
+   * IN 쿼리 한 번에 조회할 상품 수
+   */
+  static final int IN_BATCH_SIZE = 500;
+
+  /**
+   * 판매 요약 최대 조회 기간 (시간 단위 구간 744개)
+   */
+  static final Duration MAX_SALES_RANGE = Duration.ofDays(31);
+
+  private final ProductRepository productRepository;
+  private final ProductSalesSummaryRepository productSalesSummaryRepository;
+
+  public Product getProduct(Long productId) {
+    return productRepository.findById(productId)
+      .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다.: " + productId));
+  }
+
+  public Slice<Product> getCatalog(int page, int size) {
+    return productRepository.findCatalog(PageRequest.of(page, size));
+  }
+
+  /**
+   * 여러 상품의 가격/재고를 한 번에 조회 (장바구니 검증 등)
+   * - 중복을 제거하고 ID 순으로 정렬한 뒤 IN_BATCH_SIZE 건씩 나누어 조회하므로, 대부분 한 번의 쿼리로 끝납니다.
+   * - 엔티티가 아닌 DTO 로 조회하므로 영속성 컨텍스트 등록과 변경 감지 비용이 없습니다.
+   * - 존재하지 않는 상품은 결과에서 빠집니다.
+   */
+  public List<ProductAvailability> getAvailability(Collection<Long> productIds) {
+    List<Long> ids = List.copyOf(new TreeSet<>(productIds));
+    List<ProductAvailability> result = new ArrayList<>(ids.size());
+    for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+      result.addAll(productRepository.findAvailabilityByIdIn(ids.subList(from, Math.min(ids.size(), from + IN_BATCH_SIZE))));
+    }
+    return result;
+  }
+
+  /**
+   * 상품의 시간 구간별 판매 요약 조회 ([from, to))
+   * - 주문/결제를 집계하지 않고 요약 테이블에서 구간 수만큼의 행만 읽습니다.
+   * - 최근 구간은 증분 반영 주기(transaction.sales-summary.flush-interval)만큼 늦게 반영될 수 있습니다.
+   */
+  public List<ProductSalesBucket> getSales(Long productId, LocalDateTime from, LocalDateTime to) {
+    if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_SALES_RANGE) > 0) {
+      throw new IllegalArgumentException("조회 기간은 " + MAX_SALES_RANGE.toDays() + "일 이내여야 합니다. from: " + from + ", to: " + to);
+    }
+    return productSalesSummaryRepository.findBuckets(productId, from, to);
+  }
+}
@@ -1,12 +1,17 @@
 package com.example.transaction.application.service;
 
+import com.example.transaction.application.flashsale.FlashSaleStockGate;
+import com.example.transaction.application.invalidation.EntityChangeRecorder;
+import com.example.transaction.application.repository.ChangedEntityType;
 import com.example.transaction.application.repository.Product;
 import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.core.jfr.LockAcquisitionEvent;
 import com.example.transaction.exception.ResourceNotFoundException;
 import jakarta.persistence.LockTimeoutException;
 import jakarta.persistence.PessimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +21,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductPessimisticLockService {
 
   private final ProductRepository productRepository;
+  private final FlashSaleStockGate flashSaleStockGate;
+  private final SoldOutProductIndex soldOutProductIndex;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityChangeRecorder entityChangeRecorder;
 
   /**
    * 재고 감소 (비관적 락 사용)
    */
   @Transactional
   public Product decreaseStock(Long productId, int quantity) {
+    // 품절 상품은 락 조회 없이 거절
+    soldOutProductIndex.rejectIfSoldOut(productId);
     Product product = productRepository.findByIdWithLock(productId)
       .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다.: " + productId)); // 비관락 사용
     if (product.getStockQuantity() < quantity) {
@@ -29,6 +40,8 @@ public class ProductPessimisticLockService {
     }
     product.decreaseStock(quantity);
     Product save = productRepository.save(product);
+    publishStockChanged(save);
+    entityChangeRecorder.record(ChangedEntityType.PRODUCT, productId);
     log.info("[ProductPessimisticLockService] 재고 감소: {}", save);
     return save;  // 재고 변경 후 저장
   }
@@ -42,23 +55,44 @@ public class ProductPessimisticLockService {
       .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다.: " + productId)); // 비관락 사용
     product.increaseStock(quantity);
     Product save = productRepository.save(product);// 재고 복원 후 저장
+    flashSaleStockGate.restock(productId, quantity);
+    publishStockChanged(save);
+    entityChangeRecorder.record(ChangedEntityType.PRODUCT, productId);
     log.info("[ProductPessimisticLockService] 재고 증가: {}", save);
   }
 
 
+  /**
+   * 재고 변경 이벤트 발행
+   * - 변경을 먼저 반영(flush)하여 커밋될 버전을 이벤트에 담습니다. (수신 측은 버전으로 늦게 도착한 이벤트를 무시)
+   * - 이미 락을 잡은 행의 UPDATE 를 앞당길 뿐이므로 SQL 실행 횟수는 같습니다.
+   */
+  public void publishStockChanged(Product product) {
+    productRepository.flush();
+    eventPublisher.publishEvent(
+      new ProductStockChangedEvent(product.getProductId(), product.getStockQuantity(), product.getVersion()));
+  }
+
   /**
    * 비관적 락을 사용한 상품 조회
    */
   @Transactional
   public Product findProductWithLock(Long productId) {
+    // 락 획득 대기 시간을 JFR 이벤트로 기록
+    LockAcquisitionEvent lockEvent = new LockAcquisitionEvent("product", productId);
+    lockEvent.begin();
+    Product product;
     try {
-      Product product = productRepository.findByIdWithLock(productId)
+      product = productRepository.findByIdWithLock(productId)
         .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다."));
-      log.info("[ProductPessimisticLockService] 상품 조회: {}", product);
-      return product;
+      lockEvent.setAcquired(true);
     } catch (PessimisticLockException | LockTimeoutException e) {
       // 비관적 락 예외 처리
       throw new IllegalStateException("다른 프로세스에서 이미 상품을 사용 중입니다. 다시 시도해 주세요.", e);
+    } finally {
+      lockEvent.commit();
     }
+    log.info("[ProductPessimisticLockService] 상품 조회: {}", product);
+    return product;
   }
 }
\ No newline at end of file
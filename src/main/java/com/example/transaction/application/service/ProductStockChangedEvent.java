@@ -0,0 +1,13 @@
+package com.example.transaction.application.service;
+
+/**
+ * 상품 재고 변경 이벤트
+ * - 재고를 변경한 트랜잭션 안에서 발행되며, 수신 측은 커밋 이후(@TransactionalEventListener)에 처리합니다.
+ * - 커밋 이후 이벤트는 트랜잭션마다 다른 스레드에서 처리되어 순서가 뒤바뀔 수 있으므로, 수신 측은 이미 반영한 버전 이하의 이벤트를 무시합니다.
+ *
+ * @param productId     상품 ID
+ * @param stockQuantity 변경 후 재고
+ * @param version       변경 후 상품 버전 ({@link com.example.transaction.application.repository.Product#getVersion()})
+ */
+public record ProductStockChangedEvent(Long productId, int stockQuantity, int version) {
+}
@@ -2,12 +2,16 @@ package com.example.transaction.application.service;
 
 import com.example.transaction.application.repository.Shipment;
 import com.example.transaction.application.repository.ShipmentRepository;
+import com.example.transaction.application.repository.ShipmentStatusView;
 import com.example.transaction.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -48,6 +52,42 @@ public class ShipmentService {
     return save;
   }
 
+  /**
+   * 배송 시작 (생성한 배송을 그대로 전달받아 다시 조회하지 않음)
+   */
+  @Transactional
+  public Shipment shipShipment(Shipment shipment) {
+    shipment.ship();
+    Shipment save = shipmentRepository.save(shipment);
+    log.info("[ShipmentService] 배송 시작: {}", save);
+    return save;
+  }
+
+  /**
+   * 주문의 배송 시작
+   */
+  @Transactional
+  public Shipment shipShipmentByOrderId(Long orderId) {
+    Shipment shipment = shipmentRepository.findByOrderId(orderId)
+      .orElseThrow(() -> new ResourceNotFoundException("배송 정보를 찾을 수 없습니다. 주문 ID: " + orderId));
+    return shipShipment(shipment);
+  }
+
+  /**
+   * 여러 주문의 배송을 한 번의 UPDATE 로 시작 (PENDING 상태인 배송만 변경)
+   *
+   * @return SHIPPED 로 변경된 배송 수
+   */
+  @Transactional
+  public int shipShipmentsByOrderIds(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return 0;
+    }
+    int shipped = shipmentRepository.markShippedByOrderIds(orderIds, LocalDateTime.now());
+    log.info("[ShipmentService] 배송 일괄 시작: 주문 {}건 중 {}건", orderIds.size(), shipped);
+    return shipped;
+  }
+
   /**
    * 배송 취소
    */
@@ -91,4 +131,22 @@ public class ShipmentService {
     log.info("[ShipmentService] 배송 조회: {}", shipment);
     return shipment;
   }
-}
\ No newline at end of file
+
+  /**
+   * 주문의 배송 조회
+   */
+  @Transactional(readOnly = true)
+  public Shipment getShipmentByOrderId(Long orderId) {
+    return shipmentRepository.findByOrderId(orderId)
+      .orElseThrow(() -> new ResourceNotFoundException("배송 정보를 찾을 수 없습니다. 주문 ID: " + orderId));
+  }
+
+  /**
+   * 배송 상태 조회 (엔티티를 만들지 않는 DTO 프로젝션)
+   */
+  @Transactional(readOnly = true)
+  public ShipmentStatusView getShipmentStatus(Long shipmentId) {
+    return shipmentRepository.findStatusById(shipmentId)
+      .orElseThrow(() -> new ResourceNotFoundException("배송 정보를 찾을 수 없습니다. 배송 ID: " + shipmentId));
+  }
+}
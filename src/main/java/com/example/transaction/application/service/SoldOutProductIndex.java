@@ -0,0 +1,100 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.exception.StockExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 품절 상품 인덱스
+ * - 재고가 0 이 된 상품을 커밋 이후에 등록하고, 재고가 복원되면 커밋 이후에 해제합니다.
+ * - 품절 상품에 대한 주문 시도는 락 조회 없이 즉시 거절합니다.
+ * - 이벤트를 발행하지 않는 경로(직접 SQL 등)로 재고가 채워진 경우를 위해 등록된 상품의 재고를 주기적으로 다시 확인합니다.
+ * - 커밋 이후 이벤트는 순서가 뒤바뀌어 도착할 수 있으므로 상품별로 마지막에 반영한 버전을 기억하고, 그 이하 버전의 이벤트는 무시합니다.
+ */
+@Slf4j
+@Component
+public class SoldOutProductIndex {
+
+  private final ProductRepository productRepository;
+  private final Set<Long> soldOutProductIds = ConcurrentHashMap.newKeySet();
+  /**
+   * 상품별 마지막으로 반영한 버전 (같은 상품의 반영은 compute 안에서 순서대로 처리)
+   */
+  private final Map<Long, Integer> appliedVersions = new ConcurrentHashMap<>();
+  private final Counter rejections;
+
+  public SoldOutProductIndex(ProductRepository productRepository, MeterRegistry meterRegistry) {
+    this.productRepository = productRepository;
+    this.rejections = meterRegistry.counter("soldout.rejections");
+    Gauge.builder("soldout.products", soldOutProductIds, Set::size)
+      .description("품절 상품 수")
+      .register(meterRegistry);
+  }
+
+  public boolean isSoldOut(Long productId) {
+    return soldOutProductIds.contains(productId);
+  }
+
+  /**
+   * 품절 상품이면 DB 접근 없이 거절
+   *
+   * @throws StockExhaustedException 품절 상품인 경우
+   */
+  public void rejectIfSoldOut(Long productId) {
+    if (soldOutProductIds.contains(productId)) {
+      rejections.increment();
+      throw new StockExhaustedException("재고가 부족합니다.");
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStockChanged(ProductStockChangedEvent event) {
+    apply(event.productId(), event.stockQuantity(), event.version());
+  }
+
+  private void apply(Long productId, int stockQuantity, int version) {
+    appliedVersions.compute(productId, (id, appliedVersion) -> {
+      if (appliedVersion != null && version <= appliedVersion) {
+        log.debug("[SoldOutProductIndex] 지난 버전의 재고 변경 무시: productId={}, version={}, 반영된 version={}",
+          productId, version, appliedVersion);
+        return appliedVersion;
+      }
+      if (stockQuantity <= 0) {
+        if (soldOutProductIds.add(productId)) {
+          log.info("[SoldOutProductIndex] 품절 등록: productId={}", productId);
+        }
+      } else if (soldOutProductIds.remove(productId)) {
+        log.info("[SoldOutProductIndex] 품절 해제: productId={}, 재고={}", productId, stockQuantity);
+      }
+      return version;
+    });
+  }
+
+  /**
+   * 품절로 등록된 상품 중 재고가 채워진 상품 해제
+   */
+  @Scheduled(fixedDelayString = "${transaction.sold-out.refresh-interval:PT30S}",
+    initialDelayString = "${transaction.sold-out.refresh-interval:PT30S}")
+  public void refresh() {
+    if (soldOutProductIds.isEmpty()) {
+      return;
+    }
+    List<Product> products = productRepository.findAllById(List.copyOf(soldOutProductIds));
+    for (Product product : products) {
+      apply(product.getProductId(), product.getStockQuantity(), product.getVersion());
+    }
+  }
+}
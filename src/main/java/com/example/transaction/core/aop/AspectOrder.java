@@ -0,0 +1,29 @@
+package com.example.transaction.core.aop;
+
+import org.springframework.core.Ordered;
+
+/**
+ * 트랜잭션 관련 Aspect 실행 순서 (값이 작을수록 바깥쪽에서 실행)
+ * - 모든 Aspect 는 트랜잭션 인터셉터(기본 LOWEST_PRECEDENCE)보다 바깥쪽에서 실행됩니다.
+ * - 재시도는 시도마다 새 트랜잭션과 새 측정 컨텍스트를 사용하도록 측정 Aspect 보다 바깥쪽에 위치합니다.
+ */
+public final class AspectOrder {
+
+  /**
+   * {@link ConcurrencyLimitAspect} - 한도를 넘는 요청은 재시도/트랜잭션 이전에 거절
+   */
+  public static final int CONCURRENCY_LIMIT = Ordered.HIGHEST_PRECEDENCE;
+
+  /**
+   * {@link RetryableTransactionAspect}
+   */
+  public static final int RETRY = Ordered.HIGHEST_PRECEDENCE + 100;
+
+  /**
+   * {@link TransactionMethodAspect}
+   */
+  public static final int TRANSACTION_METHOD_CONTEXT = Ordered.HIGHEST_PRECEDENCE + 200;
+
+  private AspectOrder() {
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.transaction.core.aop;
+
+import com.example.transaction.core.limit.AdaptiveConcurrencyLimiter;
+import com.example.transaction.core.limit.ConcurrencyLimitProperties;
+import com.example.transaction.core.limit.ConcurrencyLimiterRegistry;
+import com.example.transaction.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ConcurrencyLimited} 메서드의 동시 실행 수를 제한하는 Aspect
+ * - 재시도와 트랜잭션보다 바깥쪽에서 실행되어, 재시도를 포함한 전체 처리 시간을 지연 표본으로 사용합니다. ({@link AspectOrder})
+ * - 메트릭: concurrency.requests (outcome=accepted | rejected)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(AspectOrder.CONCURRENCY_LIMIT)
+public class ConcurrencyLimitAspect {
+
+  private final ConcurrencyLimitProperties properties;
+  private final ConcurrencyLimiterRegistry limiterRegistry;
+  private final MeterRegistry meterRegistry;
+
+  @Around("@annotation(concurrencyLimited)")
+  public Object limit(ProceedingJoinPoint joinPoint, ConcurrencyLimited concurrencyLimited) throws Throwable {
+    if (!properties.isEnabled()) {
+      return joinPoint.proceed();
+    }
+    AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiter(concurrencyLimited.value());
+    AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+    if (permit == null) {
+      count(limiter.getName(), "rejected");
+      throw new ConcurrencyLimitExceededException(
+        "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요. (한도: " + limiter.getLimit() + ")");
+    }
+    count(limiter.getName(), "accepted");
+    try {
+      return joinPoint.proceed();
+    } finally {
+      limiter.release(permit);
+    }
+  }
+
+  private void count(String name, String outcome) {
+    meterRegistry.counter("concurrency.requests", "name", name, "outcome", outcome).increment();
+  }
+}
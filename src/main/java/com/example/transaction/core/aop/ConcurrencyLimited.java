@@ -0,0 +1,24 @@
+package com.example.transaction.core.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 동시 실행 수를 관측 지연에 따라 적응형으로 제한합니다.
+ * - 한도를 넘는 호출은 대기하지 않고 {@link com.example.transaction.exception.ConcurrencyLimitExceededException}으로 즉시 거절됩니다.
+ *
+ * @see ConcurrencyLimitAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+  /**
+   * 리미터 이름 (같은 이름의 메서드는 한도를 공유)
+   */
+  String value();
+}
@@ -0,0 +1,35 @@
+package com.example.transaction.core.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 데드락, 락 대기 타임아웃, 직렬화 실패로 트랜잭션이 실패하면 새 트랜잭션으로 다시 실행합니다.
+ * - 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않습니다. (바깥 트랜잭션이 이미 롤백 대상이므로)
+ * - 재시도는 메서드 전체를 다시 실행하므로, 트랜잭션 밖의 부수 효과(외부 호출 등)가 없는 메서드에만 사용합니다.
+ *
+ * @see RetryableTransactionAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryableTransaction {
+
+  /**
+   * 최초 실행을 포함한 최대 시도 횟수 (transaction.retry.max-attempts 로 메서드별 재정의 가능)
+   */
+  int maxAttempts() default 3;
+
+  /**
+   * 첫 재시도 전 최대 대기 시간 (밀리초, 시도마다 두 배씩 증가하며 0 ~ 상한 사이에서 무작위로 선택)
+   */
+  long backoffMillis() default 20;
+
+  /**
+   * 재시도 대기 시간 상한 (밀리초)
+   */
+  long maxBackoffMillis() default 500;
+}
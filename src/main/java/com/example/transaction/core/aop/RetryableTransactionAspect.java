@@ -0,0 +1,88 @@
+package com.example.transaction.core.aop;
+
+import com.example.transaction.core.retry.RetryRateLimiter;
+import com.example.transaction.core.retry.TransactionRetryProperties;
+import com.example.transaction.core.retry.TransientFailureClassifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryableTransaction} 메서드를 일시적 실패(데드락, 락 대기 타임아웃, 직렬화 실패) 시 새 트랜잭션으로 다시 실행하는 Aspect
+ * - 트랜잭션 인터셉터보다 바깥쪽에서 실행되므로 시도마다 트랜잭션이 새로 시작됩니다. ({@link AspectOrder})
+ * - 재시도 간격은 지수 백오프 + 전체 지터(0 ~ 상한 사이 무작위)로 여러 요청이 동시에 다시 부딪히지 않도록 합니다.
+ * - 재시도 전 {@link RetryRateLimiter}에서 토큰을 얻지 못하면 재시도하지 않습니다.
+ * - 메트릭: transaction.retry (outcome=retried | recovered | exhausted | throttled)
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(AspectOrder.RETRY)
+public class RetryableTransactionAspect {
+
+  private final TransactionRetryProperties properties;
+  private final RetryRateLimiter retryRateLimiter;
+  private final MeterRegistry meterRegistry;
+
+  @Around("@annotation(retryable)")
+  public Object retry(ProceedingJoinPoint joinPoint, RetryableTransaction retryable) throws Throwable {
+    // 바깥 트랜잭션에 참여하는 경우 재시도해도 같은 (롤백 대상) 트랜잭션이므로 바깥 메서드에 맡김
+    if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+
+    String className = joinPoint.getTarget().getClass().getSimpleName();
+    String methodName = joinPoint.getSignature().getName();
+    int maxAttempts = properties.getMaxAttempts()
+      .getOrDefault(className + "." + methodName, retryable.maxAttempts());
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        Object result = joinPoint.proceed();
+        if (attempt > 1) {
+          count(className, methodName, "recovered");
+          log.info("[RetryableTransactionAspect] {}.{} - {}번째 시도에서 성공", className, methodName, attempt);
+        }
+        return result;
+      } catch (Throwable e) {
+        if (!TransientFailureClassifier.isTransient(e)) {
+          throw e;
+        }
+        if (attempt >= maxAttempts) {
+          count(className, methodName, "exhausted");
+          log.warn("[RetryableTransactionAspect] {}.{} - 재시도 횟수 소진 ({}회 시도)", className, methodName, attempt);
+          throw e;
+        }
+        if (!retryRateLimiter.tryAcquire()) {
+          count(className, methodName, "throttled");
+          log.warn("[RetryableTransactionAspect] {}.{} - 전체 재시도 한도 초과로 재시도하지 않음", className, methodName);
+          throw e;
+        }
+        long backoffMillis = backoffMillis(retryable, attempt);
+        count(className, methodName, "retried");
+        log.warn("[RetryableTransactionAspect] {}.{} - 일시적 실패로 {}ms 후 재시도 ({}/{}): {}",
+          className, methodName, backoffMillis, attempt + 1, maxAttempts, e.toString());
+        Thread.sleep(backoffMillis);
+      }
+    }
+  }
+
+  private static long backoffMillis(RetryableTransaction retryable, int attempt) {
+    long ceiling = Math.min(retryable.maxBackoffMillis(), retryable.backoffMillis() << Math.min(attempt - 1, 20));
+    return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private void count(String className, String methodName, String outcome) {
+    meterRegistry.counter("transaction.retry", "class", className, "method", methodName, "outcome", outcome)
+      .increment();
+  }
+}
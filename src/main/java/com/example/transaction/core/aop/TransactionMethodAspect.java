@@ -0,0 +1,57 @@
+package com.example.transaction.core.aop;
+
+import com.example.transaction.core.metrics.StatementBudgetInspector;
+import com.example.transaction.core.metrics.TransactionMetricsRecorder;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가장 바깥쪽 @Transactional 메서드에 {@link TransactionMethodContext}를 바인딩하는 Aspect
+ * - 트랜잭션 시작(커넥션 획득) 이전부터 측정해야 하므로 트랜잭션 인터셉터보다 먼저 실행됩니다. ({@link AspectOrder})
+ * - 내부에서 호출되는 @Transactional 메서드는 바깥쪽 메서드의 컨텍스트에 합산됩니다.
+ * - 메서드 종료 후 커넥션 사용량 메트릭을 기록하고 SQL 실행 횟수 예산을 검사합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(AspectOrder.TRANSACTION_METHOD_CONTEXT)
+public class TransactionMethodAspect {
+
+  private final TransactionMetricsRecorder metricsRecorder;
+  private final StatementBudgetInspector statementBudgetInspector;
+
+  @Pointcut("@annotation(org.springframework.transaction.annotation.Transactional)")
+  private void transactionalMethod() {
+  }
+
+  @Around("transactionalMethod()")
+  public Object bindContext(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (TransactionMethodContext.current() != null) {
+      return joinPoint.proceed();
+    }
+
+    TransactionMethodContext context = new TransactionMethodContext(
+      joinPoint.getTarget().getClass().getSimpleName(), joinPoint.getSignature().getName());
+    TransactionMethodContext.bind(context);
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      complete(context, false);
+      throw e;
+    }
+    complete(context, true);
+    return result;
+  }
+
+  private void complete(TransactionMethodContext context, boolean completed) {
+    TransactionMethodContext.unbind();
+    metricsRecorder.record(context);
+    statementBudgetInspector.inspect(context, completed);
+  }
+}
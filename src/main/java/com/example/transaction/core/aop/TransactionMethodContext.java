@@ -0,0 +1,113 @@
+package com.example.transaction.core.aop;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 가장 바깥쪽 @Transactional 메서드 단위로 커넥션 사용량과 SQL 실행 통계를 집계하는 컨텍스트
+ * - {@link TransactionMethodAspect}가 메서드 진입 시 현재 스레드에 바인딩하고, 종료 시 해제합니다.
+ * - 트랜잭션은 스레드에 묶여 실행되므로 별도의 동기화 없이 같은 스레드에서만 갱신됩니다.
+ */
+@Getter
+public class TransactionMethodContext {
+
+  private static final ThreadLocal<TransactionMethodContext> CURRENT = new ThreadLocal<>();
+
+  private final String className;
+  private final String methodName;
+  private final long startNanos;
+
+  private int connectionCount;
+  private long connectionAcquireNanos;
+  private long connectionHeldNanos;
+  /**
+   * 메서드 시작(트랜잭션 시작 직전)부터 첫 SQL 실행까지 걸린 시간 (SQL 을 실행하지 않았으면 -1)
+   * - 커넥션 획득은 첫 SQL 실행 시점까지 미뤄지므로(LazyConnectionDataSourceProxy) 커넥션 기준이 아니라 트랜잭션 시작 기준으로 측정합니다.
+   */
+  private long firstStatementDelayNanos = -1;
+  private long statementNanos;
+  private int statementCount;
+  private long rowCount;
+  /**
+   * SQL 문자열별 실행 횟수 (N+1 감지용)
+   */
+  private final Map<String, Integer> statementCountsBySql = new HashMap<>();
+
+  TransactionMethodContext(String className, String methodName) {
+    this.className = className;
+    this.methodName = methodName;
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * 현재 스레드에서 실행 중인 가장 바깥쪽 @Transactional 메서드의 컨텍스트 (없으면 null)
+   */
+  public static TransactionMethodContext current() {
+    return CURRENT.get();
+  }
+
+  static void bind(TransactionMethodContext context) {
+    CURRENT.set(context);
+  }
+
+  static void unbind() {
+    CURRENT.remove();
+  }
+
+  /**
+   * 커넥션 풀에서 커넥션을 빌려오는 데 걸린 시간 기록
+   */
+  public void onConnectionAcquired(long acquireNanos) {
+    connectionCount++;
+    connectionAcquireNanos += acquireNanos;
+  }
+
+  /**
+   * 커넥션 반납 시 점유 시간 기록
+   */
+  public void onConnectionReleased(long heldNanos) {
+    this.connectionHeldNanos += heldNanos;
+  }
+
+  /**
+   * SQL 실행 기록
+   *
+   * @param sql          실행한 SQL (알 수 없으면 null)
+   * @param elapsedNanos 실행 시간
+   */
+  public void onStatementExecuted(String sql, long elapsedNanos) {
+    if (statementCount == 0) {
+      firstStatementDelayNanos = Math.max(0L, System.nanoTime() - elapsedNanos - startNanos);
+    }
+    statementCount++;
+    statementNanos += elapsedNanos;
+    if (sql != null) {
+      statementCountsBySql.merge(sql, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * 조회되거나 변경된 행 수 기록
+   */
+  public void onRows(long rows) {
+    if (rows > 0) {
+      rowCount += rows;
+    }
+  }
+
+  /**
+   * 커넥션 점유 시간 중 SQL 을 실행하지 않은(유휴) 시간의 비율 (0.0 ~ 1.0)
+   */
+  public double idleRatio() {
+    if (connectionHeldNanos <= 0) {
+      return 0.0;
+    }
+    return Math.max(0.0, 1.0 - (double) statementNanos / connectionHeldNanos);
+  }
+
+  public String getMethodKey() {
+    return className + "." + methodName;
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.transaction.core.aop;
 
 import com.example.transaction.core.listner.TransactionMonitoringListener;
+import com.example.transaction.core.sampling.TransactionSamplingPolicy;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Version;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,8 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class TransactionMonitoringAspect {
 
+  private final TransactionSamplingPolicy samplingPolicy;
+
   // 트랜잭션 메서드 포인트컷 (Transactional 어노테이션이 있는 경우)
   @Pointcut("@annotation(org.springframework.transaction.annotation.Transactional)")
   private void transactionalMethod() {
@@ -38,6 +41,13 @@ public class TransactionMonitoringAspect {
     String className = joinPoint.getTarget().getClass().getSimpleName();
     String methodName = joinPoint.getSignature().getName();
 
+    // 헤드 샘플링: 추적 대상이 아니면 리플렉션 및 로그 출력을 생략하고 리스너만 등록 (롤백/지연 시 테일 샘플링)
+    if (!samplingPolicy.sampleOnStart(className, methodName)) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionMonitoringListener(className, methodName, samplingPolicy, false));
+      return;
+    }
+
     // @Transactional이 있는지 확인한 후에 트랜잭션 정보를 추출
     TransactionDefinition def = extractTransactionDefinition(joinPoint);
     if (def != null) {
@@ -57,7 +67,8 @@ public class TransactionMonitoringAspect {
       }
 
       // 트랜잭션 모니터링 리스너를 등록
-      TransactionMonitoringListener listener = new TransactionMonitoringListener(className, methodName);
+      TransactionMonitoringListener listener =
+        new TransactionMonitoringListener(className, methodName, samplingPolicy, true);
       TransactionSynchronizationManager.registerSynchronization(listener);
 
       log.info("트랜잭션 모니터링 리스너가 등록되었습니다 - 클래스: {}, 메서드: {}", className, methodName);
@@ -0,0 +1,49 @@
+package com.example.transaction.core.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 설정
+ * - Hibernate 가 직접 CacheManager 를 만들지 않고 이 빈을 사용하도록 하여,
+ *   애플리케이션 컨텍스트가 닫힐 때 캐시도 함께 닫히고 캐시 영역별 메트릭(cache.gets, cache.puts, cache.evictions)을 등록할 수 있게 합니다.
+ *   (JCache 기본 CacheManager 는 JVM 전역이므로 닫지 않으면 컨텍스트가 바뀌어도 이전 데이터가 남습니다.)
+ * - 영역별 크기/만료 설정은 application.conf 에 있습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfig {
+
+  /**
+   * 메트릭을 등록할 캐시 영역 (엔티티 영역 + 쿼리 캐시 영역)
+   */
+  static final List<String> REGIONS = List.of(
+    "product", "default-query-results-region", "default-update-timestamps-region");
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(MeterRegistry meterRegistry) {
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    for (String region : REGIONS) {
+      Cache<Object, Object> cache = cacheManager.getCache(region);
+      if (cache != null) {
+        JCacheMetrics.monitor(meterRegistry, cache, Tags.of("cacheManager", "hibernate"));
+      }
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+    return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.transaction.core.config;
+
+import com.example.transaction.core.datasource.ReadWriteRoutingDataSource;
+import com.example.transaction.core.datasource.ReadYourWritesCookie;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource 설정 (transaction.datasource.replica.enabled=true 인 경우)
+ * - 프라이머리: spring.datasource.*
+ * - 레플리카: transaction.datasource.replica.* (jdbc-url, username, password 등 Hikari 설정)
+ * - 실제 커넥션은 첫 SQL 실행 시점에 획득하도록 LazyConnectionDataSourceProxy 로 감싸서 라우팅합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "transaction.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+      .type(HikariDataSource.class)
+      .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("transaction.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    HikariDataSource dataSource = DataSourceBuilder.create()
+      .type(HikariDataSource.class)
+      .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+    @Qualifier("primaryDataSource") DataSource primaryDataSource,
+    @Qualifier("replicaDataSource") DataSource replicaDataSource,
+    @Value("${transaction.datasource.replica.read-your-writes-window:0s}") Duration readYourWritesWindow) {
+    return new LazyConnectionDataSourceProxy(
+      new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, new ReadYourWritesCookie(readYourWritesWindow)));
+  }
+}
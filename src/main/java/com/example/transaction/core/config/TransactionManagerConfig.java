@@ -0,0 +1,28 @@
+package com.example.transaction.core.config;
+
+import com.example.transaction.core.manager.LoggingJpaTransactionManager;
+import com.example.transaction.core.watchdog.TransactionWatchdog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 트랜잭션 매니저 설정
+ * - 기본 JpaTransactionManager 대신 {@link LoggingJpaTransactionManager}를 등록하여
+ *   트랜잭션 시작/종료 시점의 훅(감시 등록 등)을 사용합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TransactionManagerConfig {
+
+  @Bean
+  public PlatformTransactionManager transactionManager(
+    ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+    TransactionWatchdog transactionWatchdog) {
+    LoggingJpaTransactionManager transactionManager = new LoggingJpaTransactionManager();
+    transactionManager.setTransactionWatchdog(transactionWatchdog);
+    transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+    return transactionManager;
+  }
+}
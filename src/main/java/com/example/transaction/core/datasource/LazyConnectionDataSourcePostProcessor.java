@@ -0,0 +1,40 @@
+package com.example.transaction.core.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 를 LazyConnectionDataSourceProxy 로 감싸 커넥션 획득을 첫 SQL 실행 시점까지 미루는 BeanPostProcessor
+ * - 트랜잭션 매니저가 트랜잭션 시작 시 수행하는 커넥션 준비 작업(autoCommit, readOnly, 격리 수준 설정)은
+ *   프록시에 기록되었다가 실제 커넥션을 획득할 때 적용되므로, SQL 을 실행하기 전의 로직(검증, 로그 등)이
+ *   커넥션을 점유하지 않습니다.
+ * - 커넥션 측정({@link com.example.transaction.core.jdbc.InstrumentedDataSourcePostProcessor})보다 나중에 적용되어야
+ *   실제 커넥션 획득 시점이 측정됩니다.
+ * - 레플리카 라우팅을 사용하는 경우 dataSource 가 이미 LazyConnectionDataSourceProxy 이므로 감싸지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction.datasource", name = "lazy-acquisition", havingValue = "true")
+public class LazyConnectionDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+  private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (DATA_SOURCE_BEAN_NAME.equals(beanName)
+      && bean instanceof DataSource dataSource
+      && !(bean instanceof LazyConnectionDataSourceProxy)) {
+      return new LazyConnectionDataSourceProxy(dataSource);
+    }
+    return bean;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.transaction.core.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 DataSource
+ * - 트랜잭션 동기화 정보(읽기 전용 여부)가 준비된 뒤에 라우팅해야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * - 레플리카 지연 대응: 같은 클라이언트가 쓰기 트랜잭션을 커밋한 직후 readYourWritesWindow 동안은 읽기 전용 트랜잭션도 프라이머리로 보냅니다.
+ *   마지막 커밋 시각은 {@link ReadYourWritesCookie} 로 클라이언트에 전달되므로 요청이 다른 스레드에서 처리되어도 유지됩니다.
+ * - 레플리카 커넥션 획득에 실패하면 프라이머리로 대체합니다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final DataSource primaryDataSource;
+  private final ReadYourWritesCookie readYourWrites;
+
+  public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                    ReadYourWritesCookie readYourWrites) {
+    this.primaryDataSource = primaryDataSource;
+    this.readYourWrites = readYourWrites;
+    setTargetDataSources(Map.of(DataSourceType.PRIMARY, primaryDataSource, DataSourceType.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(primaryDataSource);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.recentlyWrote()) {
+      return DataSourceType.REPLICA;
+    }
+    if (readYourWrites.isEnabled() && TransactionSynchronizationManager.isSynchronizationActive()) {
+      // 쓰기 가능한 트랜잭션이 커밋되면 클라이언트에 마지막 쓰기 시각을 전달
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          readYourWrites.markWriteCommitted();
+        }
+      });
+    }
+    return DataSourceType.PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Object lookupKey = determineCurrentLookupKey();
+    if (lookupKey != DataSourceType.REPLICA) {
+      return primaryDataSource.getConnection();
+    }
+    try {
+      return determineTargetDataSource().getConnection();
+    } catch (SQLException e) {
+      log.warn("[ReadWriteRoutingDataSource] 레플리카 커넥션 획득 실패, 프라이머리로 대체합니다", e);
+      return primaryDataSource.getConnection();
+    }
+  }
+
+  public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.transaction.core.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * read-your-writes 판단용 마지막 쓰기 커밋 시각
+ * - 쓰기 트랜잭션이 커밋되면 응답 쿠키(마지막 커밋 시각, epoch 밀리초)로 클라이언트에 전달하고,
+ *   이후 요청은 그 쿠키로 창(window) 안에 쓴 적이 있는지 판단합니다.
+ *   스레드가 아니라 클라이언트에 묶이므로 요청마다 다른 스레드(가상 스레드 포함)나 다른 노드에서 처리되어도 유지되고,
+ *   풀 스레드에 남는 상태도 없습니다.
+ * - 같은 요청 안의 후속 트랜잭션을 위해 요청 속성에도 기록합니다.
+ * - 요청 밖(스케줄러, 워커 등)에서는 기록하지 않으므로 쓰기 직후 읽어야 하는 작업은 읽기 전용으로 선언하지 않아야 합니다.
+ */
+public class ReadYourWritesCookie {
+
+  public static final String COOKIE_NAME = "last-write-at";
+
+  private static final String ATTRIBUTE_NAME = ReadYourWritesCookie.class.getName() + ".LAST_WRITE_AT";
+
+  private final long windowMillis;
+  private final Clock clock;
+
+  public ReadYourWritesCookie(Duration window) {
+    this(window, Clock.systemUTC());
+  }
+
+  ReadYourWritesCookie(Duration window, Clock clock) {
+    this.windowMillis = window.toMillis();
+    this.clock = clock;
+  }
+
+  public boolean isEnabled() {
+    return windowMillis > 0;
+  }
+
+  /**
+   * 현재 요청의 클라이언트가 창 안에 쓰기를 커밋했는지 여부 (요청 밖이면 false)
+   */
+  public boolean recentlyWrote() {
+    if (!isEnabled()) {
+      return false;
+    }
+    ServletRequestAttributes attributes = currentRequestAttributes();
+    if (attributes == null) {
+      return false;
+    }
+    Long lastWriteAt = (Long) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    if (lastWriteAt == null) {
+      lastWriteAt = readCookie(attributes.getRequest());
+    }
+    if (lastWriteAt == null) {
+      return false;
+    }
+    long elapsed = clock.millis() - lastWriteAt;
+    // 노드 간 시계 차이로 미래 시각이 올 수 있으므로 음수도 창 안으로 취급
+    return elapsed < windowMillis;
+  }
+
+  /**
+   * 쓰기 트랜잭션 커밋 후 호출 (요청 속성과 응답 쿠키에 커밋 시각 기록)
+   */
+  public void markWriteCommitted() {
+    ServletRequestAttributes attributes = currentRequestAttributes();
+    if (attributes == null) {
+      return;
+    }
+    long now = clock.millis();
+    attributes.setAttribute(ATTRIBUTE_NAME, now, RequestAttributes.SCOPE_REQUEST);
+    HttpServletResponse response = attributes.getResponse();
+    if (response == null || response.isCommitted()) {
+      return;
+    }
+    Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now));
+    cookie.setPath("/");
+    cookie.setHttpOnly(true);
+    cookie.setMaxAge((int) Math.max(1, Duration.ofMillis(windowMillis).toSeconds() + 1));
+    response.addCookie(cookie);
+  }
+
+  private Long readCookie(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static ServletRequestAttributes currentRequestAttributes() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes : null;
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.transaction.core.jdbc;
+
+import com.example.transaction.core.aop.TransactionMethodContext;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * 커넥션 점유 시간과 SQL 실행 통계를 측정하는 Connection 프록시 핸들러
+ * - 커넥션에서 생성된 Statement 도 프록시로 감싸 execute* 호출 횟수, 시간, 처리 행 수를 기록합니다.
+ * - 반납(close) 시 점유 시간을 {@link TransactionMethodContext}에 기록합니다.
+ * - @Transactional 메서드 밖에서 획득한 커넥션(context == null)은 점유 시간만 감싸고 통계는 기록하지 않습니다.
+ */
+class InstrumentedConnectionHandler implements InvocationHandler {
+
+  private final Connection target;
+  private final TransactionMethodContext context;
+  private final long acquiredNanos;
+  private boolean released;
+
+  InstrumentedConnectionHandler(Connection target, TransactionMethodContext context, long acquiredNanos) {
+    this.target = target;
+    this.context = context;
+    this.acquiredNanos = acquiredNanos;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    String name = method.getName();
+    switch (name) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Instrumented[" + target + "]";
+      case "close":
+        release();
+        break;
+      default:
+        break;
+    }
+
+    Object result = invokeTarget(target, method, args);
+    if (context != null && result instanceof Statement statement) {
+      // prepareStatement/prepareCall 은 첫 번째 인자가 SQL
+      String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+      return wrap(statement, sql);
+    }
+    return result;
+  }
+
+  private void release() {
+    if (released) {
+      return;
+    }
+    released = true;
+    if (context != null) {
+      context.onConnectionReleased(System.nanoTime() - acquiredNanos);
+    }
+  }
+
+  private Statement wrap(Statement statement, String sql) {
+    Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+      : statement instanceof PreparedStatement ? PreparedStatement.class
+      : Statement.class;
+    return (Statement) Proxy.newProxyInstance(
+      InstrumentedConnectionHandler.class.getClassLoader(),
+      new Class<?>[]{type},
+      new InstrumentedStatementHandler(statement, sql, context));
+  }
+
+  static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.example.transaction.core.jdbc;
+
+import com.example.transaction.core.aop.TransactionMethodContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 획득 대기 시간과 점유 시간을 측정하는 DataSource
+ * - 커넥션 풀(HikariDataSource)을 감싸며, 측정 결과는 현재 스레드의 {@link TransactionMethodContext}에 기록됩니다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+  public InstrumentedDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long startNanos = System.nanoTime();
+    Connection connection = super.getConnection();
+    return instrument(connection, startNanos);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long startNanos = System.nanoTime();
+    Connection connection = super.getConnection(username, password);
+    return instrument(connection, startNanos);
+  }
+
+  private Connection instrument(Connection connection, long startNanos) {
+    long acquiredNanos = System.nanoTime();
+    TransactionMethodContext context = TransactionMethodContext.current();
+    if (context != null) {
+      context.onConnectionAcquired(acquiredNanos - startNanos);
+    }
+    return (Connection) Proxy.newProxyInstance(
+      InstrumentedDataSource.class.getClassLoader(),
+      new Class<?>[]{Connection.class},
+      new InstrumentedConnectionHandler(connection, context, acquiredNanos));
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.transaction.core.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀(HikariDataSource) 빈을 {@link InstrumentedDataSource}로 감싸는 BeanPostProcessor
+ * - 풀 바로 위에서 측정해야 획득 대기 시간과 실제 점유 시간이 정확하게 기록됩니다.
+ */
+@Component
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof HikariDataSource dataSource) {
+      return new InstrumentedDataSource(dataSource);
+    }
+    return bean;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
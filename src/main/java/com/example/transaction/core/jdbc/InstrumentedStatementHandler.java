@@ -0,0 +1,101 @@
+package com.example.transaction.core.jdbc;
+
+import com.example.transaction.core.aop.TransactionMethodContext;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Statement 의 execute* 호출 횟수, 실행 시간, 처리 행 수를 기록하는 프록시 핸들러
+ * - 변경 행 수는 executeUpdate/executeBatch 의 반환값으로, 조회 행 수는 ResultSet.next() 호출로 집계합니다.
+ */
+class InstrumentedStatementHandler implements InvocationHandler {
+
+  private final Statement target;
+  private final String preparedSql;
+  private final TransactionMethodContext context;
+
+  InstrumentedStatementHandler(Statement target, String preparedSql, TransactionMethodContext context) {
+    this.target = target;
+    this.preparedSql = preparedSql;
+    this.context = context;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    String name = method.getName();
+    switch (name) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Instrumented[" + target + "]";
+      case "getResultSet":
+        return wrap((ResultSet) InstrumentedConnectionHandler.invokeTarget(target, method, args));
+      default:
+        break;
+    }
+
+    if (!name.startsWith("execute")) {
+      return InstrumentedConnectionHandler.invokeTarget(target, method, args);
+    }
+
+    // Statement.execute(sql) 계열은 첫 번째 인자가 SQL
+    String sql = preparedSql != null ? preparedSql
+      : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+    long startNanos = System.nanoTime();
+    Object result;
+    try {
+      result = InstrumentedConnectionHandler.invokeTarget(target, method, args);
+    } finally {
+      context.onStatementExecuted(sql, System.nanoTime() - startNanos);
+    }
+    return countRows(result);
+  }
+
+  private Object countRows(Object result) {
+    if (result instanceof ResultSet resultSet) {
+      return wrap(resultSet);
+    }
+    if (result instanceof Integer updateCount) {
+      context.onRows(updateCount);
+    } else if (result instanceof Long updateCount) {
+      context.onRows(updateCount);
+    } else if (result instanceof int[] updateCounts) {
+      for (int updateCount : updateCounts) {
+        context.onRows(updateCount);
+      }
+    } else if (result instanceof long[] updateCounts) {
+      for (long updateCount : updateCounts) {
+        context.onRows(updateCount);
+      }
+    }
+    return result;
+  }
+
+  private ResultSet wrap(ResultSet resultSet) {
+    if (resultSet == null) {
+      return null;
+    }
+    return (ResultSet) Proxy.newProxyInstance(
+      InstrumentedStatementHandler.class.getClassLoader(),
+      new Class<?>[]{ResultSet.class},
+      (proxy, method, args) -> {
+        if ("equals".equals(method.getName())) {
+          return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName())) {
+          return System.identityHashCode(proxy);
+        }
+        Object result = InstrumentedConnectionHandler.invokeTarget(resultSet, method, args);
+        if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+          context.onRows(1);
+        }
+        return result;
+      });
+  }
+}
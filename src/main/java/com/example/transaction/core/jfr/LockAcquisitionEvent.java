@@ -0,0 +1,35 @@
+package com.example.transaction.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 비관적 락 획득 대기 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.example.transaction.LockAcquisition")
+@Label("Pessimistic Lock Acquisition")
+@Category({"Spring Transaction", "Lock"})
+@Description("SELECT ... FOR UPDATE 로 행 락을 획득하기까지 걸린 시간")
+public class LockAcquisitionEvent extends Event {
+
+  @Label("Entity")
+  private String entity;
+
+  @Label("Key")
+  private long key;
+
+  @Label("Acquired")
+  private boolean acquired;
+
+  public LockAcquisitionEvent(String entity, Long key) {
+    this.entity = entity;
+    this.key = key == null ? 0L : key;
+  }
+
+  public void setAcquired(boolean acquired) {
+    this.acquired = acquired;
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.transaction.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 사가의 각 단계 실행 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.example.transaction.SagaStep")
+@Label("Order Saga Step")
+@Category({"Spring Transaction", "Saga"})
+@Description("주문 사가 단계별 실행 시간")
+@StackTrace(false)
+public class SagaStepEvent extends Event {
+
+  @Label("Step")
+  private String step;
+
+  @Label("Product Id")
+  private long productId;
+
+  @Label("Order Id")
+  private long orderId;
+
+  @Label("Payment Id")
+  private long paymentId;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private SagaStepEvent(String step, long productId) {
+    this.step = step;
+    this.productId = productId;
+  }
+
+  /**
+   * 단계 시작 (구간 측정 시작)
+   */
+  public static SagaStepEvent start(String step, Long productId) {
+    SagaStepEvent event = new SagaStepEvent(step, productId == null ? 0L : productId);
+    event.begin();
+    return event;
+  }
+
+  public SagaStepEvent orderId(Long orderId) {
+    this.orderId = orderId == null ? 0L : orderId;
+    return this;
+  }
+
+  public SagaStepEvent paymentId(Long paymentId) {
+    this.paymentId = paymentId == null ? 0L : paymentId;
+    return this;
+  }
+
+  public void setSucceeded(boolean succeeded) {
+    this.succeeded = succeeded;
+  }
+}
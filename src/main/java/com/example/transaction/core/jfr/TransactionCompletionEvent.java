@@ -0,0 +1,37 @@
+package com.example.transaction.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 트랜잭션 커밋 또는 롤백 처리(doCommit/doRollback) 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.example.transaction.TransactionCompletion")
+@Label("Transaction Commit/Rollback")
+@Category({"Spring Transaction", "Transaction"})
+@Description("트랜잭션 커밋 또는 롤백 처리에 걸린 시간")
+@StackTrace(false)
+public class TransactionCompletionEvent extends Event {
+
+  @Label("Transaction Id")
+  private long transactionId;
+
+  @Label("Outcome")
+  private String outcome;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  public TransactionCompletionEvent(long transactionId, String outcome) {
+    this.transactionId = transactionId;
+    this.outcome = outcome;
+  }
+
+  public void setSucceeded(boolean succeeded) {
+    this.succeeded = succeeded;
+  }
+}
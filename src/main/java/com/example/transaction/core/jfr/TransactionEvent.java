@@ -0,0 +1,53 @@
+package com.example.transaction.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 물리 트랜잭션 하나의 시작부터 정리(cleanup)까지를 기록하는 JFR 이벤트
+ */
+@Name("com.example.transaction.Transaction")
+@Label("Transaction")
+@Category({"Spring Transaction", "Transaction"})
+@Description("트랜잭션 시작부터 커밋/롤백 후 정리까지의 구간")
+@StackTrace(false)
+public class TransactionEvent extends Event {
+
+  @Label("Transaction Id")
+  private long transactionId;
+
+  @Label("Name")
+  private String name;
+
+  @Label("Propagation")
+  private String propagation;
+
+  @Label("Isolation")
+  private String isolation;
+
+  @Label("Read Only")
+  private boolean readOnly;
+
+  @Label("Outcome")
+  private String outcome = "UNKNOWN";
+
+  public TransactionEvent(long transactionId, String name, String propagation, String isolation, boolean readOnly) {
+    this.transactionId = transactionId;
+    this.name = name;
+    this.propagation = propagation;
+    this.isolation = isolation;
+    this.readOnly = readOnly;
+  }
+
+  public long getTransactionId() {
+    return transactionId;
+  }
+
+  public void setOutcome(String outcome) {
+    this.outcome = outcome;
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.transaction.core.jpa;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 대량 조회용 Stream 쿼리 지원
+ * - Stream 을 반환하는 리포지토리 메서드는 트랜잭션 안에서 호출해야 하며, 다 읽을 때까지 커넥션을 점유합니다.
+ * - MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 가져옵니다. (그 외에는 전체 결과를 메모리에 적재)
+ *   이 방식은 결과를 다 읽기 전까지 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 처리 중 지연 로딩이나 쓰기를 하면 안 됩니다.
+ * - 읽기 전용 힌트를 주더라도 조회한 엔티티는 영속성 컨텍스트에 쌓이므로 일정 건수마다 비워야 메모리 사용량이 일정하게 유지됩니다.
+ */
+public final class StreamingQueries {
+
+  /**
+   * MySQL 행 단위 스트리밍을 위한 fetch size (Integer.MIN_VALUE)
+   */
+  public static final String MYSQL_STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+  /**
+   * 영속성 컨텍스트를 비우는 기본 간격
+   */
+  public static final int DEFAULT_CLEAR_INTERVAL = 1_000;
+
+  private StreamingQueries() {
+  }
+
+  /**
+   * Stream 의 모든 요소를 처리하면서 clearInterval 건마다 영속성 컨텍스트를 비움
+   * - 비우기 전에 반영되지 않은 변경도 함께 버려지므로 읽기 전용 처리에만 사용합니다.
+   *
+   * @return 처리한 건수
+   */
+  public static <T> long forEach(EntityManager entityManager, Stream<T> stream, int clearInterval,
+                                 Consumer<? super T> action) {
+    if (clearInterval <= 0) {
+      throw new IllegalArgumentException("clearInterval은 0보다 커야 합니다.");
+    }
+    long count = 0;
+    try (stream) {
+      Iterator<T> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        action.accept(iterator.next());
+        if (++count % clearInterval == 0) {
+          entityManager.clear();
+        }
+      }
+    }
+    entityManager.clear();
+    return count;
+  }
+
+  public static <T> long forEach(EntityManager entityManager, Stream<T> stream, Consumer<? super T> action) {
+    return forEach(entityManager, stream, DEFAULT_CLEAR_INTERVAL, action);
+  }
+}
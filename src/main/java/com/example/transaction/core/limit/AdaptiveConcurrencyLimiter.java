@@ -0,0 +1,132 @@
+package com.example.transaction.core.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 처리 지연으로 동시 처리 한도를 조정하는 적응형 리미터 (Gradient 알고리즘)
+ * - 윈도우마다 평균 지연(shortRtt)을 장기 지수 이동 평균(longRtt)과 비교합니다.
+ *   gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + sqrt(limit)
+ * - 지연이 늘면 gradient 가 1 보다 작아져 한도가 줄고, 지연이 안정되면 sqrt(limit) 만큼씩 늘어납니다.
+ * - 동시 처리 수가 한도의 절반에도 못 미친 윈도우에서는 한도를 올리지 않습니다. (부하가 없어 측정 근거가 없음)
+ * - 한도를 넘는 요청은 대기열에 넣지 않고 즉시 거절합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final String name;
+  private final int minLimit;
+  private final int maxLimit;
+  private final int windowSize;
+  private final double rttTolerance;
+  private final double smoothing;
+  private final double longRttAlpha;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+
+  // 아래 필드는 onSample 에서만 접근 (synchronized)
+  private double estimatedLimit;
+  private double longRtt;
+  private long windowRttSum;
+  private int windowCount;
+  private int windowMaxInFlight;
+
+  public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties properties) {
+    this(name, properties, properties.getInitialLimit(), properties.getMaxLimit());
+  }
+
+  /**
+   * @param initialLimit 초기 한도 (설정값 대신 사용)
+   * @param maxLimit     최대 한도 (설정값 대신 사용, 커넥션 풀 크기 반영)
+   */
+  public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties properties, int initialLimit, int maxLimit) {
+    this.name = name;
+    this.minLimit = properties.getMinLimit();
+    this.maxLimit = maxLimit;
+    this.windowSize = properties.getWindowSize();
+    this.rttTolerance = properties.getRttTolerance();
+    this.smoothing = properties.getSmoothing();
+    this.longRttAlpha = 2.0 / (properties.getLongWindowCount() + 1);
+    this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.limit = (int) estimatedLimit;
+  }
+
+  /**
+   * 처리 허가 획득
+   *
+   * @return 허가 (한도를 넘으면 null)
+   */
+  public Permit tryAcquire() {
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= limit) {
+        return null;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return new Permit(System.nanoTime(), current + 1);
+  }
+
+  /**
+   * 처리 완료 후 허가 반납 및 지연 표본 기록
+   */
+  public void release(Permit permit) {
+    inFlight.decrementAndGet();
+    onSample(System.nanoTime() - permit.startNanos(), permit.inFlight());
+  }
+
+  synchronized void onSample(long rttNanos, int inFlightAtStart) {
+    windowRttSum += rttNanos;
+    windowCount++;
+    windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+    if (windowCount < windowSize) {
+      return;
+    }
+
+    double shortRtt = (double) windowRttSum / windowCount;
+    int maxInFlight = windowMaxInFlight;
+    windowRttSum = 0;
+    windowCount = 0;
+    windowMaxInFlight = 0;
+
+    if (longRtt == 0) {
+      longRtt = shortRtt;
+    } else {
+      longRtt += (shortRtt - longRtt) * longRttAlpha;
+    }
+    // 지연이 크게 줄어든 회복 구간에서는 장기 평균이 빨리 따라오도록 감소
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+    if (gradient >= 1.0 && maxInFlight < estimatedLimit / 2) {
+      return;
+    }
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * 처리 허가
+   *
+   * @param startNanos 허가 획득 시각
+   * @param inFlight   허가 획득 직후 동시 처리 수
+   */
+  public record Permit(long startNanos, int inFlight) {
+  }
+}
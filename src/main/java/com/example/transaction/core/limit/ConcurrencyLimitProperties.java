@@ -0,0 +1,55 @@
+package com.example.transaction.core.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적응형 동시 처리 한도 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  /**
+   * 한도 적용 여부 (false: 측정만 하지 않고 모두 통과)
+   */
+  private boolean enabled = true;
+
+  /**
+   * 초기 한도
+   */
+  private int initialLimit = 20;
+
+  /**
+   * 최소 한도 (지연이 아무리 커져도 이 수만큼은 처리)
+   */
+  private int minLimit = 4;
+
+  /**
+   * 최대 한도 (0 이면 커넥션 풀 크기 spring.datasource.hikari.maximum-pool-size 사용)
+   * - 풀 크기보다 크면 풀 대기만 늘어나므로 기동 시 거부합니다. ({@link ConcurrencyLimiterRegistry})
+   */
+  private int maxLimit = 0;
+
+  /**
+   * 한도를 다시 계산하는 표본 수
+   */
+  private int windowSize = 50;
+
+  /**
+   * 장기 평균 지연 대비 허용하는 단기 지연 비율 (1.5: 50% 느려질 때까지는 한도를 줄이지 않음)
+   */
+  private double rttTolerance = 1.5;
+
+  /**
+   * 새 한도를 반영하는 비율 (0 ~ 1, 작을수록 천천히 변함)
+   */
+  private double smoothing = 0.2;
+
+  /**
+   * 장기 평균 지연을 계산하는 윈도우 수 (지수 이동 평균)
+   */
+  private int longWindowCount = 20;
+}
@@ -0,0 +1,95 @@
+package com.example.transaction.core.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 {@link AdaptiveConcurrencyLimiter} 보관 및 메트릭 등록
+ * - concurrency.limit    : 현재 동시 처리 한도
+ * - concurrency.inflight : 현재 동시 처리 수
+ * - 최대 한도는 커넥션 풀 크기를 넘을 수 없으며, 설정하지 않으면 풀 크기를 사용합니다.
+ *   (Hikari 기본 풀 크기 10 과 맞지 않는 한도로 기동되지 않도록 기동 시 검증)
+ * - 풀 크기를 반영한 실제 한도는 레지스트리에만 보관하고 {@link ConcurrencyLimitProperties} 빈은 변경하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiterRegistry {
+
+  private final ConcurrencyLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+  /**
+   * 커넥션 풀 크기를 반영한 실제 최대 한도 (설정 빈은 변경하지 않음)
+   */
+  private final int maxLimit;
+  /**
+   * 최대 한도 이내로 맞춘 실제 초기 한도
+   */
+  private final int initialLimit;
+
+  public ConcurrencyLimiterRegistry(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.maxLimit = resolveMaxLimit(properties, connectionPoolSize);
+    this.initialLimit = resolveInitialLimit(properties, maxLimit);
+  }
+
+  /**
+   * 최대 한도를 커넥션 풀 크기에 맞추고 한도 설정을 검증
+   *
+   * @throws IllegalStateException 최대 한도가 풀 크기보다 크거나 최소 한도가 최대 한도보다 큰 경우
+   */
+  private static int resolveMaxLimit(ConcurrencyLimitProperties properties, int connectionPoolSize) {
+    int maxLimit = properties.getMaxLimit() <= 0 ? connectionPoolSize : properties.getMaxLimit();
+    if (maxLimit > connectionPoolSize) {
+      throw new IllegalStateException("동시 처리 최대 한도(" + maxLimit
+        + ")가 커넥션 풀 크기(" + connectionPoolSize + ")보다 큽니다.");
+    }
+    if (properties.getMinLimit() > maxLimit) {
+      throw new IllegalStateException("동시 처리 최소 한도(" + properties.getMinLimit()
+        + ")가 최대 한도(" + maxLimit + ")보다 큽니다.");
+    }
+    return maxLimit;
+  }
+
+  private static int resolveInitialLimit(ConcurrencyLimitProperties properties, int maxLimit) {
+    if (properties.getInitialLimit() > maxLimit) {
+      log.warn("[ConcurrencyLimiterRegistry] 초기 한도({})를 최대 한도({})로 낮춥니다.",
+        properties.getInitialLimit(), maxLimit);
+      return maxLimit;
+    }
+    return properties.getInitialLimit();
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public AdaptiveConcurrencyLimiter limiter(String name) {
+    return limiters.computeIfAbsent(name, this::create);
+  }
+
+  private AdaptiveConcurrencyLimiter create(String name) {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, properties, initialLimit, maxLimit);
+    Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+      .description("현재 동시 처리 한도")
+      .tag("name", name)
+      .register(meterRegistry);
+    Gauge.builder("concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+      .description("현재 동시 처리 수")
+      .tag("name", name)
+      .register(meterRegistry);
+    return limiter;
+  }
+}
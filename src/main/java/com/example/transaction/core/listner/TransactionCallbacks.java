@@ -0,0 +1,50 @@
+package com.example.transaction.core.listner;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 현재 트랜잭션 완료 시점에 실행할 작업 등록
+ * - 트랜잭션 동기화가 활성화되지 않은 경우(트랜잭션 밖에서 호출) 즉시 커밋된 것으로 보고 실행합니다.
+ */
+public final class TransactionCallbacks {
+
+  private TransactionCallbacks() {
+  }
+
+  /**
+   * 커밋 후 실행 (롤백 시 실행하지 않음)
+   */
+  public static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * 커밋/롤백 여부와 관계없이 완료 후 실행
+   *
+   * @param action 완료 상태({@link TransactionSynchronization#STATUS_COMMITTED} 등)를 전달받는 작업
+   */
+  public static void afterCompletion(IntConsumer action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.accept(TransactionSynchronization.STATUS_COMMITTED);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.accept(status);
+      }
+    });
+  }
+}
@@ -1,9 +1,13 @@
 package com.example.transaction.core.listner;
 
+import com.example.transaction.core.sampling.TransactionSamplingPolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.sql.Connection.*;
 
 @Slf4j
@@ -11,43 +15,108 @@ public class TransactionMonitoringListener implements TransactionSynchronization
 
   private final String className;
   private final String methodName;
+  private final TransactionSamplingPolicy samplingPolicy;
+  /**
+   * 헤드 샘플링 대상 여부 (true: 단계별 로그를 즉시 출력)
+   */
+  private final boolean sampled;
+  private final long startNanos = System.nanoTime();
+  /**
+   * 샘플링 대상이 아닌 경우 단계 메시지만 보관해 두었다가, 테일 샘플링 조건을 만족하면 출력
+   */
+  private List<String> deferredSteps;
   private int stepCounter = 0;
 
   public TransactionMonitoringListener(String className, String methodName) {
+    this(className, methodName, null, true);
+  }
+
+  public TransactionMonitoringListener(String className, String methodName,
+                                       TransactionSamplingPolicy samplingPolicy, boolean sampled) {
     this.className = className;
     this.methodName = methodName;
+    this.samplingPolicy = samplingPolicy;
+    this.sampled = sampled;
   }
 
   @Override
   public void beforeCommit(boolean readOnly) {
-    logTransactionInfo("트랜잭션이 곧 커밋됩니다 (읽기 전용: " + readOnly + ")");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 곧 커밋됩니다 (읽기 전용: " + readOnly + ")");
+    } else {
+      deferStep("트랜잭션이 곧 커밋됩니다");
+    }
   }
 
   @Override
   public void beforeCompletion() {
-    logTransactionInfo("트랜잭션이 곧 완료됩니다");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 곧 완료됩니다");
+    } else {
+      deferStep("트랜잭션이 곧 완료됩니다");
+    }
   }
 
   @Override
   public void afterCommit() {
-    logTransactionInfo("트랜잭션이 커밋되었습니다");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 커밋되었습니다");
+    } else {
+      deferStep("트랜잭션이 커밋되었습니다");
+    }
   }
 
   @Override
   public void afterCompletion(int status) {
     String statusMessage = (status == STATUS_COMMITTED) ? "커밋" : "롤백";
-    logTransactionInfo("트랜잭션이 " + statusMessage + " 상태로 완료되었습니다");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 " + statusMessage + " 상태로 완료되었습니다");
+    } else {
+      long elapsedNanos = System.nanoTime() - startNanos;
+      if (samplingPolicy.sampleOnCompletion(status == STATUS_COMMITTED, elapsedNanos)) {
+        flushDeferredSteps(statusMessage, elapsedNanos);
+      }
+    }
     stepCounter = 0;  // 트랜잭션 종료 시 카운터 초기화
+    deferredSteps = null;
   }
 
   @Override
   public void suspend() {
-    logTransactionInfo("트랜잭션이 일시 중단되었습니다");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 일시 중단되었습니다");
+    } else {
+      deferStep("트랜잭션이 일시 중단되었습니다");
+    }
   }
 
   @Override
   public void resume() {
-    logTransactionInfo("트랜잭션이 다시 시작되었습니다");
+    if (sampled) {
+      logTransactionInfo("트랜잭션이 다시 시작되었습니다");
+    } else {
+      deferStep("트랜잭션이 다시 시작되었습니다");
+    }
+  }
+
+  private void deferStep(String message) {
+    if (deferredSteps == null) {
+      deferredSteps = new ArrayList<>(4);
+    }
+    deferredSteps.add(message);
+  }
+
+  /**
+   * 테일 샘플링: 보관해 둔 단계 메시지를 한 번에 출력
+   */
+  private void flushDeferredSteps(String statusMessage, long elapsedNanos) {
+    log.info("[테일 샘플링] {}.{} - 트랜잭션이 {} 상태로 완료되었습니다 (소요 시간: {}ms)",
+      className, methodName, statusMessage, elapsedNanos / 1_000_000);
+    if (deferredSteps != null) {
+      for (String step : deferredSteps) {
+        log.info("[단계 {}] {}.{} - {}", ++stepCounter, className, methodName, step);
+      }
+    }
   }
 
   private void logTransactionInfo(String message) {
@@ -74,4 +143,4 @@ public class TransactionMonitoringListener implements TransactionSynchronization
       default -> "알 수 없음";
     };
   }
-}
\ No newline at end of file
+}
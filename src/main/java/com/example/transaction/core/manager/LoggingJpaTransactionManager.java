@@ -1,31 +1,178 @@
 package com.example.transaction.core.manager;
 
+import com.example.transaction.core.jfr.TransactionCompletionEvent;
+import com.example.transaction.core.jfr.TransactionEvent;
+import com.example.transaction.core.watchdog.TransactionWatchdog;
+import jdk.jfr.EventType;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 @Slf4j
 public class LoggingJpaTransactionManager extends JpaTransactionManager {
 
+  /**
+   * JFR 기록 활성화 여부 확인용 (기록 중이 아니면 이벤트 객체를 만들지 않음)
+   */
+  private static final EventType TRANSACTION_EVENT_TYPE = EventType.getEventType(TransactionEvent.class);
+  private static final EventType COMPLETION_EVENT_TYPE = EventType.getEventType(TransactionCompletionEvent.class);
+
+  /**
+   * 현재 스레드에서 진행 중인 트랜잭션의 JFR 이벤트 (REQUIRES_NEW 로 중첩될 수 있으므로 스택으로 관리)
+   * - 기록 중일 때 시작된 트랜잭션만 쌓이고, 스택이 비면 스레드에서 제거
+   */
+  private static final ThreadLocal<Deque<RecordedTransaction>> TRANSACTION_EVENTS = new ThreadLocal<>();
+
+  /**
+   * 이벤트 트랜잭션 ID 발급용 스레드별 순번 (기록 중일 때만 증가, 스레드 ID 와 조합해 전역 카운터 경합을 피함)
+   */
+  private static final ThreadLocal<long[]> TRANSACTION_SEQUENCE = ThreadLocal.withInitial(() -> new long[1]);
+
+  /**
+   * 장기 실행 트랜잭션 감시기 (설정된 경우 트랜잭션 시작/종료 시 등록/해제)
+   */
+  @Setter
+  private TransactionWatchdog transactionWatchdog;
+
   @Override
   protected void doBegin(Object transaction, TransactionDefinition definition) {
     log.info("트랜잭션 시작 - 전파 수준: {}, 격리 수준: {}",
       propagationToString(definition.getPropagationBehavior()),
       isolationToString(definition.getIsolationLevel()));
-    super.doBegin(transaction, definition);
+    if (transactionWatchdog != null) {
+      transactionWatchdog.register(definition.getName());
+    }
+    TransactionEvent event = null;
+    if (TRANSACTION_EVENT_TYPE.isEnabled()) {
+      event = new TransactionEvent(nextTransactionId(), definition.getName(),
+        propagationToString(definition.getPropagationBehavior()),
+        isolationToString(definition.getIsolationLevel()), definition.isReadOnly());
+      event.begin();
+      pushEvent(transaction, event);
+    }
+    try {
+      super.doBegin(transaction, definition);
+    } catch (RuntimeException | Error e) {
+      // 트랜잭션 시작에 실패하면 doCleanupAfterCompletion 이 호출되지 않으므로 직접 해제
+      if (transactionWatchdog != null) {
+        transactionWatchdog.deregister();
+      }
+      if (event != null) {
+        popEvent(transaction);
+        event.setOutcome("BEGIN_FAILED");
+        if (event.shouldCommit()) {
+          event.commit();
+        }
+      }
+      throw e;
+    }
   }
 
   @Override
   protected void doCommit(DefaultTransactionStatus status) {
     log.info("트랜잭션 커밋");
-    super.doCommit(status);
+    completeWithEvent(status, "COMMIT", () -> super.doCommit(status));
   }
 
   @Override
   protected void doRollback(DefaultTransactionStatus status) {
     log.info("트랜잭션 롤백");
-    super.doRollback(status);
+    completeWithEvent(status, "ROLLBACK", () -> super.doRollback(status));
+  }
+
+  @Override
+  protected void doCleanupAfterCompletion(Object transaction) {
+    try {
+      super.doCleanupAfterCompletion(transaction);
+    } finally {
+      if (transactionWatchdog != null) {
+        transactionWatchdog.deregister();
+      }
+      TransactionEvent event = popEvent(transaction);
+      if (event != null && event.shouldCommit()) {
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * 커밋/롤백 처리 구간을 JFR 이벤트로 기록하고, 트랜잭션 이벤트에 결과를 남김
+   */
+  private void completeWithEvent(DefaultTransactionStatus status, String outcome, Runnable completion) {
+    TransactionEvent transactionEvent = peekEvent(status.getTransaction());
+    if (transactionEvent == null && !COMPLETION_EVENT_TYPE.isEnabled()) {
+      completion.run();
+      return;
+    }
+    TransactionCompletionEvent event = new TransactionCompletionEvent(
+      transactionEvent != null ? transactionEvent.getTransactionId() : 0L, outcome);
+    event.begin();
+    try {
+      completion.run();
+      event.setSucceeded(true);
+      if (transactionEvent != null) {
+        transactionEvent.setOutcome(outcome);
+      }
+    } catch (RuntimeException | Error e) {
+      if (transactionEvent != null) {
+        transactionEvent.setOutcome(outcome + "_FAILED");
+      }
+      throw e;
+    } finally {
+      if (event.shouldCommit()) {
+        event.commit();
+      }
+    }
+  }
+
+  private static long nextTransactionId() {
+    long[] sequence = TRANSACTION_SEQUENCE.get();
+    return (Thread.currentThread().threadId() << 32) | (++sequence[0] & 0xFFFFFFFFL);
+  }
+
+  private static void pushEvent(Object transaction, TransactionEvent event) {
+    Deque<RecordedTransaction> events = TRANSACTION_EVENTS.get();
+    if (events == null) {
+      events = new ArrayDeque<>();
+      TRANSACTION_EVENTS.set(events);
+    }
+    events.push(new RecordedTransaction(transaction, event));
+  }
+
+  /**
+   * 해당 트랜잭션이 시작될 때 기록한 이벤트 (기록 중이 아닐 때 시작된 트랜잭션이면 null)
+   */
+  private static TransactionEvent peekEvent(Object transaction) {
+    Deque<RecordedTransaction> events = TRANSACTION_EVENTS.get();
+    if (events == null || events.isEmpty() || events.peek().transaction() != transaction) {
+      return null;
+    }
+    return events.peek().event();
+  }
+
+  private static TransactionEvent popEvent(Object transaction) {
+    TransactionEvent event = peekEvent(transaction);
+    if (event != null) {
+      Deque<RecordedTransaction> events = TRANSACTION_EVENTS.get();
+      events.pop();
+      if (events.isEmpty()) {
+        TRANSACTION_EVENTS.remove();
+      }
+    }
+    return event;
+  }
+
+  /**
+   * 현재 스레드에 쌓여 있는 트랜잭션 이벤트 수 (테스트용)
+   */
+  static int pendingEventCount() {
+    Deque<RecordedTransaction> events = TRANSACTION_EVENTS.get();
+    return events == null ? 0 : events.size();
   }
 
   private String propagationToString(int propagationBehavior) {
@@ -51,4 +198,10 @@ public class LoggingJpaTransactionManager extends JpaTransactionManager {
       default -> "알 수 없음";
     };
   }
-}
\ No newline at end of file
+
+  /**
+   * 트랜잭션 객체와 시작 시 기록한 이벤트 (기록 도중 시작/종료가 엇갈려도 다른 트랜잭션의 이벤트를 꺼내지 않도록 함께 보관)
+   */
+  private record RecordedTransaction(Object transaction, TransactionEvent event) {
+  }
+}
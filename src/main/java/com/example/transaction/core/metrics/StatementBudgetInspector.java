@@ -0,0 +1,70 @@
+package com.example.transaction.core.metrics;
+
+import com.example.transaction.core.aop.TransactionMethodContext;
+import com.example.transaction.exception.StatementBudgetExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Transactional 메서드별 SQL 실행 횟수 예산 검사 및 N+1 감지
+ * - 메서드별 마지막 실행 통계를 보관하여 테스트에서 SQL 실행 횟수를 검증할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetInspector {
+
+  private final StatementBudgetProperties properties;
+  private final Map<String, StatementStats> lastStats = new ConcurrentHashMap<>();
+
+  /**
+   * 메서드 실행이 끝난 뒤 SQL 실행 통계를 검사
+   *
+   * @param context   가장 바깥쪽 @Transactional 메서드 컨텍스트
+   * @param completed 메서드가 예외 없이 종료되었는지 여부 (FAIL 모드에서 예외를 던질지 결정)
+   */
+  public void inspect(TransactionMethodContext context, boolean completed) {
+    String methodKey = context.getMethodKey();
+    StatementStats stats = new StatementStats(
+      context.getStatementCount(), context.getRowCount(), context.getStatementNanos());
+    lastStats.put(methodKey, stats);
+
+    detectRepeatedStatements(context);
+
+    int budget = properties.budgetOf(methodKey);
+    if (stats.statementCount() <= budget) {
+      return;
+    }
+    String message = String.format("SQL 실행 횟수 예산 초과 - 메서드: %s, 실행 횟수: %d, 예산: %d, 행 수: %d, DB 시간: %dms",
+      methodKey, stats.statementCount(), budget, stats.rowCount(), TimeUnit.NANOSECONDS.toMillis(stats.dbTimeNanos()));
+    if (completed && properties.getEnforcement() == StatementBudgetProperties.Enforcement.FAIL) {
+      throw new StatementBudgetExceededException(message);
+    }
+    log.warn("[StatementBudgetInspector] {}", message);
+  }
+
+  /**
+   * 메서드의 마지막 실행 통계 조회
+   *
+   * @param methodKey "클래스명.메서드명"
+   */
+  public Optional<StatementStats> lastStatsOf(String methodKey) {
+    return Optional.ofNullable(lastStats.get(methodKey));
+  }
+
+  private void detectRepeatedStatements(TransactionMethodContext context) {
+    int threshold = properties.getRepeatedStatementThreshold();
+    context.getStatementCountsBySql().forEach((sql, count) -> {
+      if (count >= threshold) {
+        log.warn("[StatementBudgetInspector] N+1 의심 - 메서드: {}, 동일 SQL {}회 실행: {}",
+          context.getMethodKey(), count, sql);
+      }
+    });
+  }
+}
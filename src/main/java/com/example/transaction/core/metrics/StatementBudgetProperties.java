@@ -0,0 +1,46 @@
+package com.example.transaction.core.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @Transactional 메서드별 SQL 실행 횟수 예산 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.statement-budget")
+public class StatementBudgetProperties {
+
+  /**
+   * 예산 초과 시 처리 방식 (WARN: 경고 로그, FAIL: 예외 발생 - 테스트용)
+   */
+  private Enforcement enforcement = Enforcement.WARN;
+
+  /**
+   * 메서드별 예산이 지정되지 않은 경우의 기본 SQL 실행 횟수 예산
+   */
+  private int defaultBudget = 50;
+
+  /**
+   * 메서드별 SQL 실행 횟수 예산 (키: "클래스명.메서드명")
+   */
+  private Map<String, Integer> overrides = new LinkedHashMap<>();
+
+  /**
+   * 하나의 트랜잭션에서 같은 SQL 이 이 횟수 이상 실행되면 N+1 로 의심합니다.
+   */
+  private int repeatedStatementThreshold = 10;
+
+  public int budgetOf(String methodKey) {
+    return overrides.getOrDefault(methodKey, defaultBudget);
+  }
+
+  public enum Enforcement {
+    WARN,
+    FAIL
+  }
+}
@@ -0,0 +1,11 @@
+package com.example.transaction.core.metrics;
+
+/**
+ * @Transactional 메서드 한 번의 실행에서 발생한 SQL 통계
+ *
+ * @param statementCount SQL 실행 횟수
+ * @param rowCount       조회/변경된 행 수
+ * @param dbTimeNanos    SQL 실행에 사용된 시간
+ */
+public record StatementStats(int statementCount, long rowCount, long dbTimeNanos) {
+}
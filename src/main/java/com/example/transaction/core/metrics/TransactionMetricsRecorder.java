@@ -0,0 +1,95 @@
+package com.example.transaction.core.metrics;
+
+import com.example.transaction.core.aop.TransactionMethodContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Transactional 메서드별 커넥션 사용량 및 SQL 실행 메트릭 기록
+ * - transaction.connection.acquire    : 커넥션 풀에서 커넥션을 빌려오기까지 대기한 시간
+ * - transaction.connection.held       : 커넥션을 점유한 시간
+ * - transaction.connection.idle.ratio : 점유 시간 중 SQL 을 실행하지 않은 시간의 비율
+ * - transaction.first.statement.delay : 트랜잭션 시작부터 첫 SQL 실행까지 걸린 시간 (커넥션 획득 대기 포함)
+ * - transaction.statements            : 트랜잭션당 SQL 실행 횟수
+ * - transaction.rows                  : 트랜잭션당 조회/변경 행 수
+ * - transaction.db.time               : 트랜잭션당 SQL 실행 시간
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionMetricsRecorder {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+  public void record(TransactionMethodContext context) {
+    if (context.getConnectionCount() == 0) {
+      return;
+    }
+    MethodMeters meters = methodMeters.computeIfAbsent(context.getMethodKey(),
+      key -> new MethodMeters(meterRegistry, context.getClassName(), context.getMethodName()));
+    meters.acquire.record(context.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+    meters.held.record(context.getConnectionHeldNanos(), TimeUnit.NANOSECONDS);
+    meters.idleRatio.record(context.idleRatio());
+    if (context.getFirstStatementDelayNanos() >= 0) {
+      meters.firstStatementDelay.record(context.getFirstStatementDelayNanos(), TimeUnit.NANOSECONDS);
+    }
+    meters.statements.record(context.getStatementCount());
+    meters.rows.record(context.getRowCount());
+    meters.dbTime.record(context.getStatementNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private static final class MethodMeters {
+    private final Timer acquire;
+    private final Timer held;
+    private final DistributionSummary idleRatio;
+    private final Timer firstStatementDelay;
+    private final DistributionSummary statements;
+    private final DistributionSummary rows;
+    private final Timer dbTime;
+
+    private MethodMeters(MeterRegistry registry, String className, String methodName) {
+      this.acquire = Timer.builder("transaction.connection.acquire")
+        .description("커넥션 풀에서 커넥션을 빌려오기까지 대기한 시간")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.held = Timer.builder("transaction.connection.held")
+        .description("트랜잭션 메서드가 커넥션을 점유한 시간")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.idleRatio = DistributionSummary.builder("transaction.connection.idle.ratio")
+        .description("커넥션 점유 시간 중 SQL 을 실행하지 않은 시간의 비율")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.firstStatementDelay = Timer.builder("transaction.first.statement.delay")
+        .description("트랜잭션 시작부터 첫 SQL 실행까지 걸린 시간")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.statements = DistributionSummary.builder("transaction.statements")
+        .description("트랜잭션당 SQL 실행 횟수")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.rows = DistributionSummary.builder("transaction.rows")
+        .description("트랜잭션당 조회/변경 행 수")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+      this.dbTime = Timer.builder("transaction.db.time")
+        .description("트랜잭션당 SQL 실행 시간")
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(registry);
+    }
+  }
+}
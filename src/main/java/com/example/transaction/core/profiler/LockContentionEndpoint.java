@@ -0,0 +1,33 @@
+package com.example.transaction.core.profiler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 락 경합 상위 키 조회용 Actuator 엔드포인트
+ * - GET    /actuator/lockcontention : 엔티티별 락 대기 시간 상위 키 (weight/maxWeight 단위: 마이크로초)
+ * - DELETE /actuator/lockcontention : 집계 초기화
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "lockcontention")
+public class LockContentionEndpoint {
+
+  private final LockContentionProfiler profiler;
+
+  @ReadOperation
+  public Map<String, List<SpaceSavingTopK.Entry>> topKeys() {
+    return profiler.topKeys();
+  }
+
+  @DeleteOperation
+  public void reset() {
+    profiler.reset();
+  }
+}
@@ -0,0 +1,116 @@
+package com.example.transaction.core.profiler;
+
+import com.example.transaction.core.watchdog.TransactionWatchdog;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 비관적 락 조회(findByIdWithLock)의 키별 락 대기 시간을 측정하여 경합이 심한 상위 키를 집계
+ * - 상품/주문별로 고정 크기의 {@link StripedSpaceSavingTopK}를 사용하므로 메모리 사용량이 일정하고,
+ *   기록 시 모니터 경합이 스트라이프 수만큼 나뉩니다.
+ * - 집계 결과는 주기적인 로그와 Actuator 엔드포인트(lockcontention)로 확인할 수 있습니다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class LockContentionProfiler {
+
+  public static final String PRODUCT = "product";
+  public static final String ORDER = "order";
+
+  private final LockContentionProperties properties;
+  private final Map<String, StripedSpaceSavingTopK> sketches = new LinkedHashMap<>();
+
+  public LockContentionProfiler(LockContentionProperties properties) {
+    this.properties = properties;
+    this.sketches.put(PRODUCT, new StripedSpaceSavingTopK(properties.getCapacity(), properties.getStripes()));
+    this.sketches.put(ORDER, new StripedSpaceSavingTopK(properties.getCapacity(), properties.getStripes()));
+  }
+
+  @Pointcut("execution(* com.example.transaction.application.repository.ProductRepository.findByIdWithLock(..))")
+  private void productLock() {
+  }
+
+  @Pointcut("execution(* com.example.transaction.application.repository.OrderRepository.findByIdWithLock(..))")
+  private void orderLock() {
+  }
+
+  @Around("productLock()")
+  public Object profileProductLock(ProceedingJoinPoint joinPoint) throws Throwable {
+    return profile(PRODUCT, joinPoint);
+  }
+
+  @Around("orderLock()")
+  public Object profileOrderLock(ProceedingJoinPoint joinPoint) throws Throwable {
+    return profile(ORDER, joinPoint);
+  }
+
+  private Object profile(String entity, ProceedingJoinPoint joinPoint) throws Throwable {
+    long startNanos = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      // 장기 실행 트랜잭션 보고 시 어떤 키의 락을 잡고 있는지 함께 출력
+      TransactionWatchdog.recordLockKey(entity, joinPoint.getArgs()[0]);
+      return result;
+    } finally {
+      // 락 획득에 실패(타임아웃)한 경우도 대기 시간으로 집계
+      if (joinPoint.getArgs()[0] instanceof Long key) {
+        record(entity, key, System.nanoTime() - startNanos);
+      }
+    }
+  }
+
+  /**
+   * 락 대기 시간 기록
+   */
+  public void record(String entity, long key, long waitNanos) {
+    sketches.get(entity).add(key, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+  }
+
+  /**
+   * 엔티티별 락 대기 시간 상위 키 조회
+   */
+  public Map<String, List<SpaceSavingTopK.Entry>> topKeys() {
+    Map<String, List<SpaceSavingTopK.Entry>> result = new LinkedHashMap<>();
+    sketches.forEach((entity, sketch) -> result.put(entity, sketch.top(properties.getTopK())));
+    return result;
+  }
+
+  public void reset() {
+    sketches.values().forEach(StripedSpaceSavingTopK::clear);
+  }
+
+  /**
+   * 주기적으로 락 대기 시간 상위 키를 로그로 출력
+   */
+  @Scheduled(fixedDelayString = "${transaction.lock-contention.report-interval:PT1M}",
+    initialDelayString = "${transaction.lock-contention.report-interval:PT1M}")
+  public void report() {
+    topKeys().forEach((entity, entries) -> {
+      if (!entries.isEmpty()) {
+        log.info("[LockContentionProfiler] 락 대기 상위 {} - {}", entity, format(entries));
+      }
+    });
+    if (properties.isResetAfterReport()) {
+      reset();
+    }
+  }
+
+  private String format(List<SpaceSavingTopK.Entry> entries) {
+    return entries.stream()
+      .map(entry -> String.format("%d(총 %dms, %d회, 최대 %dms)", entry.key(),
+        entry.weight() / 1000, entry.count(), entry.maxWeight() / 1000))
+      .collect(Collectors.joining(", "));
+  }
+}
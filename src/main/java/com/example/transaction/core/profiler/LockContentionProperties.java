@@ -0,0 +1,41 @@
+package com.example.transaction.core.profiler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비관적 락 경합 프로파일러 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.lock-contention")
+public class LockContentionProperties {
+
+  /**
+   * 엔티티별, 스트라이프별로 유지할 최대 카운터 수 (메모리 사용량 상한: capacity x stripes)
+   */
+  private int capacity = 128;
+
+  /**
+   * 엔티티별 스트라이프 수 (서로 다른 키의 기록이 같은 모니터를 경합하지 않도록 키 해시로 분산)
+   */
+  private int stripes = 8;
+
+  /**
+   * 리포트에 포함할 상위 키 개수
+   */
+  private int topK = 10;
+
+  /**
+   * 주기적 리포트 로그 출력 간격
+   */
+  private Duration reportInterval = Duration.ofMinutes(1);
+
+  /**
+   * 리포트 출력 후 집계를 초기화할지 여부 (true: 리포트 간격 단위의 집계)
+   */
+  private boolean resetAfterReport = true;
+}
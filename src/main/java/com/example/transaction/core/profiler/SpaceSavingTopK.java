@@ -0,0 +1,103 @@
+package com.example.transaction.core.profiler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘 기반 상위 K개 키 집계기
+ * - 최대 capacity 개의 카운터만 유지하므로 키 종류가 아무리 많아도 메모리 사용량이 고정됩니다.
+ * - 카운터가 가득 찬 상태에서 새 키가 들어오면 가중치가 가장 작은 카운터를 교체하고,
+ *   교체된 카운터의 가중치를 오차(error)로 기록합니다. (실제 가중치 >= weight - error)
+ * - synchronized 로 보호하며, 락 대기 경로에서는 {@link StripedSpaceSavingTopK}로 키별로 나누어 사용합니다.
+ */
+public class SpaceSavingTopK {
+
+  private final int capacity;
+  private final Map<Long, Counter> counters;
+
+  public SpaceSavingTopK(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity는 0보다 커야 합니다.");
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+  }
+
+  /**
+   * 키에 가중치를 더합니다.
+   *
+   * @param key    집계 키 (예: productId)
+   * @param weight 가중치 (예: 락 대기 시간)
+   */
+  public synchronized void add(long key, long weight) {
+    Counter counter = counters.get(key);
+    if (counter == null) {
+      if (counters.size() < capacity) {
+        counter = new Counter(key, 0L);
+      } else {
+        Counter min = findMin();
+        counters.remove(min.key);
+        counter = new Counter(key, min.weight);
+      }
+      counters.put(key, counter);
+    }
+    counter.weight += weight;
+    counter.count++;
+    counter.maxWeight = Math.max(counter.maxWeight, weight);
+  }
+
+  /**
+   * 가중치 기준 상위 k개 키 조회
+   */
+  public synchronized List<Entry> top(int k) {
+    List<Entry> entries = new ArrayList<>(counters.size());
+    for (Counter counter : counters.values()) {
+      entries.add(new Entry(counter.key, counter.weight, counter.count, counter.maxWeight, counter.error));
+    }
+    entries.sort(Comparator.comparingLong(Entry::weight).reversed());
+    return entries.size() > k ? List.copyOf(entries.subList(0, k)) : List.copyOf(entries);
+  }
+
+  public synchronized void clear() {
+    counters.clear();
+  }
+
+  private Counter findMin() {
+    Counter min = null;
+    for (Counter counter : counters.values()) {
+      if (min == null || counter.weight < min.weight) {
+        min = counter;
+      }
+    }
+    return min;
+  }
+
+  private static final class Counter {
+    private final long key;
+    private final long error;
+    private long weight;
+    private long count;
+    private long maxWeight;
+
+    private Counter(long key, long error) {
+      this.key = key;
+      this.error = error;
+      this.weight = error;
+    }
+  }
+
+  /**
+   * 집계 결과
+   *
+   * @param key       집계 키
+   * @param weight    누적 가중치 (과대 추정될 수 있음)
+   * @param count     기록 횟수
+   * @param maxWeight 단일 기록의 최대 가중치
+   * @param error     과대 추정 오차의 상한
+   */
+  public record Entry(long key, long weight, long count, long maxWeight, long error) {
+  }
+}
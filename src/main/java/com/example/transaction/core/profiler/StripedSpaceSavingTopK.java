@@ -0,0 +1,69 @@
+package com.example.transaction.core.profiler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 키 해시로 나눈 여러 개의 {@link SpaceSavingTopK} 묶음
+ * - 하나의 키는 항상 같은 스트라이프에만 기록되고, 키들이 N 개 스트라이프에 흩어지므로 기록 시 모니터 경합이 N 개로 분산됩니다.
+ *   (서로 다른 키도 같은 스트라이프에 들어가면 같은 모니터를 공유하며, 스트라이프 수가 많을수록 그 확률이 줄어듦)
+ * - 키가 스트라이프 사이에 나뉘지 않으므로 조회 시 각 스트라이프의 결과를 이어 붙여 정렬하기만 하면 되고,
+ *   스트라이프별 과대 추정 오차 상한(error)이 그대로 유지됩니다.
+ * - 메모리 사용량은 capacity x stripes 로 고정됩니다.
+ */
+public class StripedSpaceSavingTopK {
+
+  private final SpaceSavingTopK[] stripes;
+  private final int mask;
+
+  /**
+   * @param capacity 스트라이프별 최대 카운터 수
+   * @param stripes  스트라이프 수 (2의 거듭제곱으로 올림)
+   */
+  public StripedSpaceSavingTopK(int capacity, int stripes) {
+    if (stripes <= 0) {
+      throw new IllegalArgumentException("stripes는 0보다 커야 합니다.");
+    }
+    int size = Integer.highestOneBit(stripes);
+    if (size < stripes) {
+      size <<= 1;
+    }
+    this.stripes = new SpaceSavingTopK[size];
+    for (int i = 0; i < size; i++) {
+      this.stripes[i] = new SpaceSavingTopK(capacity);
+    }
+    this.mask = size - 1;
+  }
+
+  public void add(long key, long weight) {
+    stripes[stripeOf(key)].add(key, weight);
+  }
+
+  /**
+   * 가중치 기준 상위 k개 키 조회 (각 스트라이프의 상위 k개를 합쳐 다시 정렬)
+   */
+  public List<SpaceSavingTopK.Entry> top(int k) {
+    List<SpaceSavingTopK.Entry> entries = new ArrayList<>();
+    for (SpaceSavingTopK stripe : stripes) {
+      entries.addAll(stripe.top(k));
+    }
+    entries.sort(Comparator.comparingLong(SpaceSavingTopK.Entry::weight).reversed());
+    return entries.size() > k ? List.copyOf(entries.subList(0, k)) : List.copyOf(entries);
+  }
+
+  public void clear() {
+    for (SpaceSavingTopK stripe : stripes) {
+      stripe.clear();
+    }
+  }
+
+  int stripeCount() {
+    return stripes.length;
+  }
+
+  private int stripeOf(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.transaction.core.retry;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 전체 재시도 횟수를 제한하는 토큰 버킷
+ * - DB 가 과부하 상태일 때 모든 요청이 재시도하며 부하를 키우는 재시도 폭주를 막습니다.
+ * - 토큰이 없으면 재시도하지 않고 원래 예외를 그대로 던집니다.
+ * - 재시도 경로에서만 호출되므로 단순히 synchronized 로 보호합니다.
+ */
+@Component
+public class RetryRateLimiter {
+
+  private final double permitsPerNano;
+  private final double capacity;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public RetryRateLimiter(TransactionRetryProperties properties) {
+    this.permitsPerNano = properties.getGlobalRetriesPerSecond() / 1_000_000_000.0;
+    this.capacity = Math.max(1, properties.getGlobalRetryBurst());
+    this.tokens = capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  public synchronized boolean tryAcquire() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+    lastRefillNanos = now;
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    return true;
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.transaction.core.retry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 재시도 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.retry")
+public class TransactionRetryProperties {
+
+  /**
+   * 재시도 활성화 여부 (false: @RetryableTransaction 메서드도 한 번만 실행)
+   */
+  private boolean enabled = true;
+
+  /**
+   * 애플리케이션 전체에서 초당 허용하는 재시도 횟수 (재시도 폭주 방지)
+   */
+  private double globalRetriesPerSecond = 50;
+
+  /**
+   * 순간적으로 허용하는 최대 재시도 횟수 (토큰 버킷 크기)
+   */
+  private int globalRetryBurst = 100;
+
+  /**
+   * 메서드별 최대 시도 횟수 재정의
+   * - 키: "클래스명.메서드명" (예: OrderSagaOrchestrator.handleOrderSaga)
+   */
+  private Map<String, Integer> maxAttempts = new LinkedHashMap<>();
+}
@@ -0,0 +1,50 @@
+package com.example.transaction.core.retry;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+
+/**
+ * 새 트랜잭션으로 다시 실행하면 성공할 수 있는 일시적 실패인지 판별
+ * - 서비스 계층에서 예외를 RuntimeException 으로 감싸는 경우가 있으므로 원인 체인 전체를 검사합니다.
+ * - 대상: 데드락(MySQL 1213), 락 대기 타임아웃(MySQL 1205), 직렬화 실패(SQLState 40001)
+ */
+public final class TransientFailureClassifier {
+
+  private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+  private static final int MYSQL_DEADLOCK = 1213;
+  private static final String SERIALIZATION_FAILURE = "40001";
+  private static final int MAX_CAUSE_DEPTH = 16;
+
+  private TransientFailureClassifier() {
+  }
+
+  public static boolean isTransient(Throwable throwable) {
+    Throwable cause = throwable;
+    for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+      if (cause instanceof PessimisticLockingFailureException
+        || cause instanceof PessimisticLockException
+        || cause instanceof LockTimeoutException
+        || cause instanceof SQLTransactionRollbackException) {
+        return true;
+      }
+      if (cause instanceof SQLException sqlException && isTransient(sqlException)) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+  private static boolean isTransient(SQLException e) {
+    return e.getErrorCode() == MYSQL_DEADLOCK
+      || e.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT
+      || SERIALIZATION_FAILURE.equals(e.getSQLState());
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.transaction.core.sampling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 샘플링 정책을 실행 중에 조회/변경하기 위한 Actuator 엔드포인트
+ * - GET    /actuator/transactionsampling
+ * - POST   /actuator/transactionsampling            {"rate": 100, "slowThresholdMillis": 500, "alwaysSampleRollback": true}
+ * - POST   /actuator/transactionsampling/{target}   {"rate": 1}
+ * - DELETE /actuator/transactionsampling/{target}
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "transactionsampling")
+public class TransactionSamplingEndpoint {
+
+  private final TransactionSamplingPolicy samplingPolicy;
+
+  @ReadOperation
+  public Map<String, Object> policy() {
+    return samplingPolicy.snapshot();
+  }
+
+  @WriteOperation
+  public Map<String, Object> update(@Nullable Integer rate, @Nullable Long slowThresholdMillis,
+                                    @Nullable Boolean alwaysSampleRollback) {
+    if (rate != null) {
+      samplingPolicy.setDefaultRate(rate);
+    }
+    if (slowThresholdMillis != null) {
+      samplingPolicy.setSlowThreshold(Duration.ofMillis(slowThresholdMillis));
+    }
+    if (alwaysSampleRollback != null) {
+      samplingPolicy.setAlwaysSampleRollback(alwaysSampleRollback);
+    }
+    return samplingPolicy.snapshot();
+  }
+
+  @WriteOperation
+  public Map<String, Object> override(@Selector String target, int rate) {
+    samplingPolicy.putOverride(target, rate);
+    return samplingPolicy.snapshot();
+  }
+
+  @DeleteOperation
+  public Map<String, Object> removeOverride(@Selector String target) {
+    samplingPolicy.removeOverride(target);
+    return samplingPolicy.snapshot();
+  }
+}
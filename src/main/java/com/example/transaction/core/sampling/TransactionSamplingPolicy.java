@@ -0,0 +1,114 @@
+package com.example.transaction.core.sampling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 트랜잭션 모니터링 샘플링 정책
+ * - 헤드 샘플링: 트랜잭션 시작 시 N건 중 1건을 전체 추적 대상으로 선택
+ * - 테일 샘플링: 추적 대상이 아니더라도 롤백되었거나 느린 트랜잭션은 완료 시점에 추적 로그를 남김
+ * - 모든 설정은 재시작 없이 실행 중에 변경할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TransactionSamplingPolicy {
+
+  private volatile int defaultRate;
+  private volatile long slowThresholdNanos;
+  private volatile boolean alwaysSampleRollback;
+  private final Map<String, Integer> overrides = new ConcurrentHashMap<>();
+
+  public TransactionSamplingPolicy(TransactionSamplingProperties properties) {
+    this.defaultRate = properties.getRate();
+    this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    this.alwaysSampleRollback = properties.isAlwaysSampleRollback();
+    this.overrides.putAll(properties.getOverrides());
+  }
+
+  /**
+   * 트랜잭션 시작 시점에 전체 추적 여부를 결정 (헤드 샘플링)
+   * - 공유 카운터 대신 스레드 로컬 난수를 사용하여 경합 없이 N건 중 1건을 선택합니다.
+   */
+  public boolean sampleOnStart(String className, String methodName) {
+    int rate = resolveRate(className, methodName);
+    if (rate <= 0) {
+      return false;
+    }
+    return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+  }
+
+  /**
+   * 트랜잭션 완료 시점에 추적 로그를 남길지 결정 (테일 샘플링)
+   */
+  public boolean sampleOnCompletion(boolean committed, long elapsedNanos) {
+    return (!committed && alwaysSampleRollback) || elapsedNanos >= slowThresholdNanos;
+  }
+
+  private int resolveRate(String className, String methodName) {
+    if (overrides.isEmpty()) {
+      return defaultRate;
+    }
+    Integer methodRate = overrides.get(className + "." + methodName);
+    if (methodRate != null) {
+      return methodRate;
+    }
+    return overrides.getOrDefault(className, defaultRate);
+  }
+
+  public void setDefaultRate(int rate) {
+    validateRate(rate);
+    log.info("[TransactionSamplingPolicy] 기본 샘플링 비율 변경: {} -> {}", this.defaultRate, rate);
+    this.defaultRate = rate;
+  }
+
+  public void setSlowThreshold(Duration slowThreshold) {
+    log.info("[TransactionSamplingPolicy] 느린 트랜잭션 기준 변경: {}ms", slowThreshold.toMillis());
+    this.slowThresholdNanos = slowThreshold.toNanos();
+  }
+
+  public void setAlwaysSampleRollback(boolean alwaysSampleRollback) {
+    log.info("[TransactionSamplingPolicy] 롤백 트랜잭션 항상 추적 여부 변경: {}", alwaysSampleRollback);
+    this.alwaysSampleRollback = alwaysSampleRollback;
+  }
+
+  /**
+   * 클래스 또는 메서드 단위 샘플링 비율 지정
+   *
+   * @param target "클래스명" 또는 "클래스명.메서드명"
+   * @param rate   N건 중 1건 추적 (0: 헤드 샘플링 비활성화)
+   */
+  public void putOverride(String target, int rate) {
+    validateRate(rate);
+    log.info("[TransactionSamplingPolicy] 샘플링 비율 지정: {} -> {}", target, rate);
+    overrides.put(target, rate);
+  }
+
+  public void removeOverride(String target) {
+    log.info("[TransactionSamplingPolicy] 샘플링 비율 지정 해제: {}", target);
+    overrides.remove(target);
+  }
+
+  /**
+   * 현재 정책 조회
+   */
+  public Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("rate", defaultRate);
+    snapshot.put("slowThresholdMillis", Duration.ofNanos(slowThresholdNanos).toMillis());
+    snapshot.put("alwaysSampleRollback", alwaysSampleRollback);
+    snapshot.put("overrides", Map.copyOf(overrides));
+    return snapshot;
+  }
+
+  private static void validateRate(int rate) {
+    if (rate < 0) {
+      throw new IllegalArgumentException("샘플링 비율은 0 이상이어야 합니다.");
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.transaction.core.sampling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 모니터링 샘플링 설정
+ * - 애플리케이션 기동 시 초기값으로만 사용되며, 실행 중 변경은 {@link TransactionSamplingPolicy}를 통해 수행합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.monitoring.sampling")
+public class TransactionSamplingProperties {
+
+  /**
+   * N건 중 1건을 전체 추적 (1: 모든 트랜잭션 추적, 0: 헤드 샘플링 비활성화)
+   */
+  private int rate = 1;
+
+  /**
+   * 이 시간 이상 걸린 트랜잭션은 샘플링 여부와 관계없이 추적 로그를 남깁니다.
+   */
+  private Duration slowThreshold = Duration.ofSeconds(1);
+
+  /**
+   * 롤백된 트랜잭션은 샘플링 여부와 관계없이 추적 로그를 남길지 여부
+   */
+  private boolean alwaysSampleRollback = true;
+
+  /**
+   * 클래스 또는 메서드 단위 샘플링 비율
+   * - 키: "클래스명" 또는 "클래스명.메서드명" (예: OrderSagaOrchestrator.handleOrderSaga)
+   * - 값: N건 중 1건 추적
+   */
+  private Map<String, Integer> overrides = new LinkedHashMap<>();
+}
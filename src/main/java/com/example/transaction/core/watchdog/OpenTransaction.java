@@ -0,0 +1,56 @@
+package com.example.transaction.core.watchdog;
+
+import lombok.Getter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 감시 대상인 열린 트랜잭션 정보
+ * - 소유 스레드가 등록/해제 및 락 키 기록을 수행하고, 감시 스레드는 읽기만 합니다.
+ */
+@Getter
+public class OpenTransaction {
+
+  private final String name;
+  private final Thread owner;
+  private final long startNanos;
+  /**
+   * 같은 스레드에서 일시 중단된 바깥쪽 트랜잭션 (REQUIRES_NEW)
+   */
+  private final OpenTransaction previous;
+  private volatile Queue<String> lockKeys;
+  private volatile boolean closed;
+  private boolean reported;
+
+  OpenTransaction(String name, Thread owner, OpenTransaction previous, long startNanos) {
+    this.name = name;
+    this.owner = owner;
+    this.previous = previous;
+    this.startNanos = startNanos;
+  }
+
+  void addLockKey(String lockKey) {
+    Queue<String> keys = lockKeys;
+    if (keys == null) {
+      keys = new ConcurrentLinkedQueue<>();
+      lockKeys = keys;
+    }
+    keys.add(lockKey);
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  /**
+   * 최초 1회만 true 를 반환 (감시 스레드에서만 호출)
+   */
+  boolean markReported() {
+    if (reported) {
+      return false;
+    }
+    reported = true;
+    return true;
+  }
+}
@@ -0,0 +1,168 @@
+package com.example.transaction.core.watchdog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 장기 실행 트랜잭션 감시기
+ * - 트랜잭션 매니저가 트랜잭션 시작 시 등록하고 종료 시 해제합니다.
+ * - 등록은 lock-free 큐에 추가(offer), 해제는 volatile 플래그 변경뿐이므로 트랜잭션 경로의 비용이 최소화됩니다.
+ *   종료된 항목은 감시 스레드가 검사하면서 제거합니다.
+ * - 임계 시간을 넘긴 트랜잭션은 소유 스레드의 스택과 획득한 락 키를 한 번만 보고합니다.
+ */
+@Slf4j
+@Component
+public class TransactionWatchdog implements SmartLifecycle {
+
+  private static final ThreadLocal<OpenTransaction> CURRENT = new ThreadLocal<>();
+
+  private final TransactionWatchdogProperties properties;
+  private final LongSupplier nanoClock;
+  private final Queue<OpenTransaction> openTransactions = new ConcurrentLinkedQueue<>();
+  private volatile Thread watchdogThread;
+
+  public TransactionWatchdog(TransactionWatchdogProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  TransactionWatchdog(TransactionWatchdogProperties properties, LongSupplier nanoClock) {
+    this.properties = properties;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 현재 스레드에서 시작된 트랜잭션 등록
+   */
+  public void register(String name) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    OpenTransaction transaction = new OpenTransaction(name, Thread.currentThread(), CURRENT.get(), nanoClock.getAsLong());
+    openTransactions.offer(transaction);
+    CURRENT.set(transaction);
+  }
+
+  /**
+   * 현재 스레드에서 가장 최근에 등록된 트랜잭션 해제
+   */
+  public void deregister() {
+    OpenTransaction transaction = CURRENT.get();
+    if (transaction == null) {
+      return;
+    }
+    transaction.close();
+    if (transaction.getPrevious() != null) {
+      CURRENT.set(transaction.getPrevious());
+    } else {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * 현재 스레드의 트랜잭션이 획득한 락 키 기록 (예: product:1)
+   * - 감시 대상 트랜잭션이 없으면(감시 비활성화 포함) 키 문자열을 만들지 않습니다.
+   */
+  public static void recordLockKey(String entity, Object id) {
+    OpenTransaction transaction = CURRENT.get();
+    if (transaction != null) {
+      transaction.addLockKey(entity + ":" + id);
+    }
+  }
+
+  /**
+   * 열린 트랜잭션 검사 (종료된 항목 제거, 임계 시간을 넘긴 항목 보고)
+   *
+   * @return 이번 검사에서 보고한 트랜잭션
+   */
+  List<OpenTransaction> scan() {
+    long now = nanoClock.getAsLong();
+    long thresholdNanos = properties.getThreshold().toNanos();
+    List<OpenTransaction> reported = null;
+    Iterator<OpenTransaction> iterator = openTransactions.iterator();
+    while (iterator.hasNext()) {
+      OpenTransaction transaction = iterator.next();
+      if (transaction.isClosed()) {
+        iterator.remove();
+        continue;
+      }
+      long elapsedNanos = now - transaction.getStartNanos();
+      if (elapsedNanos >= thresholdNanos && transaction.markReported()) {
+        report(transaction, elapsedNanos);
+        if (reported == null) {
+          reported = new ArrayList<>();
+        }
+        reported.add(transaction);
+      }
+    }
+    return reported == null ? List.of() : reported;
+  }
+
+  /**
+   * 감시 중인(종료 후 아직 제거되지 않은 항목 포함) 트랜잭션 수
+   */
+  int openTransactionCount() {
+    return openTransactions.size();
+  }
+
+  private void report(OpenTransaction transaction, long elapsedNanos) {
+    Thread owner = transaction.getOwner();
+    StackTraceElement[] stackTrace = owner.getStackTrace();
+    StringBuilder builder = new StringBuilder();
+    int depth = Math.min(stackTrace.length, properties.getMaxStackDepth());
+    for (int i = 0; i < depth; i++) {
+      builder.append(System.lineSeparator()).append("\tat ").append(stackTrace[i]);
+    }
+    log.warn("[TransactionWatchdog] 장기 실행 트랜잭션 감지 - 트랜잭션: {}, 경과 시간: {}ms, 스레드: {} ({}), 락 키: {}{}",
+      transaction.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), owner.getName(), owner.getState(),
+      transaction.getLockKeys() == null ? "없음" : transaction.getLockKeys(), builder);
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Thread thread = new Thread(this::run, "transaction-watchdog");
+    thread.setDaemon(true);
+    watchdogThread = thread;
+    thread.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread thread = watchdogThread;
+    watchdogThread = null;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return watchdogThread != null;
+  }
+
+  private void run() {
+    long intervalMillis = properties.getScanInterval().toMillis();
+    while (watchdogThread == Thread.currentThread()) {
+      try {
+        scan();
+        Thread.sleep(intervalMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.warn("[TransactionWatchdog] 트랜잭션 감시 중 오류가 발생했습니다", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.transaction.core.watchdog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 장기 실행 트랜잭션 감시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.watchdog")
+public class TransactionWatchdogProperties {
+
+  /**
+   * 감시 활성화 여부
+   */
+  private boolean enabled = true;
+
+  /**
+   * 이 시간보다 오래 열려 있는 트랜잭션을 보고합니다.
+   */
+  private Duration threshold = Duration.ofSeconds(10);
+
+  /**
+   * 열린 트랜잭션 목록을 검사하는 간격
+   */
+  private Duration scanInterval = Duration.ofSeconds(1);
+
+  /**
+   * 보고 시 출력할 최대 스택 프레임 수
+   */
+  private int maxStackDepth = 40;
+}
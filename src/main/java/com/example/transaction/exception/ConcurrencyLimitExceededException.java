@@ -0,0 +1,10 @@
+package com.example.transaction.exception;
+
+/**
+ * 동시 처리 한도를 넘어 요청을 처리하지 않고 즉시 거절한 경우
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+  public ConcurrencyLimitExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.transaction.exception;
+
+public class StatementBudgetExceededException extends RuntimeException {
+  public StatementBudgetExceededException(String message) {
+    super(message);
+  }
+}
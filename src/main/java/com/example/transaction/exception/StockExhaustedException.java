@@ -0,0 +1,11 @@
+package com.example.transaction.exception;
+
+/**
+ * 한정 판매 상품의 재고 허가(permit)가 모두 소진되어 DB 에 접근하지 않고 거절된 경우
+ * - 기존 재고 부족 예외와 같은 의미이므로 IllegalArgumentException 을 상속합니다.
+ */
+public class StockExhaustedException extends IllegalArgumentException {
+  public StockExhaustedException(String message) {
+    super(message);
+  }
+}
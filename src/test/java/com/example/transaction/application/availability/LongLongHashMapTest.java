@@ -0,0 +1,106 @@
+package com.example.transaction.application.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTest {
+
+  @DisplayName("[LongLongHashMap] 저장, 덮어쓰기, 없는 키 조회")
+  @Test
+  void putAndGet() {
+    LongLongHashMap map = new LongLongHashMap(4, -1);
+
+    map.put(1L, 10L);
+    map.put(2L, Long.MAX_VALUE);
+    map.put(1L, 11L);
+
+    assertThat(map.get(1L)).isEqualTo(11L);
+    assertThat(map.get(2L)).isEqualTo(Long.MAX_VALUE);
+    assertThat(map.get(3L)).isEqualTo(-1L);
+    assertThat(map.size()).isEqualTo(2);
+  }
+
+  @DisplayName("[LongLongHashMap] 테이블이 커져도 모든 항목 유지")
+  @Test
+  void keepsEntriesAcrossRehash() {
+    LongLongHashMap map = new LongLongHashMap(8, -1);
+    Map<Long, Long> expected = new HashMap<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      long key = 1 + (random.nextLong() & Long.MAX_VALUE) % 50_000;
+      long value = random.nextLong();
+      map.put(key, value);
+      expected.put(key, value);
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+  }
+
+  @DisplayName("[LongLongHashMap] 테이블이 커지는 도중 락 없이 읽어도 배열 범위 오류가 나지 않음")
+  @Test
+  void readsWhileResizing() throws InterruptedException {
+    long missingValue = -1L;
+    int rounds = 200;
+    int keysPerRound = 5_000;
+    AtomicBoolean writing = new AtomicBoolean(true);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    AtomicReference<LongLongHashMap> current = new AtomicReference<>();
+
+    List<Thread> readers = new ArrayList<>();
+    for (int r = 0; r < 4; r++) {
+      Thread reader = new Thread(() -> {
+        try {
+          while (writing.get()) {
+            LongLongHashMap map = current.get();
+            if (map == null) {
+              continue;
+            }
+            // 락 없이 읽은 값은 낙관적 읽기의 validate 에서 걸러지므로 예외 없이 반환되는지만 확인
+            map.get(1 + ThreadLocalRandom.current().nextInt(keysPerRound));
+          }
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        }
+      });
+      readers.add(reader);
+      reader.start();
+    }
+
+    // 매 라운드 작은 테이블에서 시작해 여러 번 커지도록 함
+    for (int round = 0; round < rounds && failure.get() == null; round++) {
+      LongLongHashMap map = new LongLongHashMap(8, missingValue);
+      current.set(map);
+      for (long key = 1; key <= keysPerRound; key++) {
+        map.put(key, key * 2);
+      }
+    }
+    writing.set(false);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+
+    assertThat(failure.get()).isNull();
+  }
+
+  @DisplayName("[LongLongHashMap] 키 0 은 저장할 수 없음")
+  @Test
+  void rejectsZeroKey() {
+    LongLongHashMap map = new LongLongHashMap(8, -1);
+
+    assertThatThrownBy(() -> map.put(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(map.get(0L)).isEqualTo(-1L);
+  }
+}
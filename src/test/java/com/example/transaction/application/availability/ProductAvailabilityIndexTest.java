@@ -0,0 +1,93 @@
+package com.example.transaction.application.availability;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.service.ProductPessimisticLockService;
+import com.example.transaction.application.service.ProductStockChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[ProductAvailabilityIndex] 재고 조회 인덱스 테스트")
+@SpringBootTest(properties = "transaction.availability.reconcile-batch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ProductAvailabilityIndexTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private ProductAvailabilityIndex productAvailabilityIndex;
+
+  @Autowired
+  private ProductPessimisticLockService productService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("재고 변경은 커밋된 경우에만 인덱스에 반영")
+  void appliesCommittedStockChanges() {
+    long productId = createProduct(10);
+    productAvailabilityIndex.reconcile();
+
+    productService.decreaseStock(productId, 4);
+    assertThat(productAvailabilityIndex.getStock(productId)).isEqualTo(6);
+
+    assertThatThrownBy(() -> productService.decreaseStock(productId, 7))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThat(productAvailabilityIndex.getStock(productId)).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("재조정 시 이벤트 없이 변경된 재고와 새 상품을 키셋 페이지 단위로 반영")
+  void reconcilesWithDatabase() {
+    long first = createProduct(1);
+    long second = createProduct(2);
+    long third = createProduct(3);
+    productAvailabilityIndex.reconcile();
+    long fourth = createProduct(4);
+    jdbcTemplate.update("UPDATE products SET stock_quantity = 0 WHERE product_id = ?", second);
+
+    productAvailabilityIndex.reconcile();
+
+    assertThat(productAvailabilityIndex.getStocks(new long[]{first, second, third, fourth, fourth + 1_000}))
+      .containsExactly(1, 0, 3, 4, ProductAvailabilityIndex.UNKNOWN);
+    assertThat(productAvailabilityIndex.isAvailable(second, 1)).isFalse();
+    assertThat(productAvailabilityIndex.isAvailable(fourth, 4)).isTrue();
+  }
+
+  @Test
+  @DisplayName("늦게 도착한 지난 버전의 재고 변경은 새 값을 덮어쓰지 않음")
+  void ignoresStaleStockChange() {
+    long productId = createProduct(10);
+    productAvailabilityIndex.reconcile();
+    productService.decreaseStock(productId, 4);
+    int version = productRepository.findById(productId).orElseThrow().getVersion();
+
+    productAvailabilityIndex.onStockChanged(new ProductStockChangedEvent(productId, 10, version - 1));
+    productAvailabilityIndex.onStockChanged(new ProductStockChangedEvent(productId, 6, version));
+
+    assertThat(productAvailabilityIndex.getStock(productId)).isEqualTo(6);
+
+    productAvailabilityIndex.onStockChanged(new ProductStockChangedEvent(productId, 2, version + 1));
+
+    assertThat(productAvailabilityIndex.getStock(productId)).isEqualTo(2);
+  }
+
+  private long createProduct(int stock) {
+    return productRepository.save(
+      Product.createProduct("Indexed Product", stock, new BigDecimal("100.00"), "Test Description")).getProductId();
+  }
+}
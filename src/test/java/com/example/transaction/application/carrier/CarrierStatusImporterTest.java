@@ -0,0 +1,214 @@
+package com.example.transaction.application.carrier;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.application.repository.ShipmentRepository;
+import com.example.transaction.application.repository.ShipmentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[CarrierStatusImporter] 택배사 배송 상태 파일 가져오기 테스트")
+@SpringBootTest(properties = {
+  "transaction.carrier-import.chunk-size=3",
+  "transaction.carrier-import.in-list-size=2",
+  "transaction.carrier-import.map-window-bytes=32"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CarrierStatusImporterTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private CarrierStatusImporter carrierStatusImporter;
+
+  @Autowired
+  private ShipmentRepository shipmentRepository;
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @DisplayName("배송 상태 전이 규칙에 맞는 레코드만 반영하고 잘못된 줄은 건너뜀")
+  void appliesStatusTransitions() throws IOException {
+    List<Shipment> shipments = createPendingShipments(4);
+    long first = shipments.get(0).getShipmentId();
+    long second = shipments.get(1).getShipmentId();
+    long third = shipments.get(2).getShipmentId();
+    long fourth = shipments.get(3).getShipmentId();
+
+    Path file = write(
+      first + ",SHIPPED",
+      second + ",SHIPPED",
+      second + ",DELIVERED",
+      third + ",CANCELLED",
+      fourth + ",DELIVERED",   // PENDING -> DELIVERED 는 허용되지 않음
+      "abc,SHIPPED",
+      fourth + ",LOST",
+      "",
+      first + ",SHIPPED\r");
+
+    CarrierStatusImporter.ImportResult result = carrierStatusImporter.importFile(file);
+
+    assertThat(result.records()).isEqualTo(6);
+    assertThat(result.skipped()).isEqualTo(2);
+    assertThat(result.updated()).isEqualTo(4);
+    assertThat(statusOf(first)).isEqualTo(ShipmentStatus.SHIPPED);
+    assertThat(statusOf(second)).isEqualTo(ShipmentStatus.DELIVERED);
+    assertThat(statusOf(third)).isEqualTo(ShipmentStatus.CANCELLED);
+    assertThat(statusOf(fourth)).isEqualTo(ShipmentStatus.PENDING);
+    // 끝까지 처리하면 체크포인트 삭제
+    assertThat(CarrierStatusImporter.checkpointPath(file)).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("청크 안에 같은 배송의 레코드가 여러 번 나오면 파일에서 마지막 레코드를 적용하고, 발송 실패한 배송도 취소")
+  void appliesLastRecordOfShipmentInFileOrder() throws IOException {
+    List<Shipment> shipments = createPendingShipments(4);
+    Shipment shipped = shipments.get(0);
+    shipped.ship();
+    Shipment returned = shipments.get(1);
+    returned.ship();
+    Shipment failed = shipments.get(2);
+    failed.rejectDispatch(0, LocalDateTime.now());
+    shipmentRepository.saveAll(List.of(shipped, returned, failed));
+    long pending = shipments.get(3).getShipmentId();
+
+    Path file = write(
+      shipped.getShipmentId() + ",CANCELLED",
+      shipped.getShipmentId() + ",DELIVERED",
+      pending + ",DELIVERED",
+      returned.getShipmentId() + ",DELIVERED",
+      returned.getShipmentId() + ",CANCELLED",
+      failed.getShipmentId() + ",CANCELLED",
+      pending + ",SHIPPED");
+
+    CarrierStatusImporter.ImportResult result = carrierStatusImporter.importFile(file);
+
+    assertThat(result.records()).isEqualTo(7);
+    assertThat(result.updated()).isEqualTo(4);
+    assertThat(statusOf(shipped.getShipmentId())).isEqualTo(ShipmentStatus.DELIVERED);
+    assertThat(statusOf(returned.getShipmentId())).isEqualTo(ShipmentStatus.CANCELLED);
+    assertThat(statusOf(failed.getShipmentId())).isEqualTo(ShipmentStatus.CANCELLED);
+    assertThat(statusOf(pending)).isEqualTo(ShipmentStatus.SHIPPED);
+  }
+
+  @Test
+  @DisplayName("같은 파일의 체크포인트가 있으면 기록된 위치 이후의 레코드만 처리하고, 완료 후 체크포인트 삭제")
+  void resumesFromCheckpoint() throws IOException {
+    List<Shipment> shipments = createPendingShipments(6);
+    String lines = shippedLines(shipments);
+    Path file = tempDir.resolve("carrier-status.csv");
+    Files.writeString(file, lines, StandardCharsets.US_ASCII);
+
+    // 앞의 두 줄까지 처리하고 중단된 상황
+    writeCheckpoint(file, firstLinesLength(lines, 2));
+
+    CarrierStatusImporter.ImportResult result = carrierStatusImporter.importFile(file);
+
+    assertThat(result.records()).isEqualTo(4);
+    assertThat(result.updated()).isEqualTo(4);
+    assertThat(statusOf(shipments.get(0).getShipmentId())).isEqualTo(ShipmentStatus.PENDING);
+    assertThat(statusOf(shipments.get(1).getShipmentId())).isEqualTo(ShipmentStatus.PENDING);
+    assertThat(shipments.subList(2, 6))
+      .allSatisfy(shipment -> assertThat(statusOf(shipment.getShipmentId())).isEqualTo(ShipmentStatus.SHIPPED));
+    assertThat(CarrierStatusImporter.checkpointPath(file)).doesNotExist();
+
+    // 체크포인트가 삭제되었으므로 다시 실행하면 처음부터 처리 (이미 반영된 레코드는 조건부 UPDATE 로 바뀌지 않음)
+    CarrierStatusImporter.ImportResult rerun = carrierStatusImporter.importFile(file);
+    assertThat(rerun.records()).isEqualTo(6);
+    assertThat(rerun.updated()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("같은 이름으로 다른 파일이 들어오면 이전 체크포인트를 버리고 처음부터 처리")
+  void ignoresCheckpointOfReplacedFile() throws IOException {
+    List<Shipment> shipments = createPendingShipments(6);
+    String previousLines = shippedLines(shipments.subList(0, 3));
+    Path file = tempDir.resolve("carrier-status.csv");
+    Files.writeString(file, previousLines, StandardCharsets.US_ASCII);
+    // 이전 파일을 두 줄까지 처리하고 중단된 상황
+    writeCheckpoint(file, firstLinesLength(previousLines, 2));
+
+    // 같은 이름의 새 파일로 교체
+    Files.writeString(file, shippedLines(shipments.subList(3, 6)), StandardCharsets.US_ASCII);
+
+    CarrierStatusImporter.ImportResult result = carrierStatusImporter.importFile(file);
+
+    assertThat(result.records()).isEqualTo(3);
+    assertThat(result.updated()).isEqualTo(3);
+    assertThat(shipments.subList(3, 6))
+      .allSatisfy(shipment -> assertThat(statusOf(shipment.getShipmentId())).isEqualTo(ShipmentStatus.SHIPPED));
+    assertThat(CarrierStatusImporter.checkpointPath(file)).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("체크포인트 위치가 파일 크기보다 크면(파일이 잘린 경우) 아무것도 반영하지 않고 실패")
+  void failsWhenFileIsTruncatedBeforeCheckpoint() throws IOException {
+    List<Shipment> shipments = createPendingShipments(4);
+    String lines = shippedLines(shipments);
+    Path file = tempDir.resolve("carrier-status.csv");
+    Files.writeString(file, lines, StandardCharsets.US_ASCII);
+    writeCheckpoint(file, firstLinesLength(lines, 3));
+
+    // 한 줄만 남기고 잘림
+    Files.writeString(file, lines.substring(0, firstLinesLength(lines, 1)), StandardCharsets.US_ASCII);
+
+    assertThatThrownBy(() -> carrierStatusImporter.importFile(file))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("파일 크기");
+    assertThat(shipments)
+      .allSatisfy(shipment -> assertThat(statusOf(shipment.getShipmentId())).isEqualTo(ShipmentStatus.PENDING));
+    assertThat(CarrierStatusImporter.checkpointPath(file)).exists();
+  }
+
+  private List<Shipment> createPendingShipments(int count) {
+    return shipmentRepository.saveAll(LongStream.rangeClosed(1, count)
+      .mapToObj(orderId -> Shipment.createShipment(2_000 + orderId))
+      .toList());
+  }
+
+  private static String shippedLines(List<Shipment> shipments) {
+    return shipments.stream()
+      .map(shipment -> shipment.getShipmentId() + ",SHIPPED\n")
+      .collect(Collectors.joining());
+  }
+
+  private static int firstLinesLength(String lines, int count) {
+    int end = 0;
+    for (int i = 0; i < count; i++) {
+      end = lines.indexOf('\n', end) + 1;
+    }
+    return end;
+  }
+
+  private static void writeCheckpoint(Path file, long offset) throws IOException {
+    CarrierStatusImporter.writeCheckpoint(CarrierStatusImporter.checkpointPath(file), offset,
+      CarrierStatusImporter.identify(file));
+  }
+
+  private Path write(String... lines) throws IOException {
+    Path file = tempDir.resolve("carrier-status.csv");
+    Files.writeString(file, String.join("\n", lines), StandardCharsets.US_ASCII);
+    return file;
+  }
+
+  private ShipmentStatus statusOf(long shipmentId) {
+    return shipmentRepository.findById(shipmentId).orElseThrow().getStatus();
+  }
+}
@@ -0,0 +1,203 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 API 부하 테스트 (./gradlew loadTest 로만 실행)
+ * - 동시 클라이언트 수(1k, 5k, 10k)별로 가상 스레드 클라이언트가 주문 생성 요청을 보내고
+ *   응답 상태 코드별 건수, 초당 처리량과 p50/p99 응답 시간을 출력합니다.
+ * - 동시 처리 한도를 넘은 요청은 503 으로 즉시 거절되므로, 처리량과 응답 시간은 주문이 생성된(201) 요청만으로 계산합니다.
+ * - 단일 상품 락에 모든 요청이 줄 서지 않도록 여러 상품에 나누어 주문합니다.
+ * - 클라이언트와 서버가 같은 JVM 에서 실행되므로 결과는 상대 비교용으로만 사용합니다.
+ *   10k 동시 연결을 위해 OS 파일 디스크립터 제한(ulimit -n)을 충분히 늘려야 합니다.
+ */
+@Tag("load")
+@SpringBootTest(
+  webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = {
+    "server.tomcat.max-connections=20000",
+    "server.tomcat.accept-count=10000",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "logging.level.com.example.transaction=WARN",
+    "transaction.monitoring.sampling.rate=0"
+  })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderApiLoadTest extends AbstractIntegrationTest {
+
+  private static final int PRODUCT_COUNT = 200;
+  private static final int REQUESTS_PER_CLIENT = 2;
+  /**
+   * 응답을 받지 못한 요청(연결 실패, 타임아웃)의 상태 코드 집계 키
+   */
+  private static final int NO_RESPONSE = 0;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private final List<Long> productIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    productIds.clear();
+    List<Product> products = IntStream.range(0, PRODUCT_COUNT)
+      .mapToObj(i -> Product.createProduct("Load Product " + i, 1_000_000, BigDecimal.valueOf(10.00), "load"))
+      .toList();
+    productRepository.saveAll(products).forEach(product -> productIds.add(product.getProductId()));
+  }
+
+  @DisplayName("[부하 테스트] 동시 클라이언트 수별 주문 생성 처리량과 응답 시간")
+  @ParameterizedTest(name = "동시 클라이언트 {0}")
+  @ValueSource(ints = {1_000, 5_000, 10_000})
+  void createOrders(int clients) throws Exception {
+    LoadResult result = run(clients);
+
+    System.out.printf("[부하 테스트] clients=%d, requests=%d, statuses=%s, elapsed=%dms, success rps=%.1f, success p50=%.1fms, success p99=%.1fms%n",
+      result.clients(), result.requests(), result.statusCounts(), result.elapsedMillis(),
+      result.successesPerSecond(), result.p50Millis(), result.p99Millis());
+    assertThat(result.successes()).isPositive();
+  }
+
+  private LoadResult run(int clients) throws InterruptedException {
+    int totalRequests = clients * REQUESTS_PER_CLIENT;
+    long[] successLatencies = new long[totalRequests];
+    AtomicInteger successes = new AtomicInteger();
+    Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
+    CountDownLatch startGate = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(clients);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+         HttpClient httpClient = HttpClient.newBuilder()
+           .executor(executor)
+           .connectTimeout(Duration.ofSeconds(30))
+           .build()) {
+      for (int client = 0; client < clients; client++) {
+        Long productId = productIds.get(client % PRODUCT_COUNT);
+        executor.submit(() -> {
+          try {
+            startGate.await();
+            for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+              long start = System.nanoTime();
+              int status = sendOrder(httpClient, productId);
+              long latency = System.nanoTime() - start;
+              statusCounts.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+              if (status == 201) {
+                successLatencies[successes.getAndIncrement()] = latency;
+              }
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+
+      long startNanos = System.nanoTime();
+      startGate.countDown();
+      done.await();
+      long elapsedNanos = System.nanoTime() - startNanos;
+
+      Map<Integer, Integer> counts = new TreeMap<>();
+      statusCounts.forEach((status, count) -> counts.put(status, count.get()));
+      long[] sorted = Arrays.copyOf(successLatencies, successes.get());
+      Arrays.sort(sorted);
+      return new LoadResult(clients, counts, elapsedNanos, percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+  }
+
+  /**
+   * @return 응답 상태 코드 (응답을 받지 못하면 {@link #NO_RESPONSE})
+   */
+  private int sendOrder(HttpClient httpClient, Long productId) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+      .timeout(Duration.ofSeconds(120))
+      .header("Content-Type", "application/json")
+      .POST(HttpRequest.BodyPublishers.ofString("""
+        {"productId": %d, "quantity": 1, "paymentAmount": 10.00, "paymentMethod": "card"}
+        """.formatted(productId)))
+      .build();
+    try {
+      HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+      return response.statusCode();
+    } catch (IOException e) {
+      return NO_RESPONSE;
+    }
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0L;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  /**
+   * @param statusCounts 응답 상태 코드별 요청 수
+   * @param p50Nanos     주문이 생성된(201) 요청의 p50 응답 시간
+   * @param p99Nanos     주문이 생성된(201) 요청의 p99 응답 시간
+   */
+  private record LoadResult(int clients, Map<Integer, Integer> statusCounts, long elapsedNanos,
+                            long p50Nanos, long p99Nanos) {
+
+    int requests() {
+      return statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    int successes() {
+      return statusCounts.getOrDefault(201, 0);
+    }
+
+    long elapsedMillis() {
+      return elapsedNanos / 1_000_000;
+    }
+
+    double successesPerSecond() {
+      return successes() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    double p50Millis() {
+      return p50Nanos / 1_000_000.0;
+    }
+
+    double p99Millis() {
+      return p99Nanos / 1_000_000.0;
+    }
+  }
+}
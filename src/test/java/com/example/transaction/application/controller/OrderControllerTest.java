@@ -0,0 +1,144 @@
+package com.example.transaction.application.controller;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class OrderControllerTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    Product product = Product.createProduct(
+      "Test Product", 10, BigDecimal.valueOf(100.00), "Test Description"
+    );
+    productId = productRepository.save(product).getProductId();
+  }
+
+  @DisplayName("[주문 API] 주문 생성 후 주문, 결제, 배송 상태 조회")
+  @Test
+  void createOrderAndReadStatus() throws Exception {
+    MvcResult result = mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(orderRequest(2)))
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.status").value("PAID"))
+      .andExpect(jsonPath("$.quantity").value(2))
+      .andReturn();
+    Number orderId = JsonPath.read(result.getResponse().getContentAsString(), "$.orderId");
+
+    mockMvc.perform(get("/api/orders/{orderId}", orderId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.productId").value(productId));
+    mockMvc.perform(get("/api/orders/{orderId}/payment", orderId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("COMPLETED"));
+    mockMvc.perform(get("/api/orders/{orderId}/shipment", orderId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("SHIPPED"));
+    mockMvc.perform(get("/api/orders/{orderId}/status", orderId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.orderStatus").value("PAID"))
+      .andExpect(jsonPath("$.paymentStatus").value("COMPLETED"))
+      .andExpect(jsonPath("$.shipmentStatus").value("SHIPPED"));
+
+    assertThat(productRepository.findById(productId).get().getStockQuantity()).isEqualTo(8);
+  }
+
+  @DisplayName("[주문 API] 재고 부족 시 400 응답")
+  @Test
+  void createOrderWithInsufficientStock() throws Exception {
+    mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(orderRequest(20)))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value("재고가 부족합니다."));
+
+    assertThat(productRepository.findById(productId).get().getStockQuantity()).isEqualTo(10);
+  }
+
+  @DisplayName("[주문 API] 잘못된 요청 값은 400 응답")
+  @Test
+  void createOrderWithInvalidRequest() throws Exception {
+    mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(orderRequest(0)))
+      .andExpect(status().isBadRequest());
+  }
+
+  @DisplayName("[주문 API] 잘못된 JSON 본문은 400 응답")
+  @Test
+  void createOrderWithMalformedJson() throws Exception {
+    mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"productId\": "))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value("요청 본문을 읽을 수 없습니다."));
+  }
+
+  @DisplayName("[주문 API] 형식이 맞지 않는 주문 ID 는 400 응답")
+  @Test
+  void getOrderWithMalformedId() throws Exception {
+    mockMvc.perform(get("/api/orders/{orderId}", "abc"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value("orderId: 형식이 올바르지 않습니다."));
+  }
+
+  @DisplayName("[주문 API] 존재하지 않는 주문 조회 시 404 응답")
+  @Test
+  void getUnknownOrder() throws Exception {
+    mockMvc.perform(get("/api/orders/{orderId}", 999_999L))
+      .andExpect(status().isNotFound());
+  }
+
+  @DisplayName("[주문 API] 결제 완료된 주문 취소 시 409 응답")
+  @Test
+  void cancelPaidOrder() throws Exception {
+    MvcResult result = mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(orderRequest(1)))
+      .andExpect(status().isCreated())
+      .andReturn();
+    Number orderId = JsonPath.read(result.getResponse().getContentAsString(), "$.orderId");
+
+    mockMvc.perform(post("/api/orders/{orderId}/cancel", orderId))
+      .andExpect(status().isConflict());
+  }
+
+  private String orderRequest(int quantity) {
+    return """
+      {"productId": %d, "quantity": %d, "paymentAmount": 100.00, "paymentMethod": "card"}
+      """.formatted(productId, quantity);
+  }
+}
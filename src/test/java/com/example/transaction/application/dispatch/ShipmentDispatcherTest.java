@@ -0,0 +1,160 @@
+package com.example.transaction.application.dispatch;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.application.repository.ShipmentRepository;
+import com.example.transaction.application.repository.ShipmentStatus;
+import com.example.transaction.application.service.OrderSagaOrchestrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[ShipmentDispatcher] 배송 발송 워커 테스트")
+@SpringBootTest(properties = {
+  "transaction.shipment-dispatch.enabled=true",
+  "transaction.shipment-dispatch.worker-count=3",
+  "transaction.shipment-dispatch.batch-size=4",
+  "transaction.shipment-dispatch.idle-interval=100ms",
+  "transaction.shipment-dispatch.max-attempts=2",
+  "transaction.shipment-dispatch.retry-backoff=200ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@Import(ShipmentDispatcherTest.CarrierTestConfig.class)
+class ShipmentDispatcherTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private ShipmentRepository shipmentRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private OrderSagaOrchestrator orderSagaOrchestrator;
+
+  @Autowired
+  private RecordingCarrierAdapter carrierAdapter;
+
+  @Test
+  @DisplayName("워커들이 PENDING 배송을 나누어 모두 SHIPPED 로 변경")
+  void dispatchesAllPendingShipments() throws InterruptedException {
+    List<Shipment> shipments = LongStream.rangeClosed(1, 30)
+      .mapToObj(orderId -> Shipment.createShipment(1_000 + orderId))
+      .toList();
+    shipmentRepository.saveAll(shipments);
+
+    awaitNoPendingShipments();
+
+    assertThat(shipmentRepository.findAll())
+      .hasSize(30)
+      .allSatisfy(shipment -> assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.SHIPPED));
+  }
+
+  @Test
+  @DisplayName("주문 처리 흐름은 배송을 생성만 하고, 배송 시작은 워커가 처리")
+  void sagaLeavesShippingToWorkers() throws InterruptedException {
+    Product product = productRepository.save(
+      Product.createProduct("Test Product", 10, BigDecimal.valueOf(100.00), "Test Description"));
+
+    Order order = orderSagaOrchestrator.handleOrderSaga(product.getProductId(), 1, BigDecimal.valueOf(100.00), "card");
+
+    awaitNoPendingShipments();
+    assertThat(shipmentRepository.findByOrderId(order.getOrderId()))
+      .get()
+      .satisfies(shipment -> assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.SHIPPED));
+  }
+
+  @Test
+  @DisplayName("택배사가 일부만 접수하면 거절된 배송은 재시도 후 FAILED, 뒤의 배송은 밀리지 않고 SHIPPED")
+  void retriesRejectedShipmentsWithoutStarvingOthers() throws InterruptedException {
+    // Given: 거절될 배송이 먼저 생성되어 매 조회의 맨 앞에 오는 상황
+    Set<Long> rejectedOrderIds = LongStream.rangeClosed(1, 4).map(i -> 1_000 + i).boxed().collect(Collectors.toSet());
+    carrierAdapter.rejectedOrderIds.addAll(rejectedOrderIds);
+    shipmentRepository.saveAll(rejectedOrderIds.stream().sorted().map(Shipment::createShipment).toList());
+    shipmentRepository.saveAll(LongStream.rangeClosed(1, 20)
+      .mapToObj(i -> Shipment.createShipment(2_000 + i))
+      .toList());
+
+    // When
+    awaitNoPendingShipments();
+
+    // Then
+    List<Shipment> shipments = shipmentRepository.findAll();
+    assertThat(shipments)
+      .filteredOn(shipment -> !rejectedOrderIds.contains(shipment.getOrderId()))
+      .hasSize(20)
+      .allSatisfy(shipment -> assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.SHIPPED));
+    assertThat(shipments)
+      .filteredOn(shipment -> rejectedOrderIds.contains(shipment.getOrderId()))
+      .hasSize(4)
+      .allSatisfy(shipment -> {
+        assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.FAILED);
+        assertThat(shipment.getAttemptCount()).isEqualTo(2);
+      });
+    // 택배사 호출 중에는 트랜잭션(배송 행 락)을 잡고 있지 않음
+    assertThat(carrierAdapter.calledInTransaction).isFalse();
+  }
+
+  private void awaitNoPendingShipments() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (System.currentTimeMillis() < deadline) {
+      boolean pending = shipmentRepository.findAll().stream()
+        .anyMatch(shipment -> shipment.getStatus() == ShipmentStatus.PENDING);
+      if (!pending) {
+        return;
+      }
+      Thread.sleep(100);
+    }
+  }
+
+  @TestConfiguration
+  static class CarrierTestConfig {
+
+    @Bean
+    @Primary
+    RecordingCarrierAdapter recordingCarrierAdapter() {
+      return new RecordingCarrierAdapter();
+    }
+  }
+
+  /**
+   * 지정한 주문의 배송만 거절하고, 트랜잭션 안에서 호출되었는지 기록하는 어댑터
+   */
+  static class RecordingCarrierAdapter implements CarrierAdapter {
+
+    final Set<Long> rejectedOrderIds = ConcurrentHashMap.newKeySet();
+    final AtomicBoolean calledInTransaction = new AtomicBoolean();
+
+    @Override
+    public Set<Long> dispatch(List<Shipment> shipments) {
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        calledInTransaction.set(true);
+      }
+      return shipments.stream()
+        .filter(shipment -> !rejectedOrderIds.contains(shipment.getOrderId()))
+        .map(Shipment::getShipmentId)
+        .collect(Collectors.toSet());
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.example.transaction.application.flashsale;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.OrderRepository;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.service.OrderSagaOrchestrator;
+import com.example.transaction.exception.StockExhaustedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[FlashSaleStockGate] 한정 판매 입장 제어 테스트")
+// 입장 제어만 검증하도록 동시 처리 한도는 비활성화
+@SpringBootTest(properties = "transaction.concurrency-limit.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class FlashSaleStockGateTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private FlashSaleStockGate stockGate;
+
+  @Autowired
+  private OrderSagaOrchestrator orderSagaOrchestrator;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    Product product = Product.createProduct("Flash Sale Product", 5, new BigDecimal("100.00"), "Test Description");
+    productId = productRepository.save(product).getProductId();
+    stockGate.open(productId);
+  }
+
+  @Test
+  @DisplayName("허가 수만큼만 주문이 DB 경로로 진입하고 나머지는 즉시 거절")
+  void rejectsRequestsBeyondStock() throws InterruptedException {
+    int threadCount = 30;
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger succeeded = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+
+    for (int i = 0; i < threadCount; i++) {
+      executorService.submit(() -> {
+        try {
+          orderSagaOrchestrator.handleOrderSaga(productId, 1, new BigDecimal("100.00"), "card");
+          succeeded.incrementAndGet();
+        } catch (StockExhaustedException e) {
+          rejected.incrementAndGet();
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    executorService.shutdown();
+
+    assertThat(succeeded.get()).isEqualTo(5);
+    assertThat(rejected.get()).isEqualTo(25);
+    assertThat(orderRepository.count()).isEqualTo(5);
+    assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+    assertThat(stockGate.snapshot().get(productId))
+      .containsEntry("available", 0)
+      .containsEntry("inFlight", 0);
+  }
+
+  @Test
+  @DisplayName("허가를 얻은 주문이 롤백되면 허가를 반납")
+  void releasesPermitOnRollback() {
+    // 결제 금액 검증 실패로 오케스트레이션 롤백
+    assertThatThrownBy(() -> orderSagaOrchestrator.handleOrderSaga(productId, 5, BigDecimal.ZERO, "card"))
+      .isInstanceOf(RuntimeException.class);
+    assertThat(stockGate.snapshot().get(productId)).containsEntry("available", 5);
+
+    orderSagaOrchestrator.handleOrderSaga(productId, 5, new BigDecimal("500.00"), "card");
+    assertThat(stockGate.snapshot().get(productId)).containsEntry("available", 0);
+
+    assertThatThrownBy(() -> orderSagaOrchestrator.handleOrderSaga(productId, 1, new BigDecimal("100.00"), "card"))
+      .isInstanceOf(StockExhaustedException.class);
+  }
+
+  @Test
+  @DisplayName("DB 재고와 진행 중인 허가 수로 허가 수를 다시 맞춤")
+  void reconcilesWithDatabaseStock() {
+    Product product = productRepository.findById(productId).orElseThrow();
+    product.increaseStock(10);
+    productRepository.save(product);
+
+    stockGate.reconcile();
+
+    assertThat(stockGate.snapshot().get(productId)).containsEntry("available", 15);
+  }
+
+  @Test
+  @DisplayName("허가 획득/커밋과 재조정이 동시에 일어나도 재고보다 많이 입장시키지 않음")
+  void neverAdmitsMoreThanStockWhileReconciling() throws InterruptedException {
+    // Given: 재고 200개
+    int stock = 200;
+    jdbcTemplate.update("UPDATE products SET stock_quantity = ? WHERE product_id = ?", stock, productId);
+    stockGate.open(productId);
+
+    int threadCount = 16;
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicInteger admitted = new AtomicInteger();
+
+    // When: 재조정을 쉬지 않고 반복하는 동안, 허가를 얻은 트랜잭션만 DB 재고를 1씩 줄이고 커밋
+    executorService.submit(() -> {
+      while (running.get()) {
+        stockGate.reconcile();
+      }
+    });
+    for (int i = 0; i < threadCount; i++) {
+      executorService.submit(() -> {
+        try {
+          while (true) {
+            transactionTemplate.executeWithoutResult(status -> {
+              stockGate.acquire(productId, 1);
+              jdbcTemplate.update("UPDATE products SET stock_quantity = stock_quantity - 1 WHERE product_id = ?", productId);
+            });
+            admitted.incrementAndGet();
+          }
+        } catch (StockExhaustedException e) {
+          // 허가 소진
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    running.set(false);
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    // Then: 입장한 주문 수가 재고를 넘지 않고, DB 재고가 음수가 되지 않음
+    Integer remaining = jdbcTemplate.queryForObject(
+      "SELECT stock_quantity FROM products WHERE product_id = ?", Integer.class, productId);
+    assertThat(admitted.get()).isLessThanOrEqualTo(stock);
+    assertThat(remaining).isEqualTo(stock - admitted.get()).isNotNegative();
+
+    // 진행 중인 트랜잭션이 없으면 재조정 후 허가 수가 남은 재고와 같음
+    stockGate.reconcile();
+    assertThat(stockGate.snapshot().get(productId))
+      .containsEntry("available", remaining)
+      .containsEntry("inFlight", 0);
+  }
+}
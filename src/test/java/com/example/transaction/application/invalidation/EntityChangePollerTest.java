@@ -0,0 +1,159 @@
+package com.example.transaction.application.invalidation;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.availability.ProductAvailabilityIndex;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.service.OrderPessimisticLockService;
+import com.example.transaction.application.service.PaymentService;
+import com.example.transaction.application.service.ProductCatalogService;
+import com.example.transaction.application.service.ProductPessimisticLockService;
+import com.example.transaction.application.service.SoldOutProductIndex;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[EntityChangePoller] 노드 간 캐시 무효화 테스트")
+@SpringBootTest(properties = {
+  "transaction.invalidation.enabled=true",
+  "transaction.invalidation.node-id=this-node",
+  "transaction.invalidation.settle-window=0s",
+  "transaction.invalidation.poll-interval=PT1H"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class EntityChangePollerTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private EntityChangePoller entityChangePoller;
+
+  @Autowired
+  private InvalidationProperties invalidationProperties;
+
+  @Autowired
+  private ProductPessimisticLockService productService;
+
+  @Autowired
+  private ProductCatalogService productCatalogService;
+
+  @Autowired
+  private OrderPessimisticLockService orderService;
+
+  @Autowired
+  private PaymentService paymentService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ProductAvailabilityIndex productAvailabilityIndex;
+
+  @Autowired
+  private SoldOutProductIndex soldOutProductIndex;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    productId = productRepository.save(
+      Product.createProduct("Shared Product", 10, new BigDecimal("100.00"), "Test Description")).getProductId();
+    entityChangePoller.poll();
+  }
+
+  @Test
+  @DisplayName("한 트랜잭션의 변경은 엔티티당 한 건만 기록하고, 롤백된 변경은 기록하지 않음")
+  void recordsCommittedChangesOnce() {
+    transactionTemplate.executeWithoutResult(status -> {
+      productService.decreaseStock(productId, 1);
+      productService.decreaseStock(productId, 1);
+    });
+    assertThatThrownBy(() -> productService.decreaseStock(productId, 100))
+      .isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(countLogs(productId)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("주문 생성/취소와 결제 생성은 캐시되는 상품 변경만 기록")
+  void recordsOnlyCachedEntityTypes() {
+    Order order = orderService.createOrder(productId, 1);
+    paymentService.createPayment(order.getOrderId(), order.getTotalAmount(), "card");
+    orderService.cancelOrder(order.getOrderId());
+
+    Integer otherTypes = jdbcTemplate.queryForObject(
+      "SELECT COUNT(*) FROM entity_change_log WHERE entity_type <> 'PRODUCT'", Integer.class);
+    assertThat(otherTypes).isZero();
+    assertThat(countLogs(productId)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("자신이 기록한 변경은 건너뛰고, 다른 노드의 변경은 캐시와 재고 인덱스에 반영")
+  void evictsChangesFromOtherNodes() {
+    productService.decreaseStock(productId, 1);
+    productCatalogService.getProduct(productId);
+    assertThat(entityChangePoller.poll()).isZero();
+    assertThat(productCache().contains(Product.class, productId)).isTrue();
+
+    // 다른 노드가 재고를 모두 소진한 상황
+    jdbcTemplate.update("UPDATE products SET stock_quantity = 0 WHERE product_id = ?", productId);
+    insertLog("other-node", productId);
+
+    assertThat(entityChangePoller.poll()).isEqualTo(1);
+    assertThat(productCache().contains(Product.class, productId)).isFalse();
+    assertThat(productCatalogService.getProduct(productId).getStockQuantity()).isZero();
+    assertThat(productAvailabilityIndex.getStock(productId)).isZero();
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isTrue();
+  }
+
+  @Test
+  @DisplayName("커밋이 확정되지 않은 구간은 다시 조회하되, 이미 처리한 변경은 다시 반영하지 않음")
+  void holdsHighWaterMarkWithinSettleWindow() {
+    invalidationProperties.setSettleWindow(Duration.ofHours(1));
+    long markBefore = entityChangePoller.getHighWaterMark();
+    insertLog("other-node", productId);
+
+    assertThat(entityChangePoller.poll()).isEqualTo(1);
+    assertThat(entityChangePoller.poll()).isZero();
+    assertThat(entityChangePoller.getHighWaterMark()).isEqualTo(markBefore);
+
+    invalidationProperties.setSettleWindow(Duration.ZERO);
+    assertThat(entityChangePoller.poll()).isZero();
+    assertThat(entityChangePoller.getHighWaterMark()).isGreaterThan(markBefore);
+  }
+
+  private Cache productCache() {
+    return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+  }
+
+  private void insertLog(String nodeId, Long entityId) {
+    jdbcTemplate.update("INSERT INTO entity_change_log (entity_type, entity_id, node_id, created_at) "
+      + "VALUES ('PRODUCT', ?, ?, NOW(6))", entityId, nodeId);
+  }
+
+  private int countLogs(Long entityId) {
+    Integer count = jdbcTemplate.queryForObject(
+      "SELECT COUNT(*) FROM entity_change_log WHERE entity_type = 'PRODUCT' AND entity_id = ?", Integer.class, entityId);
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.transaction.application.manifest;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderRepository;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.Shipment;
+import com.example.transaction.application.repository.ShipmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[ShipmentManifestExporter] 배송 매니페스트 내보내기 테스트")
+@SpringBootTest(properties = {
+  "transaction.manifest-export.page-size=2",
+  "transaction.manifest-export.buffer-bytes=256"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ShipmentManifestExporterTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private ShipmentManifestExporter shipmentManifestExporter;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ShipmentRepository shipmentRepository;
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @DisplayName("PENDING 배송만 주문 수량과 함께 shipment_id 순으로 내보냄")
+  void exportsPendingShipmentsWithOrderQuantity() throws IOException {
+    List<String> expected = createShipments(5);
+    Path target = tempDir.resolve("manifest.csv");
+
+    ShipmentManifestExporter.ExportResult result = shipmentManifestExporter.export(target, false);
+
+    List<String> lines = Files.readAllLines(target, StandardCharsets.US_ASCII);
+    assertThat(result.rows()).isEqualTo(expected.size());
+    assertThat(lines.get(0)).isEqualTo("shipmentId,orderId,productId,quantity,createdAt");
+    assertThat(lines.subList(1, lines.size()))
+      .allSatisfy(line -> assertThat(line).matches("\\d+,\\d+,\\d+,\\d+,\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}"))
+      .extracting(line -> line.substring(0, line.lastIndexOf(',')))
+      .containsExactlyElementsOf(expected);
+    assertThat(Files.exists(tempDir.resolve("manifest.csv.tmp"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("GZIP 압축 시 압축을 풀면 같은 내용")
+  void exportsGzipCompressedManifest() throws IOException {
+    List<String> expected = createShipments(7);
+    Path plain = tempDir.resolve("manifest.csv");
+    Path compressed = tempDir.resolve("manifest.csv.gz");
+
+    shipmentManifestExporter.export(plain, false);
+    ShipmentManifestExporter.ExportResult result = shipmentManifestExporter.export(compressed, true);
+
+    assertThat(result.rows()).isEqualTo(expected.size());
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+      assertThat(in.readAllBytes()).isEqualTo(Files.readAllBytes(plain));
+    }
+  }
+
+  /**
+   * 주문 count 건과 배송을 만들고 짝수 번째 배송은 발송 처리
+   *
+   * @return 내보내기 대상 행의 "shipmentId,orderId,productId,quantity"
+   */
+  private List<String> createShipments(int count) {
+    Product product = productRepository.save(
+      Product.createProduct("Manifest Product", 100, new BigDecimal("100.00"), "Test Description"));
+    List<String> expected = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      Order order = orderRepository.save(Order.createOrder(product, i));
+      Shipment shipment = Shipment.createShipment(order.getOrderId());
+      if (i % 2 == 0) {
+        shipment.ship();
+      }
+      shipment = shipmentRepository.save(shipment);
+      if (i % 2 != 0) {
+        expected.add(shipment.getShipmentId() + "," + order.getOrderId() + "," + product.getProductId() + "," + i);
+      }
+    }
+    return expected;
+  }
+}
@@ -0,0 +1,181 @@
+package com.example.transaction.application.repository;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.core.jpa.StreamingQueries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 키셋 페이지네이션 벤치마크 (./gradlew benchmark 로만 실행)
+ * - 주문 1,000만 건을 INSERT ... SELECT 로 생성한 뒤 1페이지와 1000페이지의 조회 시간을 키셋 / OFFSET 방식별로 비교합니다.
+ * - 키셋 방식은 페이지 깊이와 관계없이 인덱스에서 바로 찾아 읽으므로 1000페이지도 1페이지와 비슷한 시간이 걸리고,
+ *   OFFSET 방식은 건너뛸 행을 모두 읽어야 하므로 페이지가 깊어질수록 느려집니다.
+ * - 마지막으로 같은 데이터를 Stream 으로 끝까지 읽으면서 처리량을 출력합니다.
+ * - 데이터 생성에 수 분이 걸리고 디스크를 수 GB 사용하므로 결과는 상대 비교용으로만 사용합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+  "spring.jpa.show-sql=false",
+  "spring.jpa.properties.hibernate.use_sql_comments=false",
+  "logging.level.com.example.transaction=WARN",
+  "transaction.monitoring.sampling.rate=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderKeysetPaginationBenchmarkTest extends AbstractIntegrationTest {
+
+  private static final int ORDER_COUNT = 10_000_000;
+  private static final int INSERT_CHUNK_SIZE = 1_000_000;
+  private static final int PAGE_SIZE = 100;
+  private static final int DEEP_PAGE = 1_000;
+  private static final int WARMUP_RUNS = 5;
+  private static final int MEASURED_RUNS = 21;
+  private static final LocalDateTime BASE_ORDER_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class);
+    if (existing != null && existing >= ORDER_COUNT) {
+      return;
+    }
+    jdbcTemplate.execute("TRUNCATE TABLE orders");
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS benchmark_digits (d INT NOT NULL PRIMARY KEY)");
+    jdbcTemplate.execute("INSERT IGNORE INTO benchmark_digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+
+    long startNanos = System.nanoTime();
+    // 주문일시는 3건마다 1초씩 증가 (같은 주문일시가 섞이도록), 상태는 4종류를 번갈아 가며 저장
+    for (int offset = 0; offset < ORDER_COUNT; offset += INSERT_CHUNK_SIZE) {
+      jdbcTemplate.update("""
+        INSERT INTO orders (product_id, order_date, status, quantity, total_amount)
+        SELECT 1, TIMESTAMPADD(SECOND, (n.seq + ?) DIV 3, ?),
+               ELT((n.seq + ?) % 4 + 1, 'PENDING', 'PAID', 'SHIPPED', 'CANCELLED'), 1, 100.00
+        FROM (
+          SELECT d1.d + d2.d * 10 + d3.d * 100 + d4.d * 1000 + d5.d * 10000 + d6.d * 100000 AS seq
+          FROM benchmark_digits d1, benchmark_digits d2, benchmark_digits d3,
+               benchmark_digits d4, benchmark_digits d5, benchmark_digits d6
+        ) n
+        ORDER BY n.seq
+        """, offset, Timestamp.valueOf(BASE_ORDER_DATE), offset);
+    }
+    jdbcTemplate.execute("ANALYZE TABLE orders");
+    System.out.printf("[벤치마크] 주문 %,d건 생성: %,dms%n",
+      ORDER_COUNT, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  @DisplayName("[벤치마크] 상태별 조회 - 키셋 1000페이지는 1페이지와 비슷하고 OFFSET 1000페이지보다 빠름")
+  @Test
+  void statusKeysetPagination() {
+    long deepCursor = cursorBeforePage("SELECT order_id FROM orders WHERE status = 'PAID' ORDER BY order_id LIMIT 1 OFFSET ?");
+
+    long keysetFirst = medianNanos(() -> orderRepository.findPageByStatus(OrderStatus.PAID, 0L, Limit.of(PAGE_SIZE)));
+    long keysetDeep = medianNanos(() -> orderRepository.findPageByStatus(OrderStatus.PAID, deepCursor, Limit.of(PAGE_SIZE)));
+    long offsetFirst = medianNanos(() -> offsetPage(
+      "SELECT * FROM orders WHERE status = 'PAID' ORDER BY order_id LIMIT ? OFFSET ?", 0));
+    long offsetDeep = medianNanos(() -> offsetPage(
+      "SELECT * FROM orders WHERE status = 'PAID' ORDER BY order_id LIMIT ? OFFSET ?", DEEP_PAGE - 1));
+
+    print("상태별 (status, order_id)", keysetFirst, keysetDeep, offsetFirst, offsetDeep);
+    assertComparable(keysetFirst, keysetDeep, offsetDeep);
+  }
+
+  @DisplayName("[벤치마크] 주문일시별 조회 - 키셋 1000페이지는 1페이지와 비슷하고 OFFSET 1000페이지보다 빠름")
+  @Test
+  void orderDateKeysetPagination() {
+    Order deepCursor = orderRepository.findById(cursorBeforePage(
+      "SELECT order_id FROM orders ORDER BY order_date, order_id LIMIT 1 OFFSET ?")).orElseThrow();
+    LocalDateTime firstCursorDate = BASE_ORDER_DATE.minusDays(1);
+
+    long keysetFirst = medianNanos(() -> orderRepository.findPageByOrderDate(firstCursorDate, 0L, Limit.of(PAGE_SIZE)));
+    long keysetDeep = medianNanos(() -> orderRepository.findPageByOrderDate(
+      deepCursor.getOrderDate(), deepCursor.getOrderId(), Limit.of(PAGE_SIZE)));
+    long offsetFirst = medianNanos(() -> offsetPage(
+      "SELECT * FROM orders ORDER BY order_date, order_id LIMIT ? OFFSET ?", 0));
+    long offsetDeep = medianNanos(() -> offsetPage(
+      "SELECT * FROM orders ORDER BY order_date, order_id LIMIT ? OFFSET ?", DEEP_PAGE - 1));
+
+    print("주문일시별 (order_date, order_id)", keysetFirst, keysetDeep, offsetFirst, offsetDeep);
+    assertComparable(keysetFirst, keysetDeep, offsetDeep);
+  }
+
+  @DisplayName("[벤치마크] 상태별 Stream 조회 - 영속성 컨텍스트를 비우면서 전체 결과를 읽는 처리량")
+  @Test
+  void streamByStatus() {
+    long startNanos = System.nanoTime();
+    Long count = transactionTemplate.execute(status -> StreamingQueries.forEach(
+      entityManager, orderRepository.streamByStatus(OrderStatus.PAID), order -> {
+      }));
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    Runtime runtime = Runtime.getRuntime();
+    System.out.printf("[벤치마크] Stream 조회: %,d건, %,dms (%,.0f건/초), 사용 중인 힙: %,dMB%n",
+      count, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), count * 1e9 / elapsedNanos,
+      (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    assertThat(count).isEqualTo(ORDER_COUNT / 4);
+  }
+
+  /**
+   * DEEP_PAGE 페이지를 조회하기 위한 커서 (DEEP_PAGE - 1 페이지의 마지막 주문 ID)
+   */
+  private long cursorBeforePage(String sql) {
+    Long cursor = jdbcTemplate.queryForObject(sql, Long.class, (DEEP_PAGE - 1) * PAGE_SIZE - 1);
+    assertThat(cursor).isNotNull();
+    return cursor;
+  }
+
+  private List<?> offsetPage(String sql, int pageIndex) {
+    return jdbcTemplate.queryForList(sql, PAGE_SIZE, pageIndex * PAGE_SIZE);
+  }
+
+  private long medianNanos(Supplier<List<?>> query) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      assertThat(query.get()).hasSize(PAGE_SIZE);
+    }
+    long[] samples = new long[MEASURED_RUNS];
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      long startNanos = System.nanoTime();
+      query.get();
+      samples[i] = System.nanoTime() - startNanos;
+    }
+    Arrays.sort(samples);
+    return samples[MEASURED_RUNS / 2];
+  }
+
+  private void print(String name, long keysetFirst, long keysetDeep, long offsetFirst, long offsetDeep) {
+    System.out.printf("[벤치마크] %s, 페이지 크기 %d (중앙값)%n", name, PAGE_SIZE);
+    System.out.printf("  키셋   - 1페이지: %.2fms, %d페이지: %.2fms%n", keysetFirst / 1e6, DEEP_PAGE, keysetDeep / 1e6);
+    System.out.printf("  OFFSET - 1페이지: %.2fms, %d페이지: %.2fms%n", offsetFirst / 1e6, DEEP_PAGE, offsetDeep / 1e6);
+  }
+
+  /**
+   * 키셋 깊은 페이지는 1페이지의 3배(+2ms 측정 오차) 이내이고, OFFSET 깊은 페이지보다 빨라야 함
+   */
+  private void assertComparable(long keysetFirst, long keysetDeep, long offsetDeep) {
+    assertThat(keysetDeep).isLessThanOrEqualTo(keysetFirst * 3 + TimeUnit.MILLISECONDS.toNanos(2));
+    assertThat(keysetDeep).isLessThan(offsetDeep);
+  }
+}
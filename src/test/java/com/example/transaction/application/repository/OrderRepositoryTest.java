@@ -0,0 +1,145 @@
+package com.example.transaction.application.repository;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.core.jpa.StreamingQueries;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("[OrderRepository] 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class OrderRepositoryTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    // Given: 상품 생성
+    product = Product.createProduct(
+      "Test Product", 100, BigDecimal.valueOf(100.00), "Test Description"
+    );
+    productRepository.save(product);
+  }
+
+  @DisplayName("[주문] 상태별 키셋 페이지 조회 - 페이지를 이어 읽으면 대상 주문을 빠짐없이, 중복 없이 ID 순으로 조회")
+  @Test
+  void findPageByStatusTest() {
+    // Given: PAID 주문 5건, PENDING 주문 2건
+    List<Long> paidOrderIds = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      Order order = Order.createOrder(product, 1);
+      if (i % 3 != 2) {
+        order.setStatus(OrderStatus.PAID);
+      }
+      orderRepository.save(order);
+      if (order.getStatus() == OrderStatus.PAID) {
+        paidOrderIds.add(order.getOrderId());
+      }
+    }
+
+    // When: 2건씩 키셋 페이지 조회
+    List<Long> foundOrderIds = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    long afterOrderId = 0L;
+    List<Order> page;
+    do {
+      page = orderRepository.findPageByStatus(OrderStatus.PAID, afterOrderId, Limit.of(2));
+      pageSizes.add(page.size());
+      page.forEach(order -> foundOrderIds.add(order.getOrderId()));
+      if (!page.isEmpty()) {
+        afterOrderId = page.get(page.size() - 1).getOrderId();
+      }
+    } while (page.size() == 2);
+
+    // Then: 모든 PAID 주문을 순서대로 조회
+    assertThat(foundOrderIds).containsExactlyElementsOf(paidOrderIds);
+    assertThat(pageSizes).containsExactly(2, 2, 1);
+  }
+
+  @DisplayName("[주문] 주문일시별 키셋 페이지 조회 - 같은 주문일시는 주문 ID 순으로 이어서 조회")
+  @Test
+  void findPageByOrderDateTest() {
+    // Given: 주문일시가 같은 주문이 섞인 주문 5건 (저장 순서와 주문일시 순서가 다름)
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    LocalDateTime[] orderDates = {
+      base.plusMinutes(2), base, base.plusMinutes(1), base, base.plusMinutes(1)
+    };
+    List<Order> orders = new ArrayList<>();
+    for (LocalDateTime orderDate : orderDates) {
+      Order order = Order.createOrder(product, 1);
+      order.setOrderDate(orderDate);
+      orders.add(orderRepository.save(order));
+    }
+
+    // When: 2건씩 키셋 페이지 조회
+    List<Long> foundOrderIds = new ArrayList<>();
+    LocalDateTime afterOrderDate = LocalDateTime.of(2000, 1, 1, 0, 0);
+    long afterOrderId = 0L;
+    List<Order> page;
+    do {
+      page = orderRepository.findPageByOrderDate(afterOrderDate, afterOrderId, Limit.of(2));
+      for (Order order : page) {
+        foundOrderIds.add(order.getOrderId());
+        afterOrderDate = order.getOrderDate();
+        afterOrderId = order.getOrderId();
+      }
+    } while (page.size() == 2);
+
+    // Then: (주문일시, 주문 ID) 순으로 모두 조회
+    assertThat(foundOrderIds).containsExactly(
+      orders.get(1).getOrderId(), orders.get(3).getOrderId(),
+      orders.get(2).getOrderId(), orders.get(4).getOrderId(),
+      orders.get(0).getOrderId()
+    );
+  }
+
+  @DisplayName("[주문] 상태별 Stream 조회 - 일정 건수마다 영속성 컨텍스트를 비우면서 모든 주문을 처리")
+  @Test
+  void streamByStatusTest() {
+    // Given: PAID 주문 5건
+    List<Long> paidOrderIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Order order = Order.createOrder(product, 1);
+      order.setStatus(OrderStatus.PAID);
+      paidOrderIds.add(orderRepository.save(order).getOrderId());
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    // When: 2건마다 영속성 컨텍스트를 비우면서 처리
+    Session session = entityManager.unwrap(Session.class);
+    List<Long> streamedOrderIds = new ArrayList<>();
+    List<Integer> managedEntityCounts = new ArrayList<>();
+    long count = StreamingQueries.forEach(entityManager, orderRepository.streamByStatus(OrderStatus.PAID), 2, order -> {
+      streamedOrderIds.add(order.getOrderId());
+      managedEntityCounts.add(session.getStatistics().getEntityCount());
+    });
+
+    // Then: 모든 주문을 순서대로 처리하고, 영속성 컨텍스트에는 최대 2건만 쌓이며 처리가 끝나면 비어 있음
+    assertThat(count).isEqualTo(5);
+    assertThat(streamedOrderIds).containsExactlyElementsOf(paidOrderIds);
+    assertThat(managedEntityCounts).containsExactly(1, 2, 1, 2, 1);
+    assertThat(session.getStatistics().getEntityCount()).isZero();
+  }
+}
@@ -7,10 +7,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -109,4 +112,33 @@ class ShipmentRepositoryTest extends AbstractIntegrationTest {
     Optional<Shipment> foundShipment = shipmentRepository.findById(shipment.getShipmentId());
     assertThat(foundShipment).isEmpty();
   }
-}
\ No newline at end of file
+
+  @DisplayName("[배송] 배송일시별 키셋 페이지 조회 - 같은 배송일시는 배송 ID 순으로 이어서 조회")
+  @Test
+  void findPageByShipmentDateTest() {
+    // Given: 배송일시가 같은 배송이 섞인 배송 4건
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    LocalDateTime[] shipmentDates = {base.plusMinutes(1), base, base.plusMinutes(1), base};
+    List<Long> shipmentIds = new ArrayList<>();
+    for (LocalDateTime shipmentDate : shipmentDates) {
+      Shipment shipment = new Shipment();
+      shipment.setOrderId(order.getOrderId());
+      shipment.setShipmentDate(shipmentDate);
+      shipment.setStatus(ShipmentStatus.PENDING);
+      shipmentIds.add(shipmentRepository.save(shipment).getShipmentId());
+    }
+
+    // When: 3건씩 키셋 페이지 조회
+    List<Shipment> firstPage = shipmentRepository.findPageByShipmentDate(
+      LocalDateTime.of(2000, 1, 1, 0, 0), 0L, Limit.of(3));
+    Shipment last = firstPage.get(firstPage.size() - 1);
+    List<Shipment> secondPage = shipmentRepository.findPageByShipmentDate(
+      last.getShipmentDate(), last.getShipmentId(), Limit.of(3));
+
+    // Then: (배송일시, 배송 ID) 순으로 나누어 조회
+    assertThat(firstPage).extracting(Shipment::getShipmentId)
+      .containsExactly(shipmentIds.get(1), shipmentIds.get(3), shipmentIds.get(0));
+    assertThat(secondPage).extracting(Shipment::getShipmentId)
+      .containsExactly(shipmentIds.get(2));
+  }
+}
@@ -0,0 +1,124 @@
+package com.example.transaction.application.reservation;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.OrderRepository;
+import com.example.transaction.application.repository.OrderStatus;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.service.OrderPessimisticLockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[ReservationExpirySweeper] 재고 예약 만료 정리 테스트")
+@SpringBootTest(properties = {
+  "transaction.reservation.sweeper-enabled=false",  // 테스트에서 직접 실행
+  "transaction.reservation.batch-size=2"            // 여러 배치로 나누어 처리되는지 확인
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ReservationExpirySweeperTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private ReservationExpirySweeper sweeper;
+
+  @Autowired
+  private OrderPessimisticLockService orderService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Test
+  @DisplayName("만료된 예약은 취소되고 재고가 상품별로 복원되며, 만료되지 않은 예약은 유지")
+  void cancelsExpiredReservations() {
+    Long productA = createProduct(10);
+    Long productB = createProduct(10);
+    Long productC = createProduct(10);
+    Long expiredA = createExpiredOrder(productA, 3);
+    Long expiredB = createExpiredOrder(productB, 4);
+    Long expiredC = createExpiredOrder(productC, 5);
+    Long active = orderService.createOrder(createProduct(10), 2).getOrderId();
+
+    int cancelled = sweeper.sweep();
+
+    assertThat(cancelled).isEqualTo(3);
+    assertThat(orderRepository.findAllById(List.of(expiredA, expiredB, expiredC)))
+      .allSatisfy(order -> {
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(order.getExpiresAt()).isNull();
+      });
+    assertThat(orderRepository.findById(active).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+    assertThat(stockOf(productA)).isEqualTo(10);
+    assertThat(stockOf(productB)).isEqualTo(10);
+    assertThat(stockOf(productC)).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("다른 트랜잭션이 잠근 예약은 건너뛰고 나머지를 처리")
+  void skipsLockedReservations() throws Exception {
+    Long productA = createProduct(10);
+    Long productB = createProduct(10);
+    Long lockedOrder = createExpiredOrder(productA, 3);
+    Long freeOrder = createExpiredOrder(productB, 4);
+
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+      orderRepository.findByIdWithLock(lockedOrder);
+      locked.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }));
+    assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+    int cancelled = sweeper.sweep();
+    release.countDown();
+    holder.get(10, TimeUnit.SECONDS);
+
+    assertThat(cancelled).isEqualTo(1);
+    assertThat(orderRepository.findById(freeOrder).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(orderRepository.findById(lockedOrder).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+
+    // 잠금이 풀린 뒤 다음 정리에서 처리
+    assertThat(sweeper.sweep()).isEqualTo(1);
+    assertThat(stockOf(productA)).isEqualTo(10);
+  }
+
+  private Long createProduct(int stock) {
+    Product product = Product.createProduct("Reserved Product", stock, new BigDecimal("100.00"), "Test Description");
+    return productRepository.save(product).getProductId();
+  }
+
+  private Long createExpiredOrder(Long productId, int quantity) {
+    Order order = orderService.createOrder(productId, quantity);
+    order.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+    return orderRepository.save(order).getOrderId();
+  }
+
+  private int stockOf(Long productId) {
+    return productRepository.findById(productId).orElseThrow().getStockQuantity();
+  }
+}
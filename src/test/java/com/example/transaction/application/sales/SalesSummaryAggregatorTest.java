@@ -0,0 +1,168 @@
+package com.example.transaction.application.sales;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Order;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.ProductSalesBucket;
+import com.example.transaction.application.service.OrderPessimisticLockService;
+import com.example.transaction.application.service.ProductCatalogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+  // 테스트에서 직접 반영 시점을 제어
+  "transaction.sales-summary.flush-interval=PT1H"
+})
+@DisplayName("[SalesSummaryAggregator] 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class SalesSummaryAggregatorTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private SalesSummaryAggregator salesSummaryAggregator;
+
+  @Autowired
+  private SalesSummaryRebuilder salesSummaryRebuilder;
+
+  @Autowired
+  private OrderPessimisticLockService orderService;
+
+  @Autowired
+  private ProductCatalogService productCatalogService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private SalesSummaryProperties salesSummaryProperties;
+
+  private Product product;
+  private LocalDateTime from;
+  private LocalDateTime to;
+
+  @BeforeEach
+  void setUp() {
+    product = productRepository.save(
+      Product.createProduct("Test Product", 100, BigDecimal.valueOf(100.00), "Test Description"));
+    from = SalesSummaryAggregator.bucketStart(LocalDateTime.now()).minusHours(1);
+    to = from.plusHours(3);
+  }
+
+  @DisplayName("[판매 요약] 커밋된 결제/취소만 구간별로 합산되어 반영")
+  @Test
+  void flushCommittedChanges() {
+    // Given: 결제 2건, 취소 1건, 결제 대기 1건
+    Order paid1 = orderService.createOrder(product.getProductId(), 2);
+    Order paid2 = orderService.createOrder(product.getProductId(), 3);
+    Order cancelled = orderService.createOrder(product.getProductId(), 1);
+    orderService.createOrder(product.getProductId(), 1);
+    orderService.payForOrder(paid1.getOrderId());
+    orderService.payForOrder(paid2.getOrderId());
+    orderService.cancelOrder(cancelled.getOrderId());
+
+    // Given: 롤백된 결제 (중복 결제)
+    assertThatThrownBy(() -> orderService.payForOrder(paid1.getOrderId()))
+      .isInstanceOf(IllegalStateException.class);
+
+    // When: 반영 전에는 요약이 비어 있고, 반영하면 구간별로 한 번씩 UPSERT
+    assertThat(productCatalogService.getSales(product.getProductId(), from, to)).isEmpty();
+    int flushed = salesSummaryAggregator.flush();
+
+    // Then
+    assertThat(flushed).isPositive();
+    assertThat(salesSummaryAggregator.pendingSize()).isZero();
+    assertTotals(productCatalogService.getSales(product.getProductId(), from, to), 2, 5, BigDecimal.valueOf(500.00), 1);
+  }
+
+  @DisplayName("[판매 요약] 이미 반영된 구간에 다시 반영하면 기존 값에 더해짐")
+  @Test
+  void flushAccumulates() {
+    // Given: 첫 번째 반영
+    Order first = orderService.createOrder(product.getProductId(), 2);
+    orderService.payForOrder(first.getOrderId());
+    salesSummaryAggregator.flush();
+
+    // When: 같은 구간에 두 번째 반영
+    Order second = orderService.createOrder(product.getProductId(), 4);
+    orderService.payForOrder(second.getOrderId());
+    salesSummaryAggregator.flush();
+
+    // Then
+    assertTotals(productCatalogService.getSales(product.getProductId(), from, to), 2, 6, BigDecimal.valueOf(600.00), 0);
+  }
+
+  @DisplayName("[판매 요약] 재구성 - 마감된 구간을 주문 이력으로 다시 계산하며, 반영 대기 중인 증감분이 남지 않음")
+  @Test
+  void rebuild() {
+    // Given: 반영된 결제 1건 이후 요약 테이블 유실
+    Order flushed = orderService.createOrder(product.getProductId(), 2);
+    orderService.payForOrder(flushed.getOrderId());
+    salesSummaryAggregator.flush();
+    jdbcTemplate.update("DELETE FROM product_sales_summary");
+
+    // Given: 반영 대기 중인 결제 1건, 취소 1건
+    Order pending = orderService.createOrder(product.getProductId(), 3);
+    orderService.payForOrder(pending.getOrderId());
+    Order cancelled = orderService.createOrder(product.getProductId(), 1);
+    orderService.cancelOrder(cancelled.getOrderId());
+
+    // Given: 주문 일시를 마감된 구간으로 옮김 (settle-delay 가 지난 주문)
+    LocalDateTime settledTo = SalesSummaryAggregator.bucketStart(
+      LocalDateTime.now().minus(salesSummaryProperties.getSettleDelay()));
+    LocalDateTime settledFrom = settledTo.minusHours(2);
+    jdbcTemplate.update("UPDATE orders SET order_date = ? WHERE product_id = ?",
+      settledFrom.plusMinutes(10), product.getProductId());
+
+    // When: 마감된 구간 재구성
+    SalesSummaryRebuilder.RebuildResult result = salesSummaryRebuilder.rebuild(settledFrom, settledTo);
+
+    // Then: 주문 이력 기준 값으로 재구성되고, 이후 반영할 증감분이 남아 있지 않음
+    assertThat(result.orders()).isGreaterThanOrEqualTo(3);
+    assertThat(salesSummaryAggregator.pendingSize()).isZero();
+    assertThat(salesSummaryAggregator.flush()).isZero();
+    assertTotals(productCatalogService.getSales(product.getProductId(), settledFrom, settledTo),
+      2, 5, BigDecimal.valueOf(500.00), 1);
+  }
+
+  @DisplayName("[판매 요약] 재구성 - 마감되지 않은 구간을 포함하면 예외 발생")
+  @Test
+  void rebuildRejectsUnsettledRange() {
+    assertThatThrownBy(() -> salesSummaryRebuilder.rebuild(from, to))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("마감되지 않은 구간");
+  }
+
+  @DisplayName("[판매 요약] 조회 기간이 최대 기간을 넘으면 예외 발생")
+  @Test
+  void getSalesRangeTooLong() {
+    assertThatThrownBy(() -> productCatalogService.getSales(product.getProductId(), from, from.plusDays(32)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertTotals(List<ProductSalesBucket> buckets, long paidOrders, long units, BigDecimal revenue,
+                                   long cancelledOrders) {
+    assertThat(buckets).isNotEmpty();
+    assertThat(buckets.stream().mapToLong(ProductSalesBucket::paidOrders).sum()).isEqualTo(paidOrders);
+    assertThat(buckets.stream().mapToLong(ProductSalesBucket::units).sum()).isEqualTo(units);
+    assertThat(buckets.stream().map(ProductSalesBucket::revenue).reduce(BigDecimal.ZERO, BigDecimal::add))
+      .isEqualByComparingTo(revenue);
+    assertThat(buckets.stream().mapToLong(ProductSalesBucket::cancelledOrders).sum()).isEqualTo(cancelledOrders);
+  }
+}
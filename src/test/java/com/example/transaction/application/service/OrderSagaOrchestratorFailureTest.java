@@ -1,18 +1,29 @@
 package com.example.transaction.application.service;
 
 import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Order;
 import com.example.transaction.application.repository.PaymentRepository;
 import com.example.transaction.application.repository.Product;
 import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.application.repository.ShipmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,6 +42,18 @@ class OrderSagaOrchestratorFailureTest extends AbstractIntegrationTest {
   @Autowired
   private PaymentRepository paymentRepository;
 
+  @Autowired
+  private ShipmentRepository shipmentRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @BeforeEach
   void setUp() {
     // 테스트에 사용할 상품 생성
@@ -78,4 +101,40 @@ class OrderSagaOrchestratorFailureTest extends AbstractIntegrationTest {
     // 결제 정보가 저장되지 않아야 함
     assertThat(paymentRepository.findAll()).isEmpty();
   }
-}
\ No newline at end of file
+
+  @DisplayName("[주문 오케스트레이션] 배송 단계의 락 대기 타임아웃은 보상 없이 새 트랜잭션으로 재시도하여 성공")
+  @Test
+  void retriesSagaWhenShipmentStepHitsLockWaitTimeout() throws Exception {
+    // Given: 다른 트랜잭션이 빈 shipments 테이블 전체를 잠가 배송 INSERT 가 락 대기 타임아웃(5초)까지 대기
+    Product product = productRepository.findAll().get(0);
+    CountDownLatch locked = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    Future<?> lockHolder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      jdbcTemplate.queryForList("SELECT * FROM shipments FOR UPDATE");
+      locked.countDown();
+      sleep(7_000);
+    }));
+    assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // When: 첫 시도는 배송 INSERT 에서 타임아웃, 두 번째 시도는 락이 풀린 뒤 성공
+    Order order = orderSagaOrchestrator.handleOrderSaga(product.getProductId(), 2, BigDecimal.valueOf(200.00), "card");
+    lockHolder.get();
+    executorService.shutdown();
+
+    // Then: 실패한 시도는 전부 롤백되고 성공한 시도의 결과만 남음
+    assertThat(order.getOrderId()).isNotNull();
+    assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity()).isEqualTo(8);
+    assertThat(paymentRepository.findAll()).hasSize(1);
+    assertThat(shipmentRepository.findAll()).hasSize(1);
+    assertThat(meterRegistry.counter("transaction.retry",
+      "class", "OrderSagaOrchestrator", "method", "handleOrderSaga", "outcome", "recovered").count()).isEqualTo(1.0);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -83,4 +83,19 @@ class OrderSagaOrchestratorTest extends AbstractIntegrationTest {
     assertThat(orderRepository.findAll()).isEmpty();
     assertThat(paymentRepository.findAll()).isEmpty();
   }
-}
\ No newline at end of file
+
+  @DisplayName("[주문 오케스트레이션] 배송 ID와 주문 ID가 다른 경우에도 생성한 배송을 시작")
+  @Test
+  void testShipmentIdDiffersFromOrderId() {
+    // 다른 주문의 배송을 먼저 만들어 배송 ID와 주문 ID가 어긋나도록 함
+    shipmentRepository.save(Shipment.createShipment(999L));
+    Product product = productRepository.findAll().get(0);
+
+    Order order = orderSagaOrchestrator.handleOrderSaga(product.getProductId(), 2, BigDecimal.valueOf(200.00), "card");
+
+    Shipment shipment = shipmentRepository.findByOrderId(order.getOrderId()).orElseThrow();
+    assertThat(shipment.getShipmentId()).isNotEqualTo(order.getOrderId());
+    assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.SHIPPED);
+    assertThat(shipmentRepository.findByOrderId(999L).orElseThrow().getStatus()).isEqualTo(ShipmentStatus.PENDING);
+  }
+}
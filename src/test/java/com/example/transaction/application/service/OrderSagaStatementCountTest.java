@@ -0,0 +1,70 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.core.metrics.StatementBudgetInspector;
+import com.example.transaction.core.metrics.StatementStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[OrderSagaOrchestrator] SQL 실행 횟수 테스트")
+@SpringBootTest(properties = {
+  "transaction.statement-budget.enforcement=fail",
+  "transaction.statement-budget.overrides[OrderSagaOrchestrator.handleOrderSaga]=" + OrderSagaStatementCountTest.SAGA_STATEMENT_BUDGET
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class OrderSagaStatementCountTest extends AbstractIntegrationTest {
+
+  /**
+   * 주문 사가 1회당 SQL 실행 횟수 예산 (발송 워커 비활성화, 변경 로그 기록 비활성화 기준)
+   * - 상품 락 조회, 중복 주문 확인, 주문 INSERT
+   * - 중복 결제 확인, 결제 INSERT
+   * - 주문 락 조회
+   * - 배송 INSERT
+   * - 상품 UPDATE (재고 변경 이벤트 발행 전 flush), 커밋 시 결제/주문/배송 UPDATE
+   */
+  static final int SAGA_STATEMENT_BUDGET = 11;
+
+  @Autowired
+  private OrderSagaOrchestrator orderSagaOrchestrator;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private StatementBudgetInspector statementBudgetInspector;
+
+  @BeforeEach
+  void setUp() {
+    Product product = Product.createProduct("Test Product", 10, BigDecimal.valueOf(100.00), "Test Description");
+    productRepository.save(product);
+  }
+
+  @DisplayName("[주문 오케스트레이션] 성공 시 SQL 실행 횟수가 예산과 정확히 일치하는지 확인")
+  @Test
+  void testSagaStatementCount() {
+    // Given
+    Product product = productRepository.findAll().get(0);
+
+    // When: 예산을 초과하면 StatementBudgetExceededException 발생
+    orderSagaOrchestrator.handleOrderSaga(product.getProductId(), 2, BigDecimal.valueOf(200.00), "card");
+
+    // Then
+    StatementStats stats = statementBudgetInspector.lastStatsOf("OrderSagaOrchestrator.handleOrderSaga")
+      .orElseThrow();
+    // 예산 이내인지만 보면 쿼리가 줄거나 늘어난 변화를 놓치므로 정확한 횟수를 고정
+    assertThat(stats.statementCount()).isEqualTo(SAGA_STATEMENT_BUDGET);
+    assertThat(stats.rowCount()).isPositive();
+  }
+}
@@ -151,6 +151,33 @@ class PaymentServiceTest extends AbstractIntegrationTest {
       });
   }
 
+  @DisplayName("[결제] 상태 프로젝션 및 주문 진행 상태 조회 테스트")
+  @Test
+  void getPaymentStatusAndOrderFulfillmentTest() {
+    // Given: 첫 결제는 취소되고 두 번째 결제가 완료된 주문
+    Product product = Product.createProduct(
+      "Test Product", 10, BigDecimal.valueOf(100.00), "Test Description"
+    );
+    productRepository.save(product);
+    Order order = orderService.createOrder(product.getProductId(), 5);
+    Payment cancelled = paymentService.createPayment(order.getOrderId(), BigDecimal.valueOf(500.00), "card");
+    paymentService.cancelPayment(cancelled.getPaymentId());
+    Payment completed = paymentService.createPayment(order.getOrderId(), BigDecimal.valueOf(500.00), "card");
+    paymentService.completePayment(completed.getPaymentId());
+
+    // When
+    PaymentStatusView paymentStatus = paymentService.getPaymentStatus(cancelled.getPaymentId());
+    OrderFulfillmentView fulfillment = orderService.getOrderFulfillment(order.getOrderId());
+
+    // Then: 주문 진행 상태에는 가장 최근 결제만 포함되고 배송은 아직 없음
+    assertThat(paymentStatus).isEqualTo(
+      new PaymentStatusView(cancelled.getPaymentId(), order.getOrderId(), PaymentStatus.CANCELLED));
+    assertThat(fulfillment).isEqualTo(new OrderFulfillmentView(
+      order.getOrderId(), OrderStatus.PENDING, completed.getPaymentId(), PaymentStatus.COMPLETED, null, null));
+    assertThat(orderService.getOrderStatus(order.getOrderId()))
+      .isEqualTo(new OrderStatusView(order.getOrderId(), OrderStatus.PENDING));
+  }
+
   @DisplayName("[결제] 취소 테스트")
   @Test
   void cacnelPayment() {
@@ -0,0 +1,126 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductAvailability;
+import com.example.transaction.application.repository.ProductRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[ProductCatalogService] 상품 2차 캐시 테스트")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ProductCatalogServiceTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private ProductCatalogService productCatalogService;
+
+  @Autowired
+  private ProductPessimisticLockService productService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Statistics statistics;
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    productId = productRepository.save(
+      Product.createProduct("Catalog Product", 10, new BigDecimal("100.00"), "Test Description")).getProductId();
+    SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+    sessionFactory.getCache().evictAllRegions();
+    statistics = sessionFactory.getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("첫 조회만 DB 에서 읽고 이후 조회는 2차 캐시에서 읽음")
+  void servesRepeatedReadsFromCache() {
+    productCatalogService.getProduct(productId);
+    productCatalogService.getProduct(productId);
+    productCatalogService.getProduct(productId);
+
+    CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("product");
+    assertThat(region.getMissCount()).isEqualTo(1);
+    assertThat(region.getPutCount()).isEqualTo(1);
+    assertThat(region.getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("재고 변경이 커밋되면 캐시된 상품도 새 재고로 교체")
+  void refreshesCacheAfterStockChange() {
+    productCatalogService.getProduct(productId);
+
+    productService.decreaseStock(productId, 3);
+
+    assertThat(productCatalogService.getProduct(productId).getStockQuantity()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("비관적 락 경로는 캐시를 거치지 않고 DB 재고를 사용")
+  void lockingPathBypassesCache() {
+    productCatalogService.getProduct(productId);
+    // 다른 노드에서 재고가 변경되어 이 노드의 캐시에는 반영되지 않은 상황
+    jdbcTemplate.update("UPDATE products SET stock_quantity = 2 WHERE product_id = ?", productId);
+
+    assertThatThrownBy(() -> productService.decreaseStock(productId, 5))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("재고가 부족합니다");
+    assertThat(productService.decreaseStock(productId, 2).getStockQuantity()).isZero();
+  }
+
+  @Test
+  @DisplayName("상품 목록은 쿼리 캐시에서 읽고 상품이 변경되면 다시 조회")
+  void cachesCatalogQuery() {
+    productCatalogService.getCatalog(0, 10);
+    productCatalogService.getCatalog(0, 10);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+    productService.decreaseStock(productId, 1);
+    assertThat(productCatalogService.getCatalog(0, 10).getContent())
+      .extracting(Product::getStockQuantity)
+      .containsExactly(9);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("여러 상품의 가격/재고를 IN 배치로 조회하고 중복과 없는 상품은 제외")
+  void getsAvailabilityInBatches() {
+    Long second = productRepository.save(
+      Product.createProduct("Second Product", 0, new BigDecimal("250.00"), "Test Description")).getProductId();
+    List<Long> productIds = new ArrayList<>(List.of(second, productId, productId));
+    // 한 번의 IN 쿼리 크기를 넘도록 존재하지 않는 상품 ID 추가
+    LongStream.rangeClosed(1, ProductCatalogService.IN_BATCH_SIZE).forEach(i -> productIds.add(second + 1_000 + i));
+    statistics.clear();
+
+    List<ProductAvailability> availability = productCatalogService.getAvailability(productIds);
+
+    assertThat(availability).containsExactly(
+      new ProductAvailability(productId, new BigDecimal("100.00"), 10),
+      new ProductAvailability(second, new BigDecimal("250.00"), 0));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -82,6 +83,17 @@ class ShipmentServiceTest extends AbstractIntegrationTest {
       });
   }
 
+  @DisplayName("[배송] 상태 프로젝션 조회 테스트")
+  @Test
+  void getShipmentStatusTest() {
+    Shipment shipment = shipmentService.createShipment(order.getOrderId());
+    shipmentService.shipShipment(shipment.getShipmentId());
+
+    ShipmentStatusView status = shipmentService.getShipmentStatus(shipment.getShipmentId());
+
+    assertThat(status).isEqualTo(new ShipmentStatusView(shipment.getShipmentId(), order.getOrderId(), ShipmentStatus.SHIPPED));
+  }
+
   @DisplayName("[배송] 취소 테스트")
   @Test
   void cancelShipmentTest() {
@@ -140,4 +152,39 @@ class ShipmentServiceTest extends AbstractIntegrationTest {
       .hasMessageContaining("배송이 완료되기 전에는 배송 완료를 처리할 수 없습니다.");
   }
 
-}
\ No newline at end of file
+  @DisplayName("[배송] 주문 ID로 배송 시작 테스트")
+  @Test
+  void shipShipmentByOrderIdTest() {
+    // Given: 배송 생성
+    Shipment shipment = shipmentService.createShipment(order.getOrderId());
+
+    // When: 주문 ID로 배송 시작
+    shipmentService.shipShipmentByOrderId(order.getOrderId());
+
+    // Then: 배송 상태 검증
+    assertThat(shipmentService.getShipmentById(shipment.getShipmentId()).getStatus()).isEqualTo(ShipmentStatus.SHIPPED);
+  }
+
+  @DisplayName("[배송] 여러 주문의 배송 일괄 시작 테스트")
+  @Test
+  void shipShipmentsByOrderIdsTest() {
+    // Given: 주문 3건의 배송 생성 (1건은 이미 취소)
+    Product product = productRepository.findAll().get(0);
+    Order second = orderRepository.save(Order.createOrder(product, 1));
+    Order third = orderRepository.save(Order.createOrder(product, 1));
+    shipmentService.createShipment(order.getOrderId());
+    shipmentService.createShipment(second.getOrderId());
+    Shipment cancelled = shipmentService.createShipment(third.getOrderId());
+    shipmentService.cancelShipment(cancelled.getShipmentId());
+
+    // When: 한 번의 UPDATE 로 배송 시작
+    int shipped = shipmentService.shipShipmentsByOrderIds(
+      List.of(order.getOrderId(), second.getOrderId(), third.getOrderId()));
+
+    // Then: PENDING 상태였던 배송만 변경
+    assertThat(shipped).isEqualTo(2);
+    assertThat(shipmentService.getShipmentByOrderId(order.getOrderId()).getStatus()).isEqualTo(ShipmentStatus.SHIPPED);
+    assertThat(shipmentService.getShipmentByOrderId(second.getOrderId()).getStatus()).isEqualTo(ShipmentStatus.SHIPPED);
+    assertThat(shipmentService.getShipmentByOrderId(third.getOrderId()).getStatus()).isEqualTo(ShipmentStatus.CANCELLED);
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.transaction.application.service;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.example.transaction.exception.StockExhaustedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[SoldOutProductIndex] 품절 상품 인덱스 테스트")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class SoldOutProductIndexTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private SoldOutProductIndex soldOutProductIndex;
+
+  @Autowired
+  private ProductPessimisticLockService productService;
+
+  @Autowired
+  private OrderPessimisticLockService orderService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    Product product = Product.createProduct("Sold Out Product", 10, new BigDecimal("100.00"), "Test Description");
+    productId = productRepository.save(product).getProductId();
+  }
+
+  @Test
+  @DisplayName("재고가 0 이 되어 커밋되면 품절로 등록되고 이후 주문은 즉시 거절")
+  void marksSoldOutAfterCommit() {
+    productService.decreaseStock(productId, 10);
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isTrue();
+    assertThatThrownBy(() -> productService.decreaseStock(productId, 1))
+      .isInstanceOf(StockExhaustedException.class)
+      .hasMessage("재고가 부족합니다.");
+    assertThatThrownBy(() -> orderService.createOrder(productId, 1))
+      .isInstanceOf(StockExhaustedException.class);
+  }
+
+  @Test
+  @DisplayName("재고가 복원되어 커밋되면 품절 해제")
+  void clearsSoldOutAfterIncrease() {
+    productService.decreaseStock(productId, 10);
+    productService.increaseStock(productId, 3);
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isFalse();
+    assertThat(productService.decreaseStock(productId, 1).getStockQuantity()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("재고를 0 으로 만든 트랜잭션이 롤백되면 품절로 등록하지 않음")
+  void ignoresRolledBackChange() {
+    transactionTemplate.executeWithoutResult(status -> {
+      productService.decreaseStock(productId, 10);
+      status.setRollbackOnly();
+    });
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isFalse();
+    assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("늦게 도착한 지난 버전의 품절 이벤트는 무시")
+  void ignoresStaleSoldOutEvent() {
+    productService.decreaseStock(productId, 10);
+    productService.increaseStock(productId, 3);
+    Product product = productRepository.findById(productId).orElseThrow();
+
+    // 재고를 0 으로 만든 트랜잭션의 이벤트가 재고 복원 이벤트보다 늦게 도착한 경우
+    soldOutProductIndex.onStockChanged(new ProductStockChangedEvent(productId, 0, product.getVersion() - 1));
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isFalse();
+  }
+
+  @Test
+  @DisplayName("이벤트가 순서가 뒤바뀌어 도착하면 버전이 높은 상태를 유지")
+  void keepsNewestStateWhenEventsArriveOutOfOrder() {
+    soldOutProductIndex.onStockChanged(new ProductStockChangedEvent(productId, 0, 3));
+    soldOutProductIndex.onStockChanged(new ProductStockChangedEvent(productId, 5, 2));
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isTrue();
+
+    soldOutProductIndex.onStockChanged(new ProductStockChangedEvent(productId, 5, 4));
+
+    assertThat(soldOutProductIndex.isSoldOut(productId)).isFalse();
+  }
+}
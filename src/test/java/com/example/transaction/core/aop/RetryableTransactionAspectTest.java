@@ -0,0 +1,123 @@
+package com.example.transaction.core.aop;
+
+import com.example.transaction.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@Import(RetryableTransactionAspectTest.RetryTestConfig.class)
+class RetryableTransactionAspectTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private FlakyService flakyService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    flakyService.reset();
+  }
+
+  @DisplayName("[트랜잭션 재시도] 감싸진 예외도 원인 체인에서 판별하여 재시도")
+  @Test
+  void retriesWrappedTransientFailure() {
+    flakyService.failTimes(1, () -> new RuntimeException("Order saga failed",
+      new CannotAcquireLockException("Lock wait timeout exceeded")));
+
+    assertThat(flakyService.execute()).isEqualTo("OK");
+    assertThat(flakyService.attempts()).isEqualTo(2);
+    // 시도마다 새로 시작된 트랜잭션 안에서 실행
+    assertThat(flakyService.transactionNames()).hasSize(2).allMatch(name -> name != null && name.endsWith("execute"));
+    assertThat(meterRegistry.counter("transaction.retry",
+      "class", "FlakyService", "method", "execute", "outcome", "recovered").count()).isEqualTo(1.0);
+  }
+
+  @DisplayName("[트랜잭션 재시도] 최대 시도 횟수를 넘으면 원래 예외를 던짐")
+  @Test
+  void givesUpAfterMaxAttempts() {
+    flakyService.failTimes(10, () -> new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+    assertThatThrownBy(() -> flakyService.execute()).isInstanceOf(CannotAcquireLockException.class);
+    assertThat(flakyService.attempts()).isEqualTo(3);
+  }
+
+  @DisplayName("[트랜잭션 재시도] 일시적 실패가 아니면 재시도하지 않음")
+  @Test
+  void doesNotRetryNonTransientFailure() {
+    flakyService.failTimes(1, () -> new IllegalStateException("재고가 부족합니다."));
+
+    assertThatThrownBy(() -> flakyService.execute()).isInstanceOf(IllegalStateException.class);
+    assertThat(flakyService.attempts()).isEqualTo(1);
+  }
+
+  @TestConfiguration
+  static class RetryTestConfig {
+
+    @Bean
+    FlakyService flakyService() {
+      return new FlakyService();
+    }
+  }
+
+  static class FlakyService {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<String> transactionNames = new ArrayList<>();
+    private int failuresLeft;
+    private Supplier<RuntimeException> failure;
+
+    void reset() {
+      attempts.set(0);
+      transactionNames.clear();
+      failuresLeft = 0;
+    }
+
+    void failTimes(int times, Supplier<RuntimeException> failure) {
+      this.failuresLeft = times;
+      this.failure = failure;
+    }
+
+    @Transactional
+    @RetryableTransaction(backoffMillis = 1, maxBackoffMillis = 5)
+    public String execute() {
+      attempts.incrementAndGet();
+      transactionNames.add(TransactionSynchronizationManager.getCurrentTransactionName());
+      if (failuresLeft > 0) {
+        failuresLeft--;
+        throw failure.get();
+      }
+      return "OK";
+    }
+
+    int attempts() {
+      return attempts.get();
+    }
+
+    List<String> transactionNames() {
+      return transactionNames;
+    }
+  }
+}
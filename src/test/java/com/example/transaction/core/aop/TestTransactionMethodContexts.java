@@ -0,0 +1,20 @@
+package com.example.transaction.core.aop;
+
+/**
+ * 테스트에서 @Transactional 메서드 없이 {@link TransactionMethodContext}를 현재 스레드에 바인딩하기 위한 도우미
+ */
+public final class TestTransactionMethodContexts {
+
+  private TestTransactionMethodContexts() {
+  }
+
+  public static TransactionMethodContext bind(String className, String methodName) {
+    TransactionMethodContext context = new TransactionMethodContext(className, methodName);
+    TransactionMethodContext.bind(context);
+    return context;
+  }
+
+  public static void unbind() {
+    TransactionMethodContext.unbind();
+  }
+}
@@ -0,0 +1,174 @@
+package com.example.transaction.core.datasource;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.application.repository.Product;
+import com.example.transaction.application.repository.ProductRepository;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("[ReadWriteRoutingDataSource] 읽기/쓰기 라우팅 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ReadWriteRoutingDataSourceTest extends AbstractIntegrationTest {
+
+  /**
+   * 레플리카 역할의 두 번째 MySQL (데이터베이스 이름으로 어느 쪽에 연결되었는지 구분)
+   */
+  @Container
+  public static MySQLContainer<?> replicaContainer =
+    new MySQLContainer<>("mysql:8.0.32")
+      .withDatabaseName("replicadb")
+      .withUsername("testuser")
+      .withPassword("testpass");
+
+  @DynamicPropertySource
+  static void replicaProperties(DynamicPropertyRegistry registry) {
+    registry.add("transaction.datasource.replica.enabled", () -> "true");
+    registry.add("transaction.datasource.replica.jdbc-url", replicaContainer::getJdbcUrl);
+    registry.add("transaction.datasource.replica.username", replicaContainer::getUsername);
+    registry.add("transaction.datasource.replica.password", replicaContainer::getPassword);
+    registry.add("transaction.datasource.replica.read-your-writes-window", () -> "5s");
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @DisplayName("[라우팅] 읽기 전용 트랜잭션은 레플리카로 라우팅")
+  @Test
+  void readOnlyTransactionRoutesToReplica() {
+    // When
+    String database = inRequest(new MockHttpServletRequest(), new MockHttpServletResponse(), () -> currentDatabase(true));
+
+    // Then
+    assertThat(database).isEqualTo("replicadb");
+  }
+
+  @DisplayName("[라우팅] 쓰기 트랜잭션은 프라이머리로 라우팅")
+  @Test
+  void readWriteTransactionRoutesToPrimary() {
+    // When
+    String database = currentDatabase(false);
+
+    // Then
+    assertThat(database).isEqualTo("testdb");
+  }
+
+  @DisplayName("[라우팅] 같은 요청에서 쓰기 커밋 직후의 읽기 전용 트랜잭션은 프라이머리로 라우팅 (read-your-writes)")
+  @Test
+  void readOnlyTransactionAfterWriteInSameRequestRoutesToPrimary() {
+    // When
+    String database = inRequest(new MockHttpServletRequest(), new MockHttpServletResponse(), () -> {
+      currentDatabase(false);
+      return currentDatabase(true);
+    });
+
+    // Then
+    assertThat(database).isEqualTo("testdb");
+  }
+
+  @DisplayName("[라우팅] 쓰기 요청의 응답 쿠키를 가진 다음 요청은 다른 스레드에서도 프라이머리로 라우팅 (read-your-writes)")
+  @Test
+  void readOnlyTransactionInLaterRequestWithCookieRoutesToPrimary() throws Exception {
+    // Given: 첫 번째 요청에서 쓰기 커밋 → 응답 쿠키에 커밋 시각
+    MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+    inRequest(new MockHttpServletRequest(), writeResponse, () -> currentDatabase(false));
+    Cookie lastWriteAt = writeResponse.getCookie(ReadYourWritesCookie.COOKIE_NAME);
+    assertThat(lastWriteAt).isNotNull();
+
+    // When: 두 번째 요청은 다른 스레드에서 처리 (쿠키 유무에 따라 라우팅)
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    MockHttpServletRequest withCookie = new MockHttpServletRequest();
+    withCookie.setCookies(lastWriteAt);
+    String withCookieDatabase = executorService.submit(
+      () -> inRequest(withCookie, new MockHttpServletResponse(), () -> currentDatabase(true))).get();
+    String withoutCookieDatabase = executorService.submit(
+      () -> inRequest(new MockHttpServletRequest(), new MockHttpServletResponse(), () -> currentDatabase(true))).get();
+    executorService.shutdown();
+
+    // Then
+    assertThat(withCookieDatabase).isEqualTo("testdb");
+    assertThat(withoutCookieDatabase).isEqualTo("replicadb");
+  }
+
+  @DisplayName("[라우팅] 주문 생성 API 응답 쿠키로 조회 API 가 방금 쓴 주문을 프라이머리에서 읽음")
+  @Test
+  void orderReadAfterCreateRequestRoutesToPrimary() throws Exception {
+    // Given: 레플리카에는 스키마가 없으므로 프라이머리에서 읽어야만 조회에 성공
+    Long productId = productRepository.save(
+      Product.createProduct("Test Product", 10, BigDecimal.valueOf(100.00), "Test Description")).getProductId();
+    MvcResult created = mockMvc.perform(post("/api/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+          {"productId": %d, "quantity": 1, "paymentAmount": 100.00, "paymentMethod": "card"}
+          """.formatted(productId)))
+      .andExpect(status().isCreated())
+      .andExpect(cookie().exists(ReadYourWritesCookie.COOKIE_NAME))
+      .andReturn();
+    Number orderId = JsonPath.read(created.getResponse().getContentAsString(), "$.orderId");
+
+    // When & Then
+    mockMvc.perform(get("/api/orders/{orderId}", orderId)
+        .cookie(created.getResponse().getCookie(ReadYourWritesCookie.COOKIE_NAME)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.productId").value(productId));
+  }
+
+  private <T> T inRequest(MockHttpServletRequest request, MockHttpServletResponse response, Supplier<T> action) {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    try {
+      return action.get();
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  private String currentDatabase(boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.transaction.core.jdbc;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.core.aop.TestTransactionMethodContexts;
+import com.example.transaction.core.aop.TransactionMethodContext;
+import com.mysql.cj.jdbc.ClientPreparedStatement;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MySQL 드라이버 위에서 측정 프록시의 집계와 unwrap 동작 확인 (스프링 컨텍스트 없이 커넥션 풀만 사용)
+ */
+@DisplayName("[InstrumentedDataSource] 테스트")
+class InstrumentedDataSourceTest extends AbstractIntegrationTest {
+
+  private HikariDataSource pool;
+  private InstrumentedDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    pool = new HikariDataSource();
+    pool.setJdbcUrl(mysqlContainer.getJdbcUrl());
+    pool.setUsername(mysqlContainer.getUsername());
+    pool.setPassword(mysqlContainer.getPassword());
+    pool.setMaximumPoolSize(2);
+    dataSource = new InstrumentedDataSource(pool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestTransactionMethodContexts.unbind();
+    pool.close();
+  }
+
+  @DisplayName("[측정] 커넥션 획득/반납, SQL 실행 횟수, SQL 별 횟수, 조회/변경 행 수 기록")
+  @Test
+  void recordsConnectionAndStatementCounts() throws Exception {
+    TransactionMethodContext context = TestTransactionMethodContexts.bind("TestService", "run");
+
+    try (Connection connection = dataSource.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("CREATE TEMPORARY TABLE instrumented_test (id INT PRIMARY KEY)");
+        assertThat(statement.executeUpdate("INSERT INTO instrumented_test VALUES (1), (2), (3)")).isEqualTo(3);
+      }
+      String select = "SELECT id FROM instrumented_test WHERE id >= ?";
+      for (int i = 0; i < 2; i++) {
+        try (PreparedStatement statement = connection.prepareStatement(select)) {
+          statement.setInt(1, 2);
+          try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+              assertThat(resultSet.getInt(1)).isGreaterThanOrEqualTo(2);
+            }
+          }
+        }
+      }
+    }
+
+    assertThat(context.getConnectionCount()).isEqualTo(1);
+    assertThat(context.getStatementCount()).isEqualTo(4);
+    assertThat(context.getStatementCountsBySql()).containsEntry("SELECT id FROM instrumented_test WHERE id >= ?", 2);
+    // INSERT 3행 + 조회 2행 x 2회
+    assertThat(context.getRowCount()).isEqualTo(7);
+    assertThat(context.getConnectionHeldNanos()).isPositive();
+  }
+
+  @DisplayName("[측정] SQL 실행 시간과 커넥션 점유 시간, 첫 SQL 까지의 지연 기록")
+  @Test
+  void recordsTimings() throws Exception {
+    TransactionMethodContext context = TestTransactionMethodContexts.bind("TestService", "run");
+
+    try (Connection connection = dataSource.getConnection()) {
+      Thread.sleep(30);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("SELECT SLEEP(0.1)");
+      }
+    }
+
+    assertThat(context.getConnectionAcquireNanos()).isPositive();
+    assertThat(context.getStatementNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(context.getFirstStatementDelayNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    assertThat(context.getConnectionHeldNanos())
+      .isGreaterThanOrEqualTo(context.getStatementNanos() + TimeUnit.MILLISECONDS.toNanos(30));
+    assertThat(context.idleRatio()).isBetween(0.0, 1.0);
+  }
+
+  @DisplayName("[측정] unwrap/isWrapperFor 는 실제 드라이버 객체까지 전달")
+  @Test
+  void unwrapReachesDriverObjects() throws Exception {
+    TestTransactionMethodContexts.bind("TestService", "run");
+
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+      assertThat(connection.isWrapperFor(JdbcConnection.class)).isTrue();
+      assertThat(connection.unwrap(JdbcConnection.class)).isInstanceOf(JdbcConnection.class);
+
+      try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+        assertThat(Proxy.isProxyClass(statement.getClass())).isTrue();
+        assertThat(statement.isWrapperFor(ClientPreparedStatement.class)).isTrue();
+        assertThat(statement.unwrap(ClientPreparedStatement.class)).isInstanceOf(ClientPreparedStatement.class);
+      }
+    }
+  }
+
+  @DisplayName("[측정] @Transactional 메서드 밖에서는 Statement 를 감싸지 않고 통계도 기록하지 않음")
+  @Test
+  void noContextLeavesStatementsUnwrapped() throws Exception {
+    try (Connection connection = dataSource.getConnection();
+         Statement statement = connection.createStatement()) {
+      assertThat(Proxy.isProxyClass(statement.getClass())).isFalse();
+      assertThat(statement.execute("SELECT 1")).isTrue();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.transaction.core.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private ConcurrencyLimitProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(20);
+    properties.setMinLimit(4);
+    properties.setMaxLimit(100);
+    properties.setWindowSize(10);
+  }
+
+  @DisplayName("[적응형 리미터] 한도만큼 허가한 뒤 초과 요청은 즉시 거절")
+  @Test
+  void rejectsBeyondLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", properties);
+    List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      permits.add(limiter.tryAcquire());
+    }
+
+    assertThat(permits).doesNotContainNull();
+    assertThat(limiter.tryAcquire()).isNull();
+
+    limiter.release(permits.get(0));
+    assertThat(limiter.tryAcquire()).isNotNull();
+  }
+
+  @DisplayName("[적응형 리미터] 지연이 안정적이고 부하가 있으면 한도 증가")
+  @Test
+  void increasesLimitWhenLatencyIsStable() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", properties);
+
+    feed(limiter, 20, 10, 20);
+
+    assertThat(limiter.getLimit()).isGreaterThan(20);
+  }
+
+  @DisplayName("[적응형 리미터] 지연이 급증하면 한도 감소 (최소 한도 유지)")
+  @Test
+  void decreasesLimitWhenLatencyRises() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", properties);
+    feed(limiter, 5, 10, 20);
+    int stableLimit = limiter.getLimit();
+
+    feed(limiter, 8, 200, stableLimit);
+
+    assertThat(limiter.getLimit()).isLessThan(stableLimit).isGreaterThanOrEqualTo(4);
+  }
+
+  @DisplayName("[적응형 리미터] 부하가 한도의 절반에 못 미치면 한도를 올리지 않음")
+  @Test
+  void doesNotGrowWhenUnderutilized() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", properties);
+
+    feed(limiter, 20, 10, 2);
+
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  private static void feed(AdaptiveConcurrencyLimiter limiter, int windows, long rttMillis, int inFlight) {
+    for (int i = 0; i < windows * 10; i++) {
+      limiter.onSample(TimeUnit.MILLISECONDS.toNanos(rttMillis), inFlight);
+    }
+  }
+}
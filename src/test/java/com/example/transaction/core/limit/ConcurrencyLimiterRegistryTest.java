@@ -0,0 +1,62 @@
+package com.example.transaction.core.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterRegistryTest {
+
+  @DisplayName("[리미터 설정] 최대 한도를 설정하지 않으면 커넥션 풀 크기를 사용")
+  @Test
+  void derivesMaxLimitFromPoolSize() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+    ConcurrencyLimiterRegistry registry = new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), 10);
+
+    assertThat(registry.getMaxLimit()).isEqualTo(10);
+    // 기본 초기 한도(20)는 풀 크기로 낮춰짐
+    assertThat(registry.getInitialLimit()).isEqualTo(10);
+    assertThat(registry.limiter("test").getLimit()).isEqualTo(10);
+    // 설정 빈은 변경하지 않음
+    assertThat(properties.getMaxLimit()).isZero();
+    assertThat(properties.getInitialLimit()).isEqualTo(20);
+  }
+
+  @DisplayName("[리미터 설정] 최대 한도가 커넥션 풀 크기보다 크면 기동 실패")
+  @Test
+  void rejectsMaxLimitAbovePoolSize() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setMaxLimit(100);
+
+    assertThatThrownBy(() -> new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), 10))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("커넥션 풀 크기(10)");
+  }
+
+  @DisplayName("[리미터 설정] 최소 한도가 최대 한도보다 크면 기동 실패")
+  @Test
+  void rejectsMinLimitAboveMaxLimit() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setMinLimit(8);
+
+    assertThatThrownBy(() -> new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), 5))
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  @DisplayName("[리미터 설정] 풀 크기 이내의 명시적 한도는 그대로 사용")
+  @Test
+  void keepsExplicitLimitsWithinPoolSize() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(12);
+    properties.setMaxLimit(25);
+
+    ConcurrencyLimiterRegistry registry = new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), 30);
+
+    assertThat(registry.getInitialLimit()).isEqualTo(12);
+    assertThat(registry.getMaxLimit()).isEqualTo(25);
+    assertThat(registry.limiter("test").getLimit()).isEqualTo(12);
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.transaction.core.manager;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.core.jfr.TransactionCompletionEvent;
+import com.example.transaction.core.jfr.TransactionEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[LoggingJpaTransactionManager] JFR 트랜잭션 이벤트 테스트")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class LoggingJpaTransactionManagerTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @DisplayName("[JFR] 기록 중이면 트랜잭션/커밋 이벤트가 필드와 함께 기록됨")
+  @Test
+  void recordsTransactionEventsWhileRecording() throws Exception {
+    // Given
+    List<RecordedEvent> transactionEvents = new CopyOnWriteArrayList<>();
+    List<RecordedEvent> completionEvents = new CopyOnWriteArrayList<>();
+    CountDownLatch received = new CountDownLatch(1);
+    try (RecordingStream stream = new RecordingStream()) {
+      stream.enable(TransactionEvent.class);
+      stream.enable(TransactionCompletionEvent.class);
+      stream.onEvent("com.example.transaction.Transaction", event -> {
+        if ("jfr-test".equals(event.getString("name"))) {
+          transactionEvents.add(event);
+          received.countDown();
+        }
+      });
+      // 커밋 이벤트는 트랜잭션 이벤트보다 먼저 커밋되므로 트랜잭션 이벤트를 받으면 함께 전달된 상태
+      stream.onEvent("com.example.transaction.TransactionCompletion", completionEvents::add);
+      stream.startAsync();
+
+      // When
+      TransactionTemplate template = new TransactionTemplate(transactionManager);
+      template.setName("jfr-test");
+      template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+      template.setReadOnly(true);
+      int pendingInside = template.execute(status -> {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        return LoggingJpaTransactionManager.pendingEventCount();
+      });
+
+      // Then
+      assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(pendingInside).isEqualTo(1);
+      assertThat(LoggingJpaTransactionManager.pendingEventCount()).isZero();
+    }
+
+    RecordedEvent transaction = transactionEvents.get(0);
+    assertThat(transaction.getString("propagation")).isEqualTo("REQUIRED");
+    assertThat(transaction.getString("isolation")).isEqualTo("READ_COMMITTED");
+    assertThat(transaction.getBoolean("readOnly")).isTrue();
+    assertThat(transaction.getString("outcome")).isEqualTo("COMMIT");
+    assertThat(transaction.getLong("transactionId")).isNotZero();
+
+    long transactionId = transaction.getLong("transactionId");
+    assertThat(completionEvents)
+      .anySatisfy(completion -> {
+        assertThat(completion.getLong("transactionId")).isEqualTo(transactionId);
+        assertThat(completion.getString("outcome")).isEqualTo("COMMIT");
+        assertThat(completion.getBoolean("succeeded")).isTrue();
+      });
+  }
+
+  @DisplayName("[JFR] 기록 중이 아니면 트랜잭션 이벤트를 쌓지 않음")
+  @Test
+  void skipsEventsWhenNotRecording() {
+    // When
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    int pendingInside = template.execute(status -> {
+      jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+      return LoggingJpaTransactionManager.pendingEventCount();
+    });
+
+    // Then
+    assertThat(pendingInside).isZero();
+    assertThat(LoggingJpaTransactionManager.pendingEventCount()).isZero();
+  }
+}
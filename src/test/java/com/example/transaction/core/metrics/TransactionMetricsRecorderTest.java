@@ -0,0 +1,94 @@
+package com.example.transaction.core.metrics;
+
+import com.example.transaction.AbstractIntegrationTest;
+import com.example.transaction.core.aop.TransactionMethodContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "transaction.datasource.lazy-acquisition=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@Import(TransactionMetricsRecorderTest.MetricsTestConfig.class)
+class TransactionMetricsRecorderTest extends AbstractIntegrationTest {
+
+  private static final long NON_DB_WORK_MILLIS = 50;
+
+  @Autowired
+  private NonDbWorkService nonDbWorkService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @DisplayName("[커넥션 메트릭] 첫 SQL 전 비-DB 작업 동안 커넥션을 획득하지 않고, 첫 SQL 지연에 그 시간이 기록됨")
+  @Test
+  void measuresFirstStatementDelayFromTransactionBegin() {
+    // When
+    int connectionsBeforeFirstStatement = nonDbWorkService.workThenQuery();
+
+    // Then: 트랜잭션이 시작되었지만 SQL 실행 전까지 커넥션 획득이 미뤄짐
+    assertThat(connectionsBeforeFirstStatement).isZero();
+    Timer delay = meterRegistry.get("transaction.first.statement.delay")
+      .tag("class", "NonDbWorkService")
+      .tag("method", "workThenQuery")
+      .timer();
+    assertThat(delay.count()).isEqualTo(1);
+    assertThat(delay.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(NON_DB_WORK_MILLIS);
+
+    // 커넥션은 첫 SQL 시점에 획득되므로 점유 시간에는 비-DB 작업 시간이 포함되지 않음
+    Timer held = meterRegistry.get("transaction.connection.held")
+      .tag("class", "NonDbWorkService")
+      .tag("method", "workThenQuery")
+      .timer();
+    assertThat(held.totalTime(TimeUnit.MILLISECONDS)).isLessThan(delay.totalTime(TimeUnit.MILLISECONDS));
+  }
+
+  @TestConfiguration
+  static class MetricsTestConfig {
+
+    @Bean
+    NonDbWorkService nonDbWorkService(JdbcTemplate jdbcTemplate) {
+      return new NonDbWorkService(jdbcTemplate);
+    }
+  }
+
+  static class NonDbWorkService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    NonDbWorkService(JdbcTemplate jdbcTemplate) {
+      this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 검증, 외부 호출 등 DB 와 무관한 작업 후 첫 SQL 실행
+     *
+     * @return 첫 SQL 실행 전까지 획득한 커넥션 수
+     */
+    @Transactional
+    public int workThenQuery() {
+      try {
+        Thread.sleep(NON_DB_WORK_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      int connections = TransactionMethodContext.current().getConnectionCount();
+      jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+      return connections;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.transaction.core.profiler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpaceSavingTopKTest {
+
+  @DisplayName("[Space-Saving] 카운터가 가득 차면 가중치가 가장 작은 키를 교체하고 그 가중치를 오차로 기록")
+  @Test
+  void evictsMinimumCounter() {
+    SpaceSavingTopK topK = new SpaceSavingTopK(2);
+    topK.add(1L, 10);
+    topK.add(2L, 5);
+
+    topK.add(3L, 1);
+
+    List<SpaceSavingTopK.Entry> entries = topK.top(10);
+    assertThat(entries).extracting(SpaceSavingTopK.Entry::key).containsExactly(1L, 3L);
+    SpaceSavingTopK.Entry replaced = entries.get(1);
+    assertThat(replaced.weight()).isEqualTo(6);
+    assertThat(replaced.error()).isEqualTo(5);
+    assertThat(replaced.count()).isEqualTo(1);
+    assertThat(replaced.maxWeight()).isEqualTo(1);
+  }
+
+  @DisplayName("[Space-Saving] 집계 가중치는 실제 가중치 이상이고 오차는 (가중치 - 실제 가중치) 이상, 큰 키는 빠지지 않음")
+  @Test
+  void overestimationBounds() {
+    int capacity = 20;
+    SpaceSavingTopK topK = new SpaceSavingTopK(capacity);
+    Map<Long, Long> actual = new HashMap<>();
+    Random random = new Random(7);
+    long total = 0;
+    for (int i = 0; i < 100_000; i++) {
+      // 작은 키일수록 자주 등장하는 치우친 분포
+      long key = (long) Math.floor(Math.pow(random.nextDouble(), 3) * 500) + 1;
+      long weight = 1 + random.nextInt(10);
+      topK.add(key, weight);
+      actual.merge(key, weight, Long::sum);
+      total += weight;
+    }
+
+    List<SpaceSavingTopK.Entry> entries = topK.top(capacity);
+    assertThat(entries).hasSize(capacity);
+    for (SpaceSavingTopK.Entry entry : entries) {
+      long actualWeight = actual.getOrDefault(entry.key(), 0L);
+      assertThat(entry.weight()).isGreaterThanOrEqualTo(actualWeight);
+      assertThat(entry.weight() - entry.error()).isLessThanOrEqualTo(actualWeight);
+      assertThat(entry.error()).isLessThanOrEqualTo(total / capacity);
+    }
+    // 실제 가중치가 전체의 1/capacity 를 넘는 키는 반드시 포함
+    long threshold = total / capacity;
+    actual.forEach((key, weight) -> {
+      if (weight > threshold) {
+        assertThat(entries).extracting(SpaceSavingTopK.Entry::key).contains(key);
+      }
+    });
+  }
+
+  @DisplayName("[Space-Saving] 상위 k개만 가중치 내림차순으로 반환하고, 초기화하면 비어 있음")
+  @Test
+  void topAndClear() {
+    SpaceSavingTopK topK = new SpaceSavingTopK(10);
+    for (long key = 1; key <= 5; key++) {
+      topK.add(key, key * 100);
+    }
+
+    assertThat(topK.top(3)).extracting(SpaceSavingTopK.Entry::key).containsExactly(5L, 4L, 3L);
+
+    topK.clear();
+    assertThat(topK.top(3)).isEmpty();
+  }
+
+  @DisplayName("[Space-Saving] 용량은 0보다 커야 함")
+  @Test
+  void rejectsNonPositiveCapacity() {
+    assertThatThrownBy(() -> new SpaceSavingTopK(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
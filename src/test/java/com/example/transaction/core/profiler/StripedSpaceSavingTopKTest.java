@@ -0,0 +1,64 @@
+package com.example.transaction.core.profiler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedSpaceSavingTopKTest {
+
+  @DisplayName("[스트라이프 Space-Saving] 여러 스레드가 동시에 기록해도 키별 합계가 정확함 (용량 이내)")
+  @Test
+  void concurrentAdds() throws Exception {
+    StripedSpaceSavingTopK topK = new StripedSpaceSavingTopK(64, 8);
+    int threads = 8;
+    int addsPerThread = 20_000;
+    int keys = 50;
+    CountDownLatch start = new CountDownLatch(1);
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      Future<?>[] futures = new Future<?>[threads];
+      for (int t = 0; t < threads; t++) {
+        int offset = t;
+        futures[t] = executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < addsPerThread; i++) {
+            topK.add(1 + (i + offset) % keys, 1);
+          }
+          return null;
+        });
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    List<SpaceSavingTopK.Entry> entries = topK.top(keys);
+    assertThat(entries).hasSize(keys);
+    assertThat(entries).allSatisfy(entry -> {
+      assertThat(entry.weight()).isEqualTo((long) threads * addsPerThread / keys);
+      assertThat(entry.error()).isZero();
+    });
+  }
+
+  @DisplayName("[스트라이프 Space-Saving] 스트라이프별 결과를 합쳐 전체 상위 k개를 반환")
+  @Test
+  void mergesStripesOnRead() {
+    StripedSpaceSavingTopK topK = new StripedSpaceSavingTopK(100, 3);
+    for (long key = 1; key <= 100; key++) {
+      topK.add(key, key);
+    }
+
+    assertThat(topK.stripeCount()).isEqualTo(4);
+    assertThat(topK.top(5)).extracting(SpaceSavingTopK.Entry::key).containsExactly(100L, 99L, 98L, 97L, 96L);
+
+    topK.clear();
+    assertThat(topK.top(5)).isEmpty();
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.transaction.core.sampling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSamplingPolicyTest {
+
+  private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private TransactionSamplingProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new TransactionSamplingProperties();
+    properties.setRate(1);
+    properties.setSlowThreshold(Duration.ofNanos(SLOW_NANOS));
+    properties.setAlwaysSampleRollback(true);
+  }
+
+  @DisplayName("[헤드 샘플링] 비율 1 은 모든 트랜잭션, 비율 0 은 어떤 트랜잭션도 추적하지 않음")
+  @Test
+  void rateBoundaries() {
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+    assertThat(countSampled(policy, "OrderService", "createOrder", 1_000)).isEqualTo(1_000);
+
+    policy.setDefaultRate(0);
+    assertThat(countSampled(policy, "OrderService", "createOrder", 1_000)).isZero();
+  }
+
+  @DisplayName("[헤드 샘플링] 비율 N 이면 대략 N건 중 1건 추적")
+  @Test
+  void sampleOneInN() {
+    properties.setRate(10);
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+
+    int sampled = countSampled(policy, "OrderService", "createOrder", 100_000);
+
+    assertThat(sampled).isBetween(9_000, 11_000);
+  }
+
+  @DisplayName("[헤드 샘플링] 메서드 지정 > 클래스 지정 > 기본 비율 순으로 적용하고, 지정 해제 시 기본 비율로 복귀")
+  @Test
+  void overridePrecedence() {
+    properties.setRate(0);
+    properties.getOverrides().put("OrderService", 1);
+    properties.getOverrides().put("OrderService.cancelOrder", 0);
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+
+    assertThat(countSampled(policy, "OrderService", "createOrder", 100)).isEqualTo(100);
+    assertThat(countSampled(policy, "OrderService", "cancelOrder", 100)).isZero();
+    assertThat(countSampled(policy, "PaymentService", "createPayment", 100)).isZero();
+
+    policy.removeOverride("OrderService");
+    assertThat(countSampled(policy, "OrderService", "createOrder", 100)).isZero();
+    policy.putOverride("PaymentService.createPayment", 1);
+    assertThat(countSampled(policy, "PaymentService", "createPayment", 100)).isEqualTo(100);
+  }
+
+  @DisplayName("[헤드 샘플링] 음수 비율은 거부")
+  @Test
+  void rejectsNegativeRate() {
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+
+    assertThatThrownBy(() -> policy.setDefaultRate(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> policy.putOverride("OrderService", -1)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(policy.snapshot()).containsEntry("rate", 1);
+  }
+
+  @DisplayName("[테일 샘플링] 롤백은 항상 추적하고, 커밋은 느린 경우(기준 시간 이상)에만 추적")
+  @Test
+  void sampleOnCompletion() {
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+
+    assertThat(policy.sampleOnCompletion(false, 0)).isTrue();
+    assertThat(policy.sampleOnCompletion(true, 0)).isFalse();
+    assertThat(policy.sampleOnCompletion(true, SLOW_NANOS - 1)).isFalse();
+    assertThat(policy.sampleOnCompletion(true, SLOW_NANOS)).isTrue();
+  }
+
+  @DisplayName("[테일 샘플링] 롤백 항상 추적을 끄면 롤백도 느린 경우에만 추적")
+  @Test
+  void rollbackSamplingDisabled() {
+    TransactionSamplingPolicy policy = new TransactionSamplingPolicy(properties);
+    policy.setAlwaysSampleRollback(false);
+
+    assertThat(policy.sampleOnCompletion(false, 0)).isFalse();
+    assertThat(policy.sampleOnCompletion(false, SLOW_NANOS)).isTrue();
+
+    policy.setSlowThreshold(Duration.ofSeconds(10));
+    assertThat(policy.sampleOnCompletion(false, SLOW_NANOS)).isFalse();
+  }
+
+  private static int countSampled(TransactionSamplingPolicy policy, String className, String methodName, int calls) {
+    int sampled = 0;
+    for (int i = 0; i < calls; i++) {
+      if (policy.sampleOnStart(className, methodName)) {
+        sampled++;
+      }
+    }
+    return sampled;
+  }
+}
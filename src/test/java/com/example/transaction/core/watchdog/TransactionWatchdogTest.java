@@ -0,0 +1,92 @@
+package com.example.transaction.core.watchdog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionWatchdogTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private TransactionWatchdogProperties properties;
+  private TransactionWatchdog watchdog;
+
+  @BeforeEach
+  void setUp() {
+    properties = new TransactionWatchdogProperties();
+    properties.setThreshold(Duration.ofSeconds(10));
+    watchdog = new TransactionWatchdog(properties, clock::get);
+  }
+
+  @AfterEach
+  void tearDown() {
+    // 테스트 스레드에 남은 등록 해제
+    for (int i = 0; i < 3; i++) {
+      watchdog.deregister();
+    }
+  }
+
+  @DisplayName("[감시] 임계 시간을 넘긴 트랜잭션만 락 키와 함께 한 번만 보고")
+  @Test
+  void reportsOnceAfterThreshold() {
+    watchdog.register("OrderService.payForOrder");
+    TransactionWatchdog.recordLockKey("order", 1L);
+    TransactionWatchdog.recordLockKey("product", 7L);
+
+    advance(Duration.ofSeconds(9));
+    assertThat(watchdog.scan()).isEmpty();
+
+    advance(Duration.ofSeconds(1));
+    List<OpenTransaction> reported = watchdog.scan();
+    assertThat(reported).singleElement().satisfies(transaction -> {
+      assertThat(transaction.getName()).isEqualTo("OrderService.payForOrder");
+      assertThat(transaction.getOwner()).isSameAs(Thread.currentThread());
+      assertThat(transaction.getLockKeys()).containsExactly("order:1", "product:7");
+    });
+
+    advance(Duration.ofSeconds(30));
+    assertThat(watchdog.scan()).isEmpty();
+  }
+
+  @DisplayName("[감시] 종료된 트랜잭션은 보고하지 않고 검사 시 제거, 바깥쪽 트랜잭션은 계속 감시")
+  @Test
+  void removesClosedTransactions() {
+    watchdog.register("outer");
+    advance(Duration.ofSeconds(5));
+    watchdog.register("inner");  // REQUIRES_NEW
+    watchdog.deregister();
+    assertThat(watchdog.openTransactionCount()).isEqualTo(2);
+
+    advance(Duration.ofSeconds(20));
+    assertThat(watchdog.scan()).extracting(OpenTransaction::getName).containsExactly("outer");
+    assertThat(watchdog.openTransactionCount()).isEqualTo(1);
+
+    watchdog.deregister();
+    assertThat(watchdog.scan()).isEmpty();
+    assertThat(watchdog.openTransactionCount()).isZero();
+  }
+
+  @DisplayName("[감시] 비활성화 시 등록하지 않고 락 키도 기록하지 않음")
+  @Test
+  void disabled() {
+    properties.setEnabled(false);
+
+    watchdog.register("OrderService.payForOrder");
+    TransactionWatchdog.recordLockKey("order", 1L);
+    advance(Duration.ofMinutes(1));
+
+    assertThat(watchdog.scan()).isEmpty();
+    assertThat(watchdog.openTransactionCount()).isZero();
+  }
+
+  private void advance(Duration duration) {
+    clock.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+  }
+}